@@ -0,0 +1,82 @@
+package com.comp2042.benchmarks;
+
+import java.util.SplittableRandom;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Shared setup for the benchmarks: parses board sizes, fills boards to a given density or with
+ * complete rows, and looks up bricks by type name.
+ */
+final class BoardFixtures {
+
+    /** Rows at the top kept empty so a freshly spawned brick can still move and rotate. */
+    static final int EMPTY_TOP_ROWS = 8;
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * Parses a board size of the form {@code "<rows>x<columns>"}.
+     *
+     * @param boardSize the board size parameter
+     * @return the row count at index 0 and the column count at index 1
+     */
+    static int[] parseSize(String boardSize) {
+        String[] parts = boardSize.split("x");
+        return new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+    }
+
+    /**
+     * Fills the cells below the top rows at random with the given probability.
+     * The same seed always gives the same board, so runs are comparable.
+     *
+     * @param matrix the board matrix to fill in place
+     * @param density the probability that a cell is filled
+     * @param seed the random seed
+     */
+    static void fill(int[][] matrix, double density, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int row = EMPTY_TOP_ROWS; row < matrix.length; row++) {
+            for (int column = 0; column < matrix[row].length; column++) {
+                matrix[row][column] = random.nextDouble() < density ? 1 + random.nextInt(7) : 0;
+            }
+        }
+    }
+
+    /**
+     * Fills the bottom rows completely, so that they are cleared.
+     *
+     * @param matrix the board matrix to fill in place
+     * @param rows the number of complete rows
+     * @param seed the random seed for the cell colors
+     */
+    static void fillRows(int[][] matrix, int rows, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int row = matrix.length - rows; row < matrix.length; row++) {
+            for (int column = 0; column < matrix[row].length; column++) {
+                matrix[row][column] = 1 + random.nextInt(7);
+            }
+        }
+    }
+
+    /**
+     * Finds a brick of the given type. The brick classes are package-private,
+     * so they are drawn from a seeded generator until one of the right type appears.
+     *
+     * @param type the simple class name, e.g. {@code "TBrick"}
+     * @return a brick of that type
+     */
+    static Brick brick(String type) {
+        BrickGenerator generator = new RandomBrickGenerator(new SplittableRandom(0));
+        for (int i = 0; i < 10_000; i++) {
+            Brick brick = generator.getBrick();
+            if (brick.getClass().getSimpleName().equals(type)) {
+                return brick;
+            }
+        }
+        throw new IllegalArgumentException("Unknown brick type " + type);
+    }
+}
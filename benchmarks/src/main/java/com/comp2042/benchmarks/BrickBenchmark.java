@@ -0,0 +1,69 @@
+package com.comp2042.benchmarks;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+/**
+ * Benchmarks for reading brick shapes and drawing new bricks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickBenchmark {
+
+    @Param({"IBrick", "OBrick", "TBrick"})
+    private String brickType;
+
+    private Brick brick;
+    private BrickGenerator generator;
+    private BrickGenerator sevenBagGenerator;
+
+    @Setup
+    public void setUp() {
+        brick = BoardFixtures.brick(brickType);
+        generator = new RandomBrickGenerator(new SplittableRandom(42));
+        sevenBagGenerator = new SevenBagBrickGenerator(42L);
+    }
+
+    @Benchmark
+    public List<int[][]> getShapeMatrix() {
+        return brick.getShapeMatrix();
+    }
+
+    @Benchmark
+    public BrickShape getShape() {
+        return brick.getShape(0);
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+
+    @Benchmark
+    public Brick getBrickSevenBag() {
+        return sevenBagGenerator.getBrick();
+    }
+}
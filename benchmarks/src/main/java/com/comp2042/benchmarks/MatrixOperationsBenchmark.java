@@ -0,0 +1,108 @@
+package com.comp2042.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comp2042.ClearRow;
+import com.comp2042.MatrixOperations;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Benchmarks for the MatrixOperations helpers used on every move and every locked brick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    @Param({"25x10", "40x20"})
+    private String boardSize;
+
+    @Param({"0.0", "0.3", "0.6"})
+    private double density;
+
+    private int[][] matrix;
+    private int[][] brickMatrix;
+    private BrickShape brickShape;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        int[] size = BoardFixtures.parseSize(boardSize);
+        matrix = new int[size[0]][size[1]];
+        BoardFixtures.fill(matrix, density, 42);
+        brickShape = BoardFixtures.brick("TBrick").getShape(0);
+        brickMatrix = brickShape.toMatrix();
+        // 方块放在已填充区域的上沿，使碰撞检测需要检查实际格子
+        x = size[1] / 2 - 2;
+        y = BoardFixtures.EMPTY_TOP_ROWS - 2;
+    }
+
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(matrix, brickMatrix, x, y);
+    }
+
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(matrix, brickShape, x, y);
+    }
+
+    @Benchmark
+    public int[][] mergeMatrix() {
+        return MatrixOperations.merge(matrix, brickMatrix, x, y);
+    }
+
+    @Benchmark
+    public int[][] mergeShape() {
+        return MatrixOperations.merge(matrix, brickShape, x, y);
+    }
+
+    /**
+     * Scans for full rows; with {@code fullRows > 0} the rows are also removed and the rest compacted.
+     */
+    @Benchmark
+    public ClearRow checkRemoving(ClearState clear) {
+        return MatrixOperations.checkRemoving(clear.matrix);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+
+    /**
+     * Board for {@link #checkRemoving}: the benchmark's board with some complete rows at the bottom.
+     * Randomly filled rows are almost never complete, so without them only the scan would be measured.
+     * Kept in its own state so that only this benchmark is repeated for each full-row count.
+     */
+    @State(Scope.Thread)
+    public static class ClearState {
+
+        @Param({"0", "1", "4"})
+        private int fullRows;
+
+        private int[][] matrix;
+
+        @Setup
+        public void setUp(MatrixOperationsBenchmark benchmark) {
+            matrix = MatrixOperations.copy(benchmark.matrix);
+            BoardFixtures.fillRows(matrix, fullRows, 42);
+        }
+    }
+}
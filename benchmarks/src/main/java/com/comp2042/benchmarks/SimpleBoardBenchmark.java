@@ -0,0 +1,76 @@
+package com.comp2042.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comp2042.SimpleBoard;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Benchmarks for the SimpleBoard operations run on every key press and every gravity tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleBoardBenchmark {
+
+    @Param({"25x10", "40x20"})
+    private String boardSize;
+
+    @Param({"0.0", "0.3", "0.6"})
+    private double density;
+
+    private SimpleBoard board;
+
+    @Setup
+    public void setUp() {
+        int[] size = BoardFixtures.parseSize(boardSize);
+        board = new SimpleBoard(size[0], size[1], new RandomBrickGenerator(new SplittableRandom(42)));
+        board.newGame();
+        // 通过restoreState载入填充后的棋盘，使列掩码、行计数和哈希与格子一致
+        int[][] matrix = new int[size[0]][size[1]];
+        BoardFixtures.fill(matrix, density, 42);
+        ViewData spawn = board.getViewData();
+        board.restoreState(matrix, board.getBrick(), board.getBrickRotation(), spawn.getxPosition(), spawn.getyPosition(), 0);
+        // 方块落到填充区域上，移动和旋转的碰撞检测会遇到实际格子
+        board.dropBrick();
+    }
+
+    /**
+     * Moves the brick one column and back, so the board state is the same after every call.
+     * If the left side is blocked, the brick tries right and back instead.
+     */
+    @Benchmark
+    public boolean moveLeftRight() {
+        if (board.moveBrickLeft()) {
+            return board.moveBrickRight();
+        }
+        return board.moveBrickRight() && board.moveBrickLeft();
+    }
+
+    @Benchmark
+    public boolean rotate() {
+        return board.rotateLeftBrick();
+    }
+
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+}
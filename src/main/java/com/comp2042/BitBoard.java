@@ -0,0 +1,232 @@
+package com.comp2042;
+
+import java.util.Arrays;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Bitboard implementation of the Board interface.
+ * Each board row is packed into a single int bitmask, so collision, merge and full-row
+ * checks take one AND/OR per brick row instead of a cell-by-cell walk of the matrix.
+ * A parallel color plane keeps the brick colors for rendering and is returned by {@link #getBoardMatrix()}.
+ *
+ * Row layout: bit {@code WALL + c} is column {@code c}. The bits to the left and right of the
+ * playfield are always set, so they act as walls and a complete row is simply {@code -1}.
+ */
+public class BitBoard implements Board {
+
+    /** Number of guard bits to the left of column 0. A brick never sticks out further than 3 cells. */
+    private static final int WALL = 4;
+
+    /** Widest playfield that still leaves room for the right-hand guard bits in an int. */
+    static final int MAX_COLUMNS = Integer.SIZE - 2 * WALL;
+
+    private static final int FULL_ROW = -1;
+
+    private final int rowCount;
+    private final int emptyRow;
+    private final int[] rows;
+    private final int[][] colors;
+    private final BrickGenerator brickGenerator;
+    private final Score score;
+
+    private Brick brick;
+    // 上一次合并的方块覆盖的行范围，消行时只检查这些行
+    private int lockedMinRow;
+    private int lockedMaxRow = -1;
+    private int rotation;
+    private int offsetX;
+    private int offsetY;
+
+    /**
+     * Constructs a new BitBoard with the specified dimensions and a random brick generator.
+     *
+     * @param rowCount the number of rows
+     * @param columnCount the number of columns, at most {@value #MAX_COLUMNS}
+     */
+    public BitBoard(int rowCount, int columnCount) {
+        this(rowCount, columnCount, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new BitBoard with the specified dimensions and brick generator.
+     *
+     * @param rowCount the number of rows
+     * @param columnCount the number of columns, at most {@value #MAX_COLUMNS}
+     * @param brickGenerator the generator supplying the bricks for this board
+     * @throws IllegalArgumentException if the board does not fit the bitmask layout
+     */
+    public BitBoard(int rowCount, int columnCount, BrickGenerator brickGenerator) {
+        if (rowCount <= 0 || columnCount <= 0 || columnCount > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Unsupported board size " + rowCount + "x" + columnCount);
+        }
+        this.rowCount = rowCount;
+        this.emptyRow = ~(((1 << columnCount) - 1) << WALL);
+        this.rows = new int[rowCount];
+        this.colors = new int[rowCount][columnCount];
+        this.brickGenerator = brickGenerator;
+        this.score = new Score();
+        Arrays.fill(rows, emptyRow);
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(rotation, offsetX, offsetY + 1);
+    }
+
+    @Override
+    public int dropBrick() {
+        int distance = dropDistance();
+        offsetY += distance;
+        return distance;
+    }
+
+    private int dropDistance() {
+        BrickShape shape = brick.getShape(rotation);
+        int distance = 0;
+        // 行掩码碰撞检测很便宜，逐行下探即可
+        while (!intersects(shape, offsetX, offsetY + distance + 1)) {
+            distance++;
+        }
+        return distance;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(rotation, offsetX - 1, offsetY);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(rotation, offsetX + 1, offsetY);
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = (rotation + 1) % brick.getRotationCount();
+        return tryMove(nextRotation, offsetX, offsetY);
+    }
+
+    private boolean tryMove(int newRotation, int x, int y) {
+        if (intersects(brick.getShape(newRotation), x, y)) {
+            return false;
+        }
+        rotation = newRotation;
+        offsetX = x;
+        offsetY = y;
+        return true;
+    }
+
+    /**
+     * Checks whether the brick rows would overlap a wall, the floor or a filled cell.
+     *
+     * @param shape the packed shape of the brick
+     * @param x the column of the brick's top-left corner
+     * @param y the row of the brick's top-left corner
+     * @return true if there is a collision
+     */
+    private boolean intersects(BrickShape shape, int x, int y) {
+        int shift = x + WALL;
+        if (shift < 0) {
+            return true;
+        }
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            int mask = shape.getRowMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= rowCount || ((mask << shift) & rows[row]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        brick = brickGenerator.getBrick();
+        rotation = 0;
+        offsetX = SPAWN_X;
+        offsetY = SPAWN_Y; // 从顶部（隐藏区域）出现
+        return intersects(brick.getShape(rotation), offsetX, offsetY);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return colors;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brick.getShape(rotation), offsetX, offsetY, offsetY + dropDistance(),
+                brickGenerator.getNextBrick().getShape(0));
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brick.getShape(rotation);
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            rows[offsetY + i] |= shape.getRowMask(i) << (offsetX + WALL);
+        }
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            colors[offsetY + shape.getCellRow(i)][offsetX + shape.getCellColumn(i)] = shape.getColor();
+        }
+        lockedMinRow = offsetY + shape.getMinRow();
+        lockedMaxRow = offsetY + shape.getMaxRow();
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        int linesRemoved = 0;
+        for (int row = lockedMinRow; row <= lockedMaxRow; row++) {
+            if (rows[row] == FULL_ROW) {
+                linesRemoved++;
+            }
+        }
+        if (linesRemoved > 0) {
+            // 自被合并方块的最低行向上压缩：保留的行下移，被消除行的颜色数组换到顶部复用
+            int write = lockedMaxRow;
+            for (int read = lockedMaxRow; read >= 0; read--) {
+                if (rows[read] == FULL_ROW) {
+                    continue;
+                }
+                if (write != read) {
+                    rows[write] = rows[read];
+                    int[] colorRow = colors[write];
+                    colors[write] = colors[read];
+                    colors[read] = colorRow;
+                }
+                write--;
+            }
+            for (int i = 0; i < linesRemoved; i++) {
+                rows[i] = emptyRow;
+                Arrays.fill(colors[i], 0);
+            }
+        }
+        lockedMinRow = 0;
+        lockedMaxRow = -1;
+        return new ClearRow(linesRemoved, colors, MatrixOperations.calculateScoreBonus(linesRemoved));
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(rows, emptyRow);
+        lockedMinRow = 0;
+        lockedMaxRow = -1;
+        for (int[] colorRow : colors) {
+            Arrays.fill(colorRow, 0);
+        }
+        score.reset();
+        createNewBrick();
+    }
+
+}
@@ -6,6 +6,12 @@ package com.comp2042;
  */
 public interface Board {
 
+    /** Column at which new bricks spawn. */
+    int SPAWN_X = 4;
+
+    /** Row at which new bricks spawn, inside the hidden rows above the visible board. */
+    int SPAWN_Y = 3;
+
     /**
      * Moves the current brick down by one row.
      * 
@@ -13,6 +19,13 @@ public interface Board {
      */
     boolean moveBrickDown();
 
+    /**
+     * Moves the current brick straight down to the row where it lands, without locking it.
+     * 
+     * @return the number of rows the brick moved
+     */
+    int dropBrick();
+
     /**
      * Moves the current brick one column to the left.
      * 
@@ -50,6 +63,7 @@ public interface Board {
 
     /**
      * Gets the current view data including brick position and shape.
+     * Implementations may reuse the returned instance once the brick has changed twice; see {@link ViewData}.
      * 
      * @return ViewData object containing information needed to render the current game state
      */
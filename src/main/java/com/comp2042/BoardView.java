@@ -0,0 +1,59 @@
+package com.comp2042;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the locked cells of one game board into its panel.
+ * The renderer is chosen once at startup with the {@value #RENDERER_PROPERTY} system property:
+ * {@code canvas} draws the board onto a single Canvas, anything else keeps one Rectangle node per cell.
+ */
+interface BoardView {
+
+    /** System property selecting the board renderer. */
+    String RENDERER_PROPERTY = "tetris.renderer";
+
+    /** Rows at the top of the board matrix that are never shown. */
+    int HIDDEN_ROWS = 2;
+
+    /**
+     * Creates the nodes for a board of the given size and draws it.
+     *
+     * @param boardMatrix the board matrix
+     */
+    void init(int[][] boardMatrix);
+
+    /**
+     * Redraws the board.
+     *
+     * @param boardMatrix the board matrix, with the same size as the one passed to {@link #init}
+     */
+    void refresh(int[][] boardMatrix);
+
+    /**
+     * Gets the number of cell redraws and node moves made by the last refresh.
+     *
+     * @return the update count of the last refresh
+     */
+    int getLastUpdateCount();
+
+    /**
+     * Gets the number of cell redraws and node moves made since the view was created.
+     *
+     * @return the total update count
+     */
+    long getTotalUpdateCount();
+
+    /**
+     * Creates the renderer selected by the {@value #RENDERER_PROPERTY} system property.
+     *
+     * @param panel the grid panel the board is drawn into
+     * @param cellSize the size of one cell in pixels
+     * @return the board view
+     */
+    static BoardView create(GridPane panel, int cellSize) {
+        if ("canvas".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY))) {
+            return new CanvasBoardView(panel, cellSize);
+        }
+        return new RectangleBoardView(panel, cellSize);
+    }
+}
@@ -1,6 +1,7 @@
 package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
 
 /**
  * Manages brick rotation logic for the game.
@@ -17,18 +18,54 @@ public class BrickRotator {
      * @return NextShapeInfo containing the shape matrix and position index of the next rotation
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextShapeIndex();
+        return new NextShapeInfo(brick.getShape(nextShape).toMatrix(), nextShape);
     }
 
     /**
-     * Gets the current shape matrix of the brick at its current rotation.
+     * Gets the rotation index that follows the current one, without allocating.
+     * 
+     * @return the index of the next rotation state
+     */
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % brick.getRotationCount();
+    }
+
+    /**
+     * Gets a copy of the current shape matrix of the brick at its current rotation.
      * 
      * @return a 2D array representing the current brick shape
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return getCurrentBrickShape().toMatrix();
+    }
+
+    /**
+     * Gets the precomputed shape of the brick at its current rotation, without copying.
+     * 
+     * @return the immutable shape of the current rotation state
+     */
+    public BrickShape getCurrentBrickShape() {
+        return brick.getShape(currentShape);
+    }
+
+    /**
+     * Gets the precomputed shape of the brick at the given rotation index, without copying.
+     * 
+     * @param index the rotation index
+     * @return the immutable shape of that rotation state
+     */
+    public BrickShape getBrickShape(int index) {
+        return brick.getShape(index);
+    }
+
+    /**
+     * Gets the current rotation index of the brick.
+     * 
+     * @return the rotation index
+     */
+    public int getCurrentShapeIndex() {
+        return currentShape;
     }
 
     /**
@@ -40,6 +77,15 @@ public class BrickRotator {
         this.currentShape = currentShape;
     }
 
+    /**
+     * Gets the brick being rotated.
+     * 
+     * @return the current Brick object
+     */
+    public Brick getBrick() {
+        return brick;
+    }
+
     /**
      * Sets a new brick and resets the rotation to the initial state.
      * 
@@ -0,0 +1,82 @@
+package com.comp2042;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Transform;
+
+/**
+ * Board renderer that draws the whole board onto a single Canvas.
+ * Each brick color is rendered once into a sprite image with the same style as the Rectangle renderer,
+ * so redrawing a changed cell is one image copy and the board adds no nodes to the scene graph.
+ */
+final class CanvasBoardView extends DiffingBoardView {
+
+    // 颜色编号0-7对应各方块，8为未知编号（白色）
+    private static final int UNKNOWN_COLOR = 8;
+
+    private final GridPane panel;
+    private final int cellSize;
+    private final Image[] sprites = new Image[UNKNOWN_COLOR + 1];
+
+    private Canvas canvas;
+    private int columnStep;
+    private int rowStep;
+
+    CanvasBoardView(GridPane panel, int cellSize) {
+        this.panel = panel;
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    protected void createCells(int rows, int columns) {
+        // 与Rectangle网格保持相同的格子间距
+        columnStep = cellSize + (int) panel.getHgap();
+        rowStep = cellSize + (int) panel.getVgap();
+        canvas = new Canvas(columns * columnStep - panel.getHgap(), (rows - HIDDEN_ROWS) * rowStep - panel.getVgap());
+        panel.add(canvas, 0, 0);
+    }
+
+    @Override
+    protected void drawCell(int row, int column, int color) {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        double x = column * columnStep;
+        double y = (row - HIDDEN_ROWS) * rowStep;
+        graphics.clearRect(x, y, cellSize, cellSize);
+        if (color != 0) {
+            graphics.drawImage(sprite(color), x, y, cellSize, cellSize);
+        }
+    }
+
+    /**
+     * Gets the pre-rendered image of a cell, rendering it on first use.
+     *
+     * @param color the color value of the cell
+     * @return the cell image
+     */
+    private Image sprite(int color) {
+        int index = color > 0 && color < UNKNOWN_COLOR ? color : UNKNOWN_COLOR;
+        if (sprites[index] == null) {
+            Rectangle rectangle = new Rectangle(cellSize, cellSize);
+            CellStyle.apply(rectangle, index, false);
+            // 按屏幕缩放比例渲染，避免高分屏上模糊
+            double scale = outputScale();
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            parameters.setTransform(Transform.scale(scale, scale));
+            sprites[index] = rectangle.snapshot(parameters, null);
+        }
+        return sprites[index];
+    }
+
+    private double outputScale() {
+        if (panel.getScene() != null && panel.getScene().getWindow() != null) {
+            return Math.max(1, panel.getScene().getWindow().getOutputScaleX());
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,138 @@
+package com.comp2042;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
+
+/**
+ * Look of a single board cell, shared by every renderer so bricks look the same
+ * whether they are drawn as Rectangle nodes or onto a Canvas.
+ *
+ * Every combination of color and cell kind (merged, falling, ghost) is built once into an immutable
+ * {@link Look}. Applying a look only sets the Rectangle properties that differ, so redrawing a cell
+ * with its current look allocates nothing and invalidates no property, and unchanged cells cause
+ * no layout or CSS work in the next pulse.
+ */
+final class CellStyle {
+
+    private static final double ARC = 10;
+
+    // 颜色编号0-7各占一项，其余编号共用最后一项（白色）
+    private static final Paint[] FILLS = {
+        Color.TRANSPARENT,
+        Color.rgb(0, 240, 255), // Neon Cyan (I)
+        Color.rgb(180, 0, 255), // Neon Purple (J)
+        Color.rgb(0, 255, 0), // Neon Green (L)
+        Color.rgb(255, 255, 0), // Neon Yellow (O)
+        Color.rgb(255, 0, 80), // Neon Red (S)
+        Color.rgb(255, 0, 255), // Neon Magenta (T)
+        Color.rgb(255, 165, 0), // Neon Orange (Z)
+        Color.WHITE
+    };
+
+    private static final Look EMPTY = new Look(Color.TRANSPARENT, Color.TRANSPARENT, 0);
+    private static final Look[] MERGED = new Look[FILLS.length];
+    private static final Look[] FALLING = new Look[FILLS.length];
+    private static final Look[] GHOST = new Look[FILLS.length];
+
+    static {
+        // Merged block: subtle inner stroke; falling block: white border; no glow for either
+        Color mergedStroke = Color.rgb(255, 255, 255, 0.3);
+        MERGED[0] = EMPTY;
+        FALLING[0] = EMPTY;
+        GHOST[0] = EMPTY;
+        for (int i = 1; i < FILLS.length; i++) {
+            Color base = (Color) FILLS[i];
+            MERGED[i] = new Look(base, mergedStroke, 1);
+            FALLING[i] = new Look(base, Color.WHITE, 2);
+            GHOST[i] = new Look(base.deriveColor(0, 1, 1, 0.2), base.deriveColor(0, 1, 1, 0.7), 1);
+        }
+    }
+
+    private CellStyle() {
+    }
+
+    /**
+     * 根据方块类型编号获取对应的颜色
+     * 不同的数字代表不同的方块类型和颜色，同一编号总是返回同一个对象
+     * 
+     * @param i 方块类型编号
+     * @return 对应的颜色Paint对象
+     */
+    static Paint getFillColor(int i) {
+        return FILLS[index(i)];
+    }
+
+    /**
+     * 设置矩形的显示属性
+     * 根据颜色编号设置矩形的填充颜色、圆角和边框，只修改与目标不同的属性
+     * 
+     * @param rectangle 要设置的矩形对象
+     * @param color 颜色编号
+     * @param highlight true表示正在下落的方块（白色边框）
+     */
+    static void apply(Rectangle rectangle, int color, boolean highlight) {
+        (highlight ? FALLING : MERGED)[index(color)].applyTo(rectangle);
+    }
+
+    /**
+     * 设置幽灵方块（落点提示）格子的显示属性
+     * 用方块颜色的半透明填充和边框，空格子完全透明
+     * 
+     * @param rectangle 要设置的矩形对象
+     * @param color 颜色编号，0表示空格子
+     */
+    static void applyGhost(Rectangle rectangle, int color) {
+        GHOST[index(color)].applyTo(rectangle);
+    }
+
+    private static int index(int color) {
+        return color >= 0 && color < FILLS.length - 1 ? color : FILLS.length - 1;
+    }
+
+    /**
+     * 一种格子外观：填充、边框颜色和边框宽度，圆角和边框类型所有格子相同
+     */
+    private static final class Look {
+
+        private final Paint fill;
+        private final Paint stroke;
+        private final double strokeWidth;
+
+        private Look(Paint fill, Paint stroke, double strokeWidth) {
+            this.fill = fill;
+            this.stroke = stroke;
+            this.strokeWidth = strokeWidth;
+        }
+
+        /**
+         * 把外观应用到矩形上，相同的属性不再设置
+         * 颜色对象都是预建的，按引用比较即可
+         * 
+         * @param rectangle 要设置的矩形对象
+         */
+        void applyTo(Rectangle rectangle) {
+            if (rectangle.getFill() != fill) {
+                rectangle.setFill(fill);
+            }
+            if (rectangle.getStroke() != stroke) {
+                rectangle.setStroke(stroke);
+            }
+            if (rectangle.getStrokeWidth() != strokeWidth) {
+                rectangle.setStrokeWidth(strokeWidth);
+            }
+            if (rectangle.getStrokeType() != StrokeType.INSIDE) {
+                rectangle.setStrokeType(StrokeType.INSIDE);
+            }
+            if (rectangle.getArcWidth() != ARC) {
+                rectangle.setArcWidth(ARC);
+                rectangle.setArcHeight(ARC);
+            }
+            // 读取getEffect()不会创建属性对象，而setEffect(null)会
+            if (rectangle.getEffect() != null) {
+                rectangle.setEffect(null);
+            }
+        }
+    }
+}
@@ -24,6 +24,15 @@ public interface DifficultyStrategy {
      */
     int getScoreMultiplier();
     
+    /**
+     * Gets how long a brick may rest on the stack before it locks.
+     * 
+     * @return the lock delay in milliseconds
+     */
+    default long getLockDelay() {
+        return 500;
+    }
+    
     /**
      * Gets the name of this difficulty level.
      * 
@@ -0,0 +1,124 @@
+package com.comp2042;
+
+import java.util.Arrays;
+
+/**
+ * Base class for board renderers that only redraw what changed.
+ * Keeps a copy of the last rendered board and, on refresh, skips unchanged rows and redraws only
+ * the cells whose color changed. Renderers that can move a whole row cheaply implement
+ * {@link RowMover} and get a fast path for the row shift after a clear: a changed row that matches
+ * a row already on screen is moved into place instead of being redrawn cell by cell.
+ *
+ * Every cell redraw or node move counts as one update; the counts are kept for monitoring.
+ */
+abstract class DiffingBoardView implements BoardView {
+
+    private int[][] rendered;
+    // 支持整行移动的渲染器，不支持时为null
+    private RowMover rowMover;
+    private int lastShift;
+    private int lastUpdateCount;
+    private long totalUpdateCount;
+
+    @Override
+    public final void init(int[][] boardMatrix) {
+        rendered = new int[boardMatrix.length][boardMatrix[0].length];
+        rowMover = this instanceof RowMover ? (RowMover) this : null;
+        createCells(boardMatrix.length, boardMatrix[0].length);
+        refresh(boardMatrix);
+    }
+
+    @Override
+    public final void refresh(int[][] boardMatrix) {
+        int updates = 0;
+        // 自下而上处理：消行后上方的行整体下移，下方的行先就位
+        for (int row = boardMatrix.length - 1; row >= HIDDEN_ROWS; row--) {
+            int[] target = boardMatrix[row];
+            if (Arrays.equals(target, rendered[row])) {
+                continue;
+            }
+            int changed = countChanged(target, rendered[row]);
+            int source = rowMover != null && changed >= rowMover.minChangedCellsForMove(target.length)
+                    ? findRenderedRow(target, row) : -1;
+            if (source >= 0) {
+                updates += rowMover.swapRows(source, row);
+                int[] swapped = rendered[source];
+                rendered[source] = rendered[row];
+                rendered[row] = swapped;
+                lastShift = row - source;
+                continue;
+            }
+            for (int column = 0; column < target.length; column++) {
+                if (target[column] != rendered[row][column]) {
+                    drawCell(row, column, target[column]);
+                    rendered[row][column] = target[column];
+                    updates++;
+                }
+            }
+        }
+        lastUpdateCount = updates;
+        totalUpdateCount += updates;
+    }
+
+    private static int countChanged(int[] target, int[] current) {
+        int changed = 0;
+        for (int column = 0; column < target.length; column++) {
+            if (target[column] != current[column]) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Finds a visible rendered row above the given row that already shows the target cells.
+     * The shift found for the previous row is tried first, since all rows above a clear move by the same amount.
+     */
+    private int findRenderedRow(int[] target, int row) {
+        int hinted = row - lastShift;
+        if (lastShift > 0 && hinted >= HIDDEN_ROWS && Arrays.equals(target, rendered[hinted])) {
+            return hinted;
+        }
+        for (int source = row - 1; source >= HIDDEN_ROWS; source--) {
+            if (Arrays.equals(target, rendered[source])) {
+                return source;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the number of updates made by the last refresh.
+     *
+     * @return the cell redraws and node moves of the last refresh
+     */
+    public int getLastUpdateCount() {
+        return lastUpdateCount;
+    }
+
+    /**
+     * Gets the number of updates made since the view was created.
+     *
+     * @return the total cell redraws and node moves
+     */
+    public long getTotalUpdateCount() {
+        return totalUpdateCount;
+    }
+
+    /**
+     * Creates the cells of an empty board.
+     *
+     * @param rows the number of rows of the board matrix, including the hidden rows
+     * @param columns the number of columns
+     */
+    protected abstract void createCells(int rows, int columns);
+
+    /**
+     * Redraws one visible cell.
+     *
+     * @param row the board row
+     * @param column the board column
+     * @param color the new color value
+     */
+    protected abstract void drawCell(int row, int column, int color);
+}
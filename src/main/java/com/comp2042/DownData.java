@@ -3,10 +3,12 @@ package com.comp2042;
 /**
  * Data class containing the result of a downward movement event.
  * Combines information about cleared rows and updated view data.
+ * {@link GameController} double-buffers its instances like {@link ViewData}, so read a result
+ * before the next down event but one.
  */
 public final class DownData {
-    private final ClearRow clearRow;
-    private final ViewData viewData;
+    private ClearRow clearRow;
+    private ViewData viewData;
 
     /**
      * Constructs a new DownData object with clear row and view information.
@@ -15,8 +17,18 @@ public final class DownData {
      * @param viewData the updated view data after the movement
      */
     public DownData(ClearRow clearRow, ViewData viewData) {
+        set(clearRow, viewData);
+    }
+
+    /**
+     * Refills a reused instance.
+     * 
+     * @return this instance
+     */
+    DownData set(ClearRow clearRow, ViewData viewData) {
         this.clearRow = clearRow;
         this.viewData = viewData;
+        return this;
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.comp2042;
+
+/**
+ * Input listener that applies events directly to a {@link GameEngine}, like the game controller
+ * does for player 1. Used where the engine is driven without the GUI, such as headless replays
+ * and tests.
+ */
+public final class EngineInput implements InputEventListener {
+
+    private final GameEngine engine;
+
+    /**
+     * Constructs a new EngineInput.
+     *
+     * @param engine the engine to drive
+     */
+    public EngineInput(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        return new DownData(engine.stepDown(event.getEventSource()), engine.getViewData());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        engine.moveLeft();
+        return engine.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        engine.moveRight();
+        return engine.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        engine.rotate();
+        return engine.getViewData();
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        return new DownData(engine.hardDrop(), engine.getViewData());
+    }
+
+    @Override
+    public void createNewGame() {
+        engine.newGame();
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042;
+
+/**
+ * The timing state of a {@link GameEngine} at one tick: tick count, gravity, lock delay and score
+ * multiplier. Together with the board it is everything needed to continue a game from that tick.
+ */
+public final class EngineState {
+
+    private final int ticks;
+    private final int gravity;
+    private final int gravityAccumulator;
+    private final int lockDelayTicks;
+    private final int restingTicks;
+    private final int scoreMultiplier;
+    private final boolean gameOver;
+
+    /**
+     * Constructs a new EngineState.
+     *
+     * @param ticks the number of ticks played
+     * @param gravity the gravity in 16.16 fixed-point cells per tick
+     * @param gravityAccumulator the fraction of a cell the brick has fallen, in 16.16 fixed point
+     * @param lockDelayTicks the lock delay in ticks
+     * @param restingTicks the ticks the brick has rested on the stack, or -1 if it is not resting
+     * @param scoreMultiplier the multiplier of row-clear bonuses
+     * @param gameOver whether the game is over
+     */
+    public EngineState(int ticks, int gravity, int gravityAccumulator, int lockDelayTicks,
+                       int restingTicks, int scoreMultiplier, boolean gameOver) {
+        this.ticks = ticks;
+        this.gravity = gravity;
+        this.gravityAccumulator = gravityAccumulator;
+        this.lockDelayTicks = lockDelayTicks;
+        this.restingTicks = restingTicks;
+        this.scoreMultiplier = scoreMultiplier;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Gets the number of ticks played.
+     *
+     * @return the tick count
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the gravity.
+     *
+     * @return the gravity in 16.16 fixed-point cells per tick
+     */
+    public int getGravity() {
+        return gravity;
+    }
+
+    /**
+     * Gets the fraction of a cell the brick has fallen since it last moved down.
+     *
+     * @return the accumulated gravity in 16.16 fixed point
+     */
+    public int getGravityAccumulator() {
+        return gravityAccumulator;
+    }
+
+    /**
+     * Gets the lock delay.
+     *
+     * @return the lock delay in ticks
+     */
+    public int getLockDelayTicks() {
+        return lockDelayTicks;
+    }
+
+    /**
+     * Gets how long the brick has rested on the stack.
+     *
+     * @return the resting ticks, or -1 if the brick is not resting
+     */
+    public int getRestingTicks() {
+        return restingTicks;
+    }
+
+    /**
+     * Gets the multiplier of row-clear bonuses.
+     *
+     * @return the score multiplier
+     */
+    public int getScoreMultiplier() {
+        return scoreMultiplier;
+    }
+
+    /**
+     * Checks whether the game is over.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
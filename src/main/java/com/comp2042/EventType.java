@@ -12,5 +12,7 @@ public enum EventType {
     /** Move the brick one column to the right */
     RIGHT,
     /** Rotate the brick counterclockwise */
-    ROTATE
+    ROTATE,
+    /** Drop the brick to where it lands and lock it at once */
+    HARD_DROP
 }
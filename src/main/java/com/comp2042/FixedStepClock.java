@@ -0,0 +1,53 @@
+package com.comp2042;
+
+/**
+ * Converts frame timestamps into a whole number of fixed logic steps.
+ * Elapsed time is accumulated and spent in steps of a fixed length, so the simulation advances
+ * at the same rate regardless of the frame rate; the remainder carries over to the next frame.
+ */
+final class FixedStepClock {
+
+    /** Longest frame that is caught up on; longer stalls (e.g. a dragged window) are dropped. */
+    static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    private final long stepNanos;
+    private long previous;
+    private long accumulator;
+    private boolean started;
+
+    /**
+     * Constructs a new clock.
+     *
+     * @param stepNanos the length of one logic step in nanoseconds
+     */
+    FixedStepClock(long stepNanos) {
+        this.stepNanos = stepNanos;
+    }
+
+    /**
+     * Accounts for the time since the previous frame.
+     *
+     * @param now the current frame timestamp in nanoseconds
+     * @return the number of logic steps to run for this frame
+     */
+    int advance(long now) {
+        if (!started) {
+            started = true;
+            previous = now;
+            return 0;
+        }
+        accumulator += Math.min(now - previous, MAX_FRAME_NANOS);
+        previous = now;
+        int steps = (int) (accumulator / stepNanos);
+        accumulator -= steps * stepNanos;
+        return steps;
+    }
+
+    /**
+     * Forgets the previous frame, so time spent paused is not caught up when the clock resumes.
+     */
+    void reset() {
+        started = false;
+        accumulator = 0;
+    }
+}
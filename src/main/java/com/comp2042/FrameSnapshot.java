@@ -0,0 +1,126 @@
+package com.comp2042;
+
+/**
+ * Immutable picture of one player's game after a logic tick, handed from a {@link GameThread}
+ * to the JavaFX pulse. The board array is a copy that is shared by consecutive snapshots until the
+ * board changes again, and must never be modified.
+ */
+final class FrameSnapshot {
+
+    private final int[][] board;
+    private final long boardVersion;
+    private final ViewData viewData;
+    private final long changeCount;
+    private final int score;
+    private final boolean gameOver;
+    private final long inputsConsumed;
+    private final long inputAppliedNanos;
+    private final boolean inputChanged;
+
+    /**
+     * Constructs a new snapshot.
+     *
+     * @param board a private copy of the board matrix
+     * @param boardVersion the engine's board change count when the copy was taken
+     * @param viewData the current brick
+     * @param changeCount the engine's change count
+     * @param score the score
+     * @param gameOver whether the game is over
+     * @param inputsConsumed the number of key commands taken from the input buffer so far
+     * @param inputAppliedNanos the {@link System#nanoTime()} after the last tick that consumed key commands
+     * @param inputChanged whether that tick's key input changed the game
+     */
+    FrameSnapshot(int[][] board, long boardVersion, ViewData viewData, long changeCount, int score, boolean gameOver,
+            long inputsConsumed, long inputAppliedNanos, boolean inputChanged) {
+        this.board = board;
+        this.boardVersion = boardVersion;
+        this.viewData = viewData;
+        this.changeCount = changeCount;
+        this.score = score;
+        this.gameOver = gameOver;
+        this.inputsConsumed = inputsConsumed;
+        this.inputAppliedNanos = inputAppliedNanos;
+        this.inputChanged = inputChanged;
+    }
+
+    /**
+     * Gets the board matrix; the array must not be modified.
+     *
+     * @return the board copy
+     */
+    int[][] getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the version of the board, which changes whenever bricks lock or a new game starts.
+     *
+     * @return the board version
+     */
+    long getBoardVersion() {
+        return boardVersion;
+    }
+
+    /**
+     * Gets the current brick.
+     *
+     * @return the view data
+     */
+    ViewData getViewData() {
+        return viewData;
+    }
+
+    /**
+     * Gets the engine's change count, which changes whenever the brick moves.
+     *
+     * @return the change count
+     */
+    long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return the score
+     */
+    int getScore() {
+        return score;
+    }
+
+    /**
+     * Checks whether the game is over.
+     *
+     * @return true if the game is over
+     */
+    boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of key commands the game thread has taken from the input buffer.
+     *
+     * @return the consumed command count
+     */
+    long getInputsConsumed() {
+        return inputsConsumed;
+    }
+
+    /**
+     * Gets the time at which the last key commands were applied.
+     *
+     * @return the {@link System#nanoTime()} after applying them
+     */
+    long getInputAppliedNanos() {
+        return inputAppliedNanos;
+    }
+
+    /**
+     * Checks whether the last applied key commands changed the game.
+     *
+     * @return true if they moved, rotated or dropped the brick
+     */
+    boolean isInputChanged() {
+        return inputChanged;
+    }
+}
@@ -1,30 +1,160 @@
 package com.comp2042;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import com.comp2042.ai.AiStrength;
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.CpuPlayer;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.replay.ReplayRecorder;
+
 /**
- * Main game controller that manages game logic and coordinates between the model and view.
- * Implements InputEventListener to handle user input events for both single-player and versus modes.
- * This class manages up to two game boards for versus mode gameplay.
+ * Main game controller that connects the headless game engines to the view.
+ * Implements InputEventListener to forward user input events for both single-player and versus modes,
+ * and observes each {@link GameEngine} to refresh the GUI.
+ * This class manages up to two game engines for versus mode gameplay.
+ * In versus mode player 2 can be a {@link CpuPlayer}, which presses player 2's keys itself.
+ *
+ * Bricks come from seeded 7-bag generators. Every new game draws a fresh seed and gives it to both
+ * players, so versus opponents receive the same bricks in the same order.
+ *
+ * Player 1's input events are recorded with the tick they were applied on. Together with the seed
+ * they make a {@link Replay}, which is written to the directory named by {@value #REPLAY_DIR_PROPERTY}
+ * when the game ends, and which can be played back on player 1's board with {@link #startReplay(Replay, int)}.
  */
 public class GameController implements InputEventListener {
 
-    private Board board = new SimpleBoard(25, 10);
-    private Board board2 = null; // Player 2's game board (versus mode)
+    /** System property holding the seed from which the seeds of all games are drawn, for reproducible sessions. */
+    public static final String SEED_PROPERTY = "tetris.seed";
+
+    /** System property naming the directory finished games are saved to as replays; unset to keep them in memory only. */
+    public static final String REPLAY_DIR_PROPERTY = "tetris.replay.dir";
+
+    /** System property naming a replay file to play back at startup. */
+    public static final String REPLAY_PROPERTY = "tetris.replay";
+
+    /** System property holding the number of ticks replayed per frame of the game loop. */
+    public static final String REPLAY_SPEED_PROPERTY = "tetris.replay.speed";
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    // 每局的种子都由此序列产生；设置了系统属性时整个会话可复现
+    private final SplittableRandom seeds = createSeedSource();
+    private long gameSeed = seeds.nextLong();
+    private final SevenBagBrickGenerator generator = new SevenBagBrickGenerator(gameSeed);
+    private final GameEngine engine = new GameEngine(new SimpleBoard(ROWS, COLUMNS, generator));
+    private SevenBagBrickGenerator generator2 = null;
+    private GameEngine engine2 = null; // Player 2's game engine (versus mode)
+    private SimpleBoard board2 = null;
+    // 电脑玩家2；为null时由WASD键控制
+    private CpuPlayer cpuPlayer = null;
+    private AiStrength cpuStrength = null;
+    private BeamSearch search = null;
+    // 玩家1的输入记录；重放期间为null
+    private ReplayRecorder recorder = null;
+    private Replay lastReplay = null;
+    // 重放结束时由游戏线程置为null，界面线程通过isReplaying()读取，因此为volatile
+    private volatile ReplayPlayer replayPlayer = null;
+    private int replaySpeed = 1;
+
+    /**
+     * Player 2's input events, through which the computer player moves player 2's brick.
+     */
+    private final InputEventListener player2Input = new InputEventListener() {
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            return onDownEvent2(event);
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            return onLeftEvent2(event);
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            return onRightEvent2(event);
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            return onRotateEvent2(event);
+        }
+
+        @Override
+        public DownData onHardDropEvent(MoveEvent event) {
+            return onHardDropEvent2(event);
+        }
+
+        @Override
+        public void createNewGame() {
+            if (engine2 != null) {
+                engine2.newGame();
+            }
+        }
+    };
+
+    // 下落结果双缓冲复用，每个玩家各一组（两个玩家可能在不同的游戏线程上）
+    private final DownData[] downData = {new DownData(null, null), new DownData(null, null)};
+    private final DownData[] downData2 = {new DownData(null, null), new DownData(null, null)};
+    private int downIndex;
+    private int downIndex2;
 
     private final GuiController viewGuiController;
     private boolean isVsMode = false; // Whether in versus mode
+    private DifficultyStrategy difficulty = new EasyDifficultyStrategy();
 
     /**
      * Constructs a new GameController and initializes the game.
-     * Sets up the first game board, binds it to the GUI controller, and initializes the game view.
+     * Sets up the first game engine, binds it to the GUI controller, and initializes the game view.
      * 
      * @param c the GUI controller that manages the visual representation of the game
      */
     public GameController(GuiController c) {
         viewGuiController = c;
-        board.createNewBrick();
+        engine.getBoard().createNewBrick();
+        engine.setDifficulty(difficulty);
+        startRecording();
+        engine.setListener(new GameListener() {
+            @Override
+            public void onBoardChanged(int[][] boardMatrix) {
+                viewGuiController.refreshGameBackground(boardMatrix);
+            }
+
+            @Override
+            public void onGameOver() {
+                finishRecording();
+                viewGuiController.gameOver();
+            }
+        });
         viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        viewGuiController.initGameView(engine.getBoard().getBoardMatrix(), engine.getViewData());
+        viewGuiController.bindScore(engine.getScore());
+        startReplayFromProperty();
+    }
+
+    private void startReplayFromProperty() {
+        String file = System.getProperty(REPLAY_PROPERTY);
+        if (file == null) {
+            return;
+        }
+        try {
+            startReplay(Replay.load(Paths.get(file)), Integer.getInteger(REPLAY_SPEED_PROPERTY, 1));
+        } catch (IOException e) {
+            System.err.println("Cannot load replay " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static SplittableRandom createSeedSource() {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        return seed != null ? new SplittableRandom(seed) : new SplittableRandom();
     }
 
     /**
@@ -36,89 +166,192 @@ public class GameController implements InputEventListener {
     public void setVsMode(boolean vsMode) {
         isVsMode = vsMode;
         if (vsMode) {
-            // 创建玩家2的游戏板
-            if (board2 == null) {
-                board2 = new SimpleBoard(25, 10);
-                board2.createNewBrick();
+            // 创建玩家2的游戏引擎
+            if (engine2 == null) {
+                generator2 = new SevenBagBrickGenerator(gameSeed);
+                board2 = new SimpleBoard(ROWS, COLUMNS, generator2);
+                engine2 = new GameEngine(board2);
+                engine2.getBoard().createNewBrick();
+                engine2.setDifficulty(difficulty);
+                engine2.setListener(new GameListener() {
+                    @Override
+                    public void onBoardChanged(int[][] boardMatrix) {
+                        viewGuiController.refreshGameBackground2(boardMatrix);
+                    }
+
+                    @Override
+                    public void onGameOver() {
+                        viewGuiController.gameOver2();
+                    }
+                });
             }
-            viewGuiController.initVsModeView(board2.getBoardMatrix(), board2.getViewData());
-            viewGuiController.bindScore2(board2.getScore().scoreProperty());
+            updateCpuPlayer();
+            viewGuiController.initVsModeView(engine2.getBoard().getBoardMatrix(), engine2.getViewData());
+            viewGuiController.bindScore2(engine2.getScore());
         } else {
-            // 关闭对战模式，清理玩家2的游戏板
+            // 关闭对战模式，清理玩家2的游戏引擎
+            if (cpuPlayer != null) {
+                cpuPlayer.reset();
+                cpuPlayer = null;
+            }
+            engine2 = null;
             board2 = null;
+            generator2 = null;
             viewGuiController.hideVsModeView();
         }
     }
 
     /**
-     * Handles the down movement event for player 1 (controlled by arrow keys).
+     * Sets the difficulty of both players' games.
      * 
-     * @param event the movement event triggered by user input
-     * @return DownData containing information about cleared rows and updated view data
+     * @param difficulty the difficulty providing gravity, lock delay and score multiplier
      */
-    @Override
-    public DownData onDownEvent(MoveEvent event) {
-        return handleDownEvent(board, event, false);
+    public void setDifficulty(DifficultyStrategy difficulty) {
+        this.difficulty = difficulty;
+        // 重放时难度由记录决定
+        if (replayPlayer == null) {
+            engine.setDifficulty(difficulty);
+            if (recorder != null) {
+                recorder.recordDifficulty(engine.getTickCount(), difficulty);
+            }
+        }
+        if (engine2 != null) {
+            engine2.setDifficulty(difficulty);
+        }
     }
 
     /**
-     * Handles the down movement event for player 2 (controlled by WASD keys).
-     * Only active in versus mode.
+     * Lets the computer play player 2 in versus mode, or hands player 2 back to the keyboard.
      * 
-     * @param event the movement event triggered by user input
-     * @return DownData containing information about cleared rows and updated view data, or null if not in versus mode
+     * @param strength the strength of the computer player, or null for a human player 2
      */
-    public DownData onDownEvent2(MoveEvent event) {
-        if (isVsMode && board2 != null) {
-            return handleDownEvent(board2, event, true);
+    public void setCpuStrength(AiStrength strength) {
+        cpuStrength = strength;
+        updateCpuPlayer();
+    }
+
+    /**
+     * Gets the strength of the computer player 2.
+     * 
+     * @return the strength, or null if player 2 is human
+     */
+    public AiStrength getCpuStrength() {
+        return cpuStrength;
+    }
+
+    private void updateCpuPlayer() {
+        if (cpuStrength == null || board2 == null) {
+            if (cpuPlayer != null) {
+                cpuPlayer.reset();
+                cpuPlayer = null;
+            }
+            return;
         }
-        return null;
+        if (cpuPlayer != null) {
+            cpuPlayer.setStrength(cpuStrength);
+            return;
+        }
+        if (search == null) {
+            // 搜索线程池留出一个核心给界面线程
+            int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            search = new BeamSearch(ROWS, COLUMNS, new ForkJoinPool(workers));
+        }
+        cpuPlayer = new CpuPlayer(board2, player2Input, search, cpuStrength);
     }
 
     /**
-     * Common method to handle down movement events for any player.
-     * Manages brick movement, merging, row clearing, scoring, and game over detection.
+     * Advances player 1's game by one fixed logic tick.
      * 
-     * @param targetBoard the game board to operate on
-     * @param event the movement event
-     * @param isPlayer2 true if this is for player 2, false for player 1
-     * @return DownData containing cleared row information and updated view data
+     * @return the cleared rows if a brick was locked during the tick, or null otherwise
      */
-    private DownData handleDownEvent(Board targetBoard, MoveEvent event, boolean isPlayer2) {
-        boolean canMove = targetBoard.moveBrickDown();
+    public ClearRow tick() {
+        GravityTickEvent event = new GravityTickEvent();
+        event.begin();
         ClearRow clearRow = null;
-        if (!canMove) {
-            targetBoard.mergeBrickToBackground();
-            clearRow = targetBoard.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                targetBoard.getScore().add(clearRow.getScoreBonus());
-            }
-            if (targetBoard.createNewBrick()) {
-                if (isPlayer2) {
-                    viewGuiController.gameOver2();
-                } else {
-                    viewGuiController.gameOver();
+        ReplayPlayer player = replayPlayer;
+        if (player == null) {
+            clearRow = engine.tick();
+        } else {
+            // 每帧推进replaySpeed个tick实现快进
+            // 与实时游戏一样返回锁定结果，使重放也显示消行提示；快进时取本帧最后一次
+            for (int i = 0; i < replaySpeed; i++) {
+                boolean more = player.step();
+                if (player.getLastClear() != null) {
+                    clearRow = player.getLastClear();
+                }
+                if (!more) {
+                    replayPlayer = null;
+                    break;
                 }
             }
+        }
+        commitTick(event, 1, engine, clearRow);
+        return clearRow;
+    }
 
-            if (isPlayer2) {
-                viewGuiController.refreshGameBackground2(targetBoard.getBoardMatrix());
-            } else {
-                viewGuiController.refreshGameBackground(targetBoard.getBoardMatrix());
+    /**
+     * Advances player 2's game by one fixed logic tick.
+     * Only active in versus mode.
+     * 
+     * @return the cleared rows if a brick was locked during the tick, or null otherwise
+     */
+    public ClearRow tick2() {
+        if (isVsMode && engine2 != null) {
+            GravityTickEvent event = new GravityTickEvent();
+            event.begin();
+            ClearRow cpuClear = null;
+            if (cpuPlayer != null && !engine2.isGameOver()) {
+                cpuClear = cpuPlayer.tick();
             }
+            ClearRow clearRow = engine2.tick();
+            ClearRow result = clearRow != null ? clearRow : cpuClear;
+            commitTick(event, 2, engine2, result);
+            return result;
+        }
+        return null;
+    }
 
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                targetBoard.getScore().add(1);
-            }
+    private static void commitTick(GravityTickEvent event, int player, GameEngine tickEngine, ClearRow clearRow) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = player;
+            event.tick = tickEngine.getTickCount();
+            event.locked = clearRow != null;
+            event.commit();
+        }
+    }
+
+    /**
+     * Handles the down movement event for player 1 (controlled by arrow keys).
+     * 
+     * @param event the movement event triggered by user input
+     * @return DownData containing information about cleared rows and updated view data
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(event);
+        return downData(engine.stepDown(event.getEventSource()), engine.getViewData());
+    }
+
+    /**
+     * Handles the down movement event for player 2 (controlled by WASD keys).
+     * Only active in versus mode.
+     * 
+     * @param event the movement event triggered by user input
+     * @return DownData containing information about cleared rows and updated view data, or null if not in versus mode
+     */
+    public DownData onDownEvent2(MoveEvent event) {
+        if (isVsMode && engine2 != null) {
+            return downData2(engine2.stepDown(event.getEventSource()), engine2.getViewData());
         }
-        return new DownData(clearRow, targetBoard.getViewData());
+        return null;
     }
 
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        record(event);
+        engine.moveLeft();
+        return engine.getViewData();
     }
 
     /**
@@ -129,17 +362,18 @@ public class GameController implements InputEventListener {
      * @return ViewData containing updated brick position and shape, or null if not in versus mode
      */
     public ViewData onLeftEvent2(MoveEvent event) {
-        if (isVsMode && board2 != null) {
-            board2.moveBrickLeft();
-            return board2.getViewData();
+        if (isVsMode && engine2 != null) {
+            engine2.moveLeft();
+            return engine2.getViewData();
         }
         return null;
     }
 
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        record(event);
+        engine.moveRight();
+        return engine.getViewData();
     }
 
     /**
@@ -150,17 +384,18 @@ public class GameController implements InputEventListener {
      * @return ViewData containing updated brick position and shape, or null if not in versus mode
      */
     public ViewData onRightEvent2(MoveEvent event) {
-        if (isVsMode && board2 != null) {
-            board2.moveBrickRight();
-            return board2.getViewData();
+        if (isVsMode && engine2 != null) {
+            engine2.moveRight();
+            return engine2.getViewData();
         }
         return null;
     }
 
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        record(event);
+        engine.rotate();
+        return engine.getViewData();
     }
 
     /**
@@ -171,32 +406,174 @@ public class GameController implements InputEventListener {
      * @return ViewData containing updated brick position and shape, or null if not in versus mode
      */
     public ViewData onRotateEvent2(MoveEvent event) {
-        if (isVsMode && board2 != null) {
-            board2.rotateLeftBrick();
-            return board2.getViewData();
+        if (isVsMode && engine2 != null) {
+            engine2.rotate();
+            return engine2.getViewData();
+        }
+        return null;
+    }
+
+    private void record(MoveEvent event) {
+        if (recorder != null && !engine.isGameOver()) {
+            recorder.record(engine.getTickCount(), event);
+        }
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        record(event);
+        return downData(engine.hardDrop(), engine.getViewData());
+    }
+
+    /**
+     * Handles the hard drop event for player 2.
+     * Only active in versus mode.
+     * 
+     * @param event the movement event triggered by user input
+     * @return DownData containing information about cleared rows and updated view data, or null if not in versus mode
+     */
+    public DownData onHardDropEvent2(MoveEvent event) {
+        if (isVsMode && engine2 != null) {
+            return downData2(engine2.hardDrop(), engine2.getViewData());
         }
         return null;
     }
 
     @Override
     public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        NewGameEvent event = new NewGameEvent();
+        event.begin();
+        finishRecording();
+        replayPlayer = null;
+        // 双方使用同一个新种子，得到相同的方块序列
+        gameSeed = seeds.nextLong();
+        generator.reset(gameSeed);
+        engine.newGame();
+        startRecording();
         
         // 如果是对战模式，也重置玩家2
-        if (isVsMode && board2 != null) {
-            board2.newGame();
-            viewGuiController.refreshGameBackground2(board2.getBoardMatrix());
+        if (isVsMode && engine2 != null) {
+            generator2.reset(gameSeed);
+            engine2.newGame();
+            if (cpuPlayer != null) {
+                cpuPlayer.reset();
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.seed = gameSeed;
+            event.versus = isVsMode;
+            event.commit();
         }
     }
 
+    private DownData downData(ClearRow clearRow, ViewData view) {
+        downIndex ^= 1;
+        return downData[downIndex].set(clearRow, view);
+    }
+
+    private DownData downData2(ClearRow clearRow, ViewData view) {
+        downIndex2 ^= 1;
+        return downData2[downIndex2].set(clearRow, view);
+    }
+
+    private void startRecording() {
+        recorder = new ReplayRecorder(gameSeed, ROWS, COLUMNS);
+        recorder.recordDifficulty(0, difficulty);
+    }
+
+    private void finishRecording() {
+        if (recorder == null || recorder.isFinished()) {
+            return;
+        }
+        lastReplay = recorder.finish(engine.getTickCount(), engine.getScore().getValue());
+        recorder = null;
+        String dir = System.getProperty(REPLAY_DIR_PROPERTY);
+        if (dir != null) {
+            Path file = Paths.get(dir, String.format("replay-%016x.trpl", lastReplay.getSeed()));
+            try {
+                lastReplay.save(file);
+            } catch (IOException e) {
+                System.err.println("Cannot save replay " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Plays a replay back on player 1's board, in place of the current game.
+     * Player 1's input is not recorded until the next new game.
+     *
+     * @param replay the replay to play
+     * @param speed the number of recorded ticks played per game-loop tick; 1 for real time
+     * @throws IllegalArgumentException if the replay was recorded on a board of another size or the speed is not positive
+     */
+    public void startReplay(Replay replay, int speed) {
+        if (replay.getRows() != ROWS || replay.getColumns() != COLUMNS) {
+            throw new IllegalArgumentException("Replay board is " + replay.getRows() + "x" + replay.getColumns());
+        }
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Replay speed must be positive");
+        }
+        finishRecording();
+        gameSeed = replay.getSeed();
+        generator.reset(gameSeed);
+        engine.newGame();
+        replayPlayer = new ReplayPlayer(replay, engine, this);
+        replaySpeed = speed;
+    }
+
+    /**
+     * Checks whether player 1's board is playing back a replay.
+     *
+     * @return true while a replay is playing
+     */
+    public boolean isReplaying() {
+        return replayPlayer != null;
+    }
+
+    /**
+     * Gets the replay of the last finished game of player 1.
+     *
+     * @return the replay, or null if no game has finished yet
+     */
+    public Replay getLastReplay() {
+        return lastReplay;
+    }
+
+    /**
+     * Gets the seed of the current game's brick sequence, which both players share.
+     * 
+     * @return the game seed
+     */
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Gets the game engine for player 1.
+     * 
+     * @return the GameEngine instance for player 1
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the game engine for player 2.
+     * 
+     * @return the GameEngine instance for player 2, or null if not in versus mode
+     */
+    public GameEngine getEngine2() {
+        return engine2;
+    }
+
     /**
      * Gets the game board for player 1.
      * 
      * @return the Board instance for player 1
      */
     public Board getBoard() {
-        return board;
+        return engine.getBoard();
     }
 
     /**
@@ -205,7 +582,25 @@ public class GameController implements InputEventListener {
      * @return the Board instance for player 2, or null if not in versus mode
      */
     public Board getBoard2() {
-        return board2;
+        return engine2 != null ? engine2.getBoard() : null;
+    }
+
+    /**
+     * Gets the input events of player 2, which move player 2's brick in versus mode.
+     * 
+     * @return the listener for player 2's input
+     */
+    public InputEventListener getPlayer2Input() {
+        return player2Input;
+    }
+
+    /**
+     * Checks if player 2 is controlled by the computer.
+     * 
+     * @return true if a computer player drives player 2's board
+     */
+    public boolean isCpuPlayer2() {
+        return cpuPlayer != null;
     }
 
     /**
@@ -0,0 +1,364 @@
+package com.comp2042;
+
+/**
+ * Headless game logic for a single Tetris board.
+ * Applies moves, locks bricks, clears rows, updates the score and detects game over
+ * without any dependency on JavaFX, so games can be simulated as fast as the CPU allows.
+ * A {@link GameListener} can be attached to observe the engine, which is how the GUI is driven.
+ *
+ * Time advances in fixed steps of {@link #TICK_NANOS} through {@link #tick()}. Gravity is a
+ * 16.16 fixed-point number of cells per tick, so speeds below one cell per tick and up to 20G
+ * (20 cells per tick, an instant drop) are handled the same way. A brick resting on the stack
+ * locks after the lock delay instead of on the next gravity step.
+ */
+public class GameEngine {
+
+    /** Number of logic ticks per second. */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /** Length of one logic tick in nanoseconds. */
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    /** Gravity of one cell per tick, in 16.16 fixed point. */
+    public static final int GRAVITY_ONE = 1 << 16;
+
+    /** Gravity at which a brick falls to the floor within the tick it spawns. */
+    public static final int GRAVITY_20G = 20 * GRAVITY_ONE;
+
+    private static final GameListener NO_LISTENER = new GameListener() {
+        @Override
+        public void onBoardChanged(int[][] boardMatrix) {
+        }
+
+        @Override
+        public void onGameOver() {
+        }
+    };
+
+    private final Board board;
+    private int scoreMultiplier = 1;
+    private GameListener listener = NO_LISTENER;
+    private boolean gameOver;
+
+    private int gravity;
+    private int gravityAccumulator;
+    private int lockDelayTicks;
+    // 方块落在堆上后经过的tick数；-1表示方块未着地
+    private int restingTicks = -1;
+    private int ticks;
+    private long changeCount;
+    // 背景棋盘（已锁定的方块）变化的次数
+    private long boardChangeCount;
+
+    /**
+     * Constructs a new GameEngine for the given board.
+     * The board must already have a current brick, or {@link #newGame()} must be called before playing.
+     * 
+     * @param board the board to play on
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Constructs a new GameEngine that uses the given difficulty.
+     * 
+     * @param board the board to play on
+     * @param difficulty the difficulty providing gravity, lock delay and score multiplier
+     * @see #setDifficulty(DifficultyStrategy)
+     */
+    public GameEngine(Board board, DifficultyStrategy difficulty) {
+        this.board = board;
+        applyDifficulty(difficulty);
+    }
+
+    /**
+     * Applies a difficulty: row-clear bonuses are scaled by its score multiplier, and the gravity
+     * and lock delay used by {@link #tick()} are derived from its fall interval and lock delay.
+     * 
+     * @param difficulty the difficulty to apply
+     */
+    public void setDifficulty(DifficultyStrategy difficulty) {
+        applyDifficulty(difficulty);
+    }
+
+    // 构造器也会调用，因此不能是可覆盖的方法
+    private void applyDifficulty(DifficultyStrategy difficulty) {
+        scoreMultiplier = difficulty.getScoreMultiplier();
+        gravity = gravityForInterval(difficulty.getFallInterval());
+        lockDelayTicks = (int) (difficulty.getLockDelay() * TICKS_PER_SECOND / 1000);
+    }
+
+    /**
+     * Converts a fall interval into gravity.
+     * 
+     * @param fallIntervalMillis the time the brick takes to fall one cell, in milliseconds
+     * @return the gravity in 16.16 fixed-point cells per tick
+     */
+    public static int gravityForInterval(long fallIntervalMillis) {
+        long ticksPerCell = TICKS_PER_SECOND * fallIntervalMillis;
+        // 向上取整，保证每个下落间隔结束时恰好累积满一格
+        return (int) ((GRAVITY_ONE * 1000L + ticksPerCell - 1) / ticksPerCell);
+    }
+
+    /**
+     * Sets the gravity used by {@link #tick()}.
+     * 
+     * @param gravity the gravity in 16.16 fixed-point cells per tick, e.g. {@link #GRAVITY_20G}
+     */
+    public void setGravity(int gravity) {
+        this.gravity = gravity;
+    }
+
+    /**
+     * Sets how long a brick may rest on the stack before it locks.
+     * 
+     * @param ticks the lock delay in ticks; 0 locks on the first gravity step that cannot move the brick
+     */
+    public void setLockDelay(int ticks) {
+        this.lockDelayTicks = ticks;
+    }
+
+    /**
+     * Sets the listener notified of board changes and game over.
+     * 
+     * @param listener the listener, or null to remove it
+     */
+    public void setListener(GameListener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    /**
+     * Moves the current brick down by one row.
+     * If the brick cannot move, it is merged into the background, complete rows are cleared and scored,
+     * and the next brick is spawned.
+     * 
+     * @param source whether the move was requested by the player or by the game timer;
+     *               player soft drops earn one point per row
+     * @return the cleared rows if the brick was locked, or null if the brick moved down
+     */
+    public ClearRow stepDown(EventSource source) {
+        if (board.moveBrickDown()) {
+            if (source == EventSource.USER) {
+                board.getScore().add(1);
+            }
+            movedDown();
+            return null;
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Drops the current brick to where it lands and locks it at once, ignoring the lock delay.
+     * Earns two points per row dropped.
+     * 
+     * @return the cleared rows of the lock
+     */
+    public ClearRow hardDrop() {
+        int rows = board.dropBrick();
+        board.getScore().add(2 * rows);
+        return lockBrick();
+    }
+
+    /**
+     * Advances the game by one fixed step of {@link #TICK_NANOS}.
+     * Applies gravity, locks a brick that has rested for the lock delay and adds one point per second of play.
+     * 
+     * @return the cleared rows if a brick was locked during this tick, or null otherwise
+     */
+    public ClearRow tick() {
+        if (gameOver) {
+            return null;
+        }
+        ticks++;
+        // 每秒自动加1分
+        if (ticks % TICKS_PER_SECOND == 0) {
+            board.getScore().add(1);
+        }
+        gravityAccumulator += gravity;
+        int rows = gravityAccumulator / GRAVITY_ONE;
+        gravityAccumulator %= GRAVITY_ONE;
+        for (int i = 0; i < rows; i++) {
+            if (!board.moveBrickDown()) {
+                if (restingTicks < 0) {
+                    restingTicks = 0;
+                }
+                break;
+            }
+            movedDown();
+        }
+        if (restingTicks >= 0 && restingTicks++ >= lockDelayTicks) {
+            // 锁定前再检查一次：方块可能已被横向移出边缘
+            if (board.moveBrickDown()) {
+                movedDown();
+                return null;
+            }
+            return lockBrick();
+        }
+        return null;
+    }
+
+    private void movedDown() {
+        restingTicks = -1;
+        changeCount++;
+    }
+
+    private ClearRow lockBrick() {
+        restingTicks = -1;
+        gravityAccumulator = 0;
+        changeCount++;
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus() * scoreMultiplier);
+        }
+        if (board.createNewBrick()) {
+            gameOver = true;
+            listener.onGameOver();
+        }
+        boardChangeCount++;
+        listener.onBoardChanged(board.getBoardMatrix());
+        return clearRow;
+    }
+
+    /**
+     * Moves the current brick one column to the left.
+     * 
+     * @return true if the brick moved
+     */
+    public boolean moveLeft() {
+        return changed(board.moveBrickLeft());
+    }
+
+    /**
+     * Moves the current brick one column to the right.
+     * 
+     * @return true if the brick moved
+     */
+    public boolean moveRight() {
+        return changed(board.moveBrickRight());
+    }
+
+    /**
+     * Rotates the current brick.
+     * 
+     * @return true if the brick rotated
+     */
+    public boolean rotate() {
+        return changed(board.rotateLeftBrick());
+    }
+
+    /**
+     * Resets the board and score and spawns the first brick.
+     */
+    public void newGame() {
+        board.newGame();
+        gameOver = false;
+        restingTicks = -1;
+        gravityAccumulator = 0;
+        ticks = 0;
+        changeCount++;
+        boardChangeCount++;
+        listener.onBoardChanged(board.getBoardMatrix());
+    }
+
+    private boolean changed(boolean moved) {
+        if (moved) {
+            changeCount++;
+        }
+        return moved;
+    }
+
+    /**
+     * Gets the number of ticks played since the game started. Ticks stop counting when the game is over.
+     * 
+     * @return the tick count
+     */
+    public int getTickCount() {
+        return ticks;
+    }
+
+    /**
+     * Captures the timing state of the engine, e.g. to seek within a replay later.
+     * 
+     * @return the current state
+     * @see #restoreState(EngineState)
+     */
+    public EngineState saveState() {
+        return new EngineState(ticks, gravity, gravityAccumulator, lockDelayTicks, restingTicks, scoreMultiplier, gameOver);
+    }
+
+    /**
+     * Restores a timing state captured by {@link #saveState()}. The board must be restored separately.
+     * 
+     * @param state the state to restore
+     */
+    public void restoreState(EngineState state) {
+        ticks = state.getTicks();
+        gravity = state.getGravity();
+        gravityAccumulator = state.getGravityAccumulator();
+        lockDelayTicks = state.getLockDelayTicks();
+        restingTicks = state.getRestingTicks();
+        scoreMultiplier = state.getScoreMultiplier();
+        gameOver = state.isGameOver();
+        changeCount++;
+        boardChangeCount++;
+        listener.onBoardChanged(board.getBoardMatrix());
+    }
+
+    /**
+     * Gets a counter that increases whenever the current brick moves, a brick locks or a new game starts.
+     * A view can compare it with the value it last rendered to skip frames in which nothing changed.
+     * 
+     * @return the change counter
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Gets a counter that increases whenever the board background changes: a brick locks, rows are
+     * cleared, a new game starts or a state is restored.
+     * 
+     * @return the board change counter
+     */
+    public long getBoardChangeCount() {
+        return boardChangeCount;
+    }
+
+    /**
+     * Checks whether the last spawned brick overlapped the existing blocks.
+     * 
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the current view data including brick position and shape.
+     * 
+     * @return the view data of the current brick
+     */
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Gets the board this engine plays on.
+     * 
+     * @return the board
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the score of this engine's board.
+     * 
+     * @return the score
+     */
+    public Score getScore() {
+        return board.getScore();
+    }
+}
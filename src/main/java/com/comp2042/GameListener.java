@@ -0,0 +1,20 @@
+package com.comp2042;
+
+/**
+ * Receives notifications from a {@link GameEngine}.
+ * The GUI implements this interface to observe the engine; headless runs simply leave it unset.
+ */
+public interface GameListener {
+
+    /**
+     * Called after a brick has been merged into the background or the board has been reset.
+     * 
+     * @param boardMatrix the current board matrix
+     */
+    void onBoardChanged(int[][] boardMatrix);
+
+    /**
+     * Called when a newly spawned brick overlaps the existing blocks.
+     */
+    void onGameOver();
+}
@@ -0,0 +1,118 @@
+package com.comp2042;
+
+import com.comp2042.diagnostics.FrameTimings;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Single game loop driven by the JavaFX pulse.
+ * Every frame runs as many fixed logic ticks as the elapsed time calls for and then renders once,
+ * so game speed does not depend on the frame rate and rendering never runs inside a logic tick.
+ *
+ * With {@link GameThread}s the logic ticks run on those threads instead and the pulse only renders.
+ * The threads start on the first pulse after {@link #start()}, so setup code that runs right after
+ * starting the loop on the JavaFX thread never races a tick, and {@link #stop()} waits for them.
+ */
+final class GameLoop extends AnimationTimer {
+
+    private final FixedStepClock clock = new FixedStepClock(GameEngine.TICK_NANOS);
+    private final Runnable tick;
+    private final Runnable render;
+    private final FrameTimings timings;
+    private final GameThread[] threads;
+    private boolean running;
+    private boolean threadsStarted;
+
+    /**
+     * Constructs a new game loop.
+     *
+     * @param tick advances the game by one fixed step
+     * @param render draws the current state; called once per frame
+     * @param timings receives the pulse interval and the time spent in each frame
+     */
+    GameLoop(Runnable tick, Runnable render, FrameTimings timings) {
+        this.tick = tick;
+        this.render = render;
+        this.timings = timings;
+        this.threads = new GameThread[0];
+    }
+
+    /**
+     * Constructs a game loop whose logic runs on game threads; the pulse only renders.
+     *
+     * @param render draws the current state; called once per frame
+     * @param timings receives the pulse interval and the time spent in each frame
+     * @param threads the game threads, started and stopped with the loop
+     */
+    GameLoop(Runnable render, FrameTimings timings, GameThread... threads) {
+        this.tick = null;
+        this.render = render;
+        this.timings = timings;
+        this.threads = threads;
+    }
+
+    @Override
+    public void handle(long now) {
+        long start = System.nanoTime();
+        if (tick == null) {
+            if (running && !threadsStarted) {
+                threadsStarted = true;
+                for (GameThread thread : threads) {
+                    thread.start();
+                }
+            }
+        } else {
+            int steps = clock.advance(now);
+            // 逻辑tick中可能触发游戏结束并停止循环
+            for (int i = 0; i < steps && running; i++) {
+                tick.run();
+            }
+        }
+        render.run();
+        timings.pulse(now, System.nanoTime() - start);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // 暂停期间的空档不算作一帧
+        timings.restart();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        clock.reset();
+        super.stop();
+        threadsStarted = false;
+        for (GameThread thread : threads) {
+            thread.stop();
+        }
+    }
+
+    /**
+     * Checks whether the loop is running.
+     *
+     * @return true between {@link #start()} and {@link #stop()}
+     */
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Changes the game state without racing the game threads: they are stopped for the change and
+     * resumed afterwards. Without game threads the change simply runs.
+     *
+     * @param change the change to make on the JavaFX thread
+     */
+    void runExclusive(Runnable change) {
+        if (threads.length == 0 || !running) {
+            change.run();
+            return;
+        }
+        stop();
+        change.run();
+        start();
+    }
+}
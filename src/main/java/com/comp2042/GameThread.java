@@ -0,0 +1,99 @@
+package com.comp2042;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Dedicated thread that runs one player's {@link PlayerSimulation} at the fixed logic rate, so slow
+ * locks, clears or computer-player moves never delay a JavaFX pulse, and the two players of a
+ * versus match run on separate cores.
+ *
+ * Enabled with the system property {@value #ENABLED_PROPERTY}; by default the game runs on the
+ * JavaFX thread. The thread is started and stopped together with the {@link GameLoop}; while it
+ * is stopped the JavaFX thread may change the game state freely, since stopping waits for the
+ * thread to finish its tick.
+ */
+final class GameThread {
+
+    /** System property that moves the game logic onto dedicated threads when set to {@code true}. */
+    static final String ENABLED_PROPERTY = "tetris.game.thread";
+
+    private final String name;
+    private final PlayerSimulation simulation;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Constructs a new, stopped game thread.
+     *
+     * @param name the thread name
+     * @param simulation the game to run
+     */
+    GameThread(String name, PlayerSimulation simulation) {
+        this.name = name;
+        this.simulation = simulation;
+    }
+
+    /**
+     * Checks whether game threads are enabled by the system property.
+     *
+     * @return true if the game logic should run on dedicated threads
+     */
+    static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Publishes the current state and starts ticking. Does nothing if already running.
+     */
+    void start() {
+        if (thread != null) {
+            return;
+        }
+        // 先在当前线程发布一次，渲染不会看到停止前的旧快照
+        simulation.publish();
+        running = true;
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops ticking and waits until the current tick has finished.
+     */
+    void stop() {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        thread = null;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long deadline = System.nanoTime();
+        while (running) {
+            simulation.tick();
+            deadline += GameEngine.TICK_NANOS;
+            long now = System.nanoTime();
+            // 与FixedStepClock一致：过长的停顿不追赶
+            if (now - deadline > FixedStepClock.MAX_FRAME_NANOS) {
+                deadline = now;
+            }
+            while (running && deadline - now > 0) {
+                LockSupport.parkNanos(this, deadline - now);
+                now = System.nanoTime();
+            }
+        }
+    }
+}
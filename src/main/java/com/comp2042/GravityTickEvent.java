@@ -0,0 +1,33 @@
+package com.comp2042;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one fixed logic tick of a player's game: gravity, lock delay and, in
+ * versus mode, the CPU player's move. Only ticks longer than the threshold are recorded by default,
+ * so a continuous recording keeps the slow ticks behind a stutter without logging 60 events a second.
+ */
+@Name("com.comp2042.GravityTick")
+@Label("Gravity Tick")
+@Category({"Tetris", "Game"})
+@Description("One fixed 60 Hz logic step of a player's game")
+@Threshold("1 ms")
+@StackTrace(false)
+final class GravityTickEvent extends Event {
+
+    @Label("Player")
+    int player;
+
+    @Label("Tick")
+    int tick;
+
+    @Label("Locked")
+    @Description("Whether a brick was locked during the tick")
+    boolean locked;
+}
@@ -3,11 +3,15 @@ package com.comp2042;
 import java.net.URL;
 import java.util.ResourceBundle;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.ai.AiStrength;
+import com.comp2042.diagnostics.FrameTimings;
+import com.comp2042.diagnostics.InputLatencyProbe;
+import com.comp2042.diagnostics.LatencyHistogram;
+import com.comp2042.diagnostics.LatencyOverlay;
+import com.comp2042.logic.bricks.BrickShape;
+
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -23,11 +27,8 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
-import javafx.util.Duration;
 
 /**
  * GUI controller class
@@ -101,8 +102,8 @@ public class GuiController implements Initializable {
     private static final double NOTIFICATION_OFFSET_X = 20;
     private static final double NOTIFICATION_OFFSET_Y = 40;
     
-    // 游戏背景显示矩阵，存储每个格子的Rectangle对象
-    private Rectangle[][] displayMatrix;
+    // 游戏背景的渲染器（Rectangle网格或Canvas，启动时选择）
+    private BoardView boardView;
 
     // 输入事件监听器，用于处理用户输入
     private InputEventListener eventListener;
@@ -110,13 +111,38 @@ public class GuiController implements Initializable {
     // 当前方块显示矩阵，存储方块每个部分的Rectangle对象
     private Rectangle[][] rectangles;
 
+    // 幽灵方块：显示当前方块的落点，位置跟随方块面板
+    private GridPane ghostPanel;
+    private Rectangle[][] ghostRectangles;
+
     // 下一个方块显示矩阵，存储下一个方块每个部分的Rectangle对象
     private Rectangle[][] nextBrickRectangles;
 
-    // 游戏自动下落的时间线动画
-    private Timeline timeLine;
-    // 自动加分的时间线动画
-    private Timeline scoreTimeline;
+    // 游戏主循环：固定步长推进逻辑（重力、锁定延迟、每秒加分），每帧渲染一次
+    private GameLoop gameLoop;
+
+    // 两名玩家的按键状态，在游戏tick中按DAS/ARR产生移动
+    private final KeyRepeat keys = KeyRepeat.fromProperties();
+    private final KeyRepeat keys2 = KeyRepeat.fromProperties();
+
+    // 启用游戏线程时每个玩家的模拟及最近渲染的快照；单线程模式下为null
+    private final boolean useGameThreads = GameThread.isEnabled();
+    private PlayerSimulation simulation;
+    private PlayerSimulation simulation2;
+    private FrameSnapshot renderedFrame;
+    private FrameSnapshot renderedFrame2;
+    // 上一帧渲染时引擎的变化计数，未变化时跳过方块刷新
+    private long renderedChangeCount = -1;
+    private long renderedChangeCount2 = -1;
+
+    // 输入延迟测量：按键到达、游戏tick应用、渲染出新位置三个时间点
+    private final LatencyHistogram inputLatency = new LatencyHistogram();
+    private final InputLatencyProbe latencyProbe = new InputLatencyProbe(1, inputLatency);
+    private final InputLatencyProbe latencyProbe2 = new InputLatencyProbe(2, inputLatency);
+    private final FrameTimings frameTimings = new FrameTimings();
+    private LatencyOverlay latencyOverlay;
+    // 光晕渲染质量：F4键循环切换，配合F3调试信息比较帧耗时
+    private RenderQuality renderQuality = RenderQuality.fromProperty();
 
     // 游戏暂停状态属性
     private final BooleanProperty isPause = new SimpleBooleanProperty();
@@ -124,8 +150,8 @@ public class GuiController implements Initializable {
     // 游戏结束状态属性
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
     
-    // 难度模式：true = 困难，false = 简单
-    private boolean isHardMode = false;
+    // 当前难度（默认简单）
+    private DifficultyStrategy difficulty = new EasyDifficultyStrategy();
     
     // 难度按钮
     @FXML
@@ -137,6 +163,10 @@ public class GuiController implements Initializable {
     // 对战模式按钮
     @FXML
     private javafx.scene.control.ToggleButton vsModeButton;
+
+    // 玩家2控制方式按钮：人类或不同强度的电脑
+    @FXML
+    private javafx.scene.control.Button player2Button;
     
     // 玩家2的UI元素（对战模式）
     @FXML
@@ -153,14 +183,19 @@ public class GuiController implements Initializable {
     private PausePanel pausePanel2; // 玩家2的暂停面板
     @FXML
     private Group groupNotification2; // 玩家2的通知组
+    // 两个通知组各自的可复用分数提示
+    private NotificationPool notifications;
+    private NotificationPool notifications2;
     @FXML
     private javafx.scene.layout.BorderPane gameBoard2; // 玩家2的游戏板容器
     @FXML
     private javafx.scene.layout.VBox nextBrickVBox2; // 玩家2的下一个方块预览容器
     
     // 玩家2的显示矩阵
-    private Rectangle[][] displayMatrix2;
+    private BoardView boardView2;
     private Rectangle[][] rectangles2;
+    private GridPane ghostPanel2;
+    private Rectangle[][] ghostRectangles2;
     private Rectangle[][] nextBrickRectangles2;
     
     
@@ -194,60 +229,25 @@ public class GuiController implements Initializable {
         gamePanel.setOnKeyPressed(new EventHandler<KeyEvent>() {
             @Override
             public void handle(KeyEvent keyEvent) {
+                // JavaFX的KeyEvent不带时间戳，以进入处理器的时刻作为按键到达时间
+                long arrival = System.nanoTime();
                 // 只有在游戏未暂停且未结束时才响应键盘输入
                 if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
                     
-                    // 玩家1控制（方向键）
-                    if (keyEvent.getCode() == KeyCode.LEFT) {
-                        refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    
-                    if (keyEvent.getCode() == KeyCode.RIGHT) {
-                        refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    
-                    if (keyEvent.getCode() == KeyCode.UP) {
-                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    
-                    if (keyEvent.getCode() == KeyCode.DOWN) {
-                        moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                    // 玩家1控制（方向键）- 重放时由记录驱动，忽略键盘；移动在游戏tick中按DAS/ARR执行
+                    EventType action = player1Action(keyEvent.getCode());
+                    if (action != null && (gameController == null || !gameController.isReplaying())) {
+                        pressKey(keys, simulation, action, true);
+                        latencyProbe.keyPressed(action.ordinal(), arrival);
                         keyEvent.consume();
                     }
                     
                     // 玩家2控制（WASD键）- 仅在对战模式时生效
-                    if (isVsMode && gameController != null) {
-                        if (keyEvent.getCode() == KeyCode.A) {
-                            ViewData viewData = gameController.onLeftEvent2(new MoveEvent(EventType.LEFT, EventSource.USER));
-                            if (viewData != null) {
-                                refreshBrick2(viewData);
-                            }
-                            keyEvent.consume();
-                        }
-                        
-                        if (keyEvent.getCode() == KeyCode.D) {
-                            ViewData viewData = gameController.onRightEvent2(new MoveEvent(EventType.RIGHT, EventSource.USER));
-                            if (viewData != null) {
-                                refreshBrick2(viewData);
-                            }
-                            keyEvent.consume();
-                        }
-                        
-                        if (keyEvent.getCode() == KeyCode.W) {
-                            ViewData viewData = gameController.onRotateEvent2(new MoveEvent(EventType.ROTATE, EventSource.USER));
-                            if (viewData != null) {
-                                refreshBrick2(viewData);
-                            }
-                            keyEvent.consume();
-                        }
-                        
-                        if (keyEvent.getCode() == KeyCode.S) {
-                            moveDown2(new MoveEvent(EventType.DOWN, EventSource.USER));
-                            keyEvent.consume();
-                        }
+                    EventType action2 = player2Action(keyEvent.getCode());
+                    if (action2 != null && isVsMode && gameController != null && !gameController.isCpuPlayer2()) {
+                        pressKey(keys2, simulation2, action2, true);
+                        latencyProbe2.keyPressed(action2.ordinal(), arrival);
+                        keyEvent.consume();
                     }
                 }
                 
@@ -257,6 +257,18 @@ public class GuiController implements Initializable {
                     keyEvent.consume();
                 }
                 
+                // 显示/隐藏延迟调试信息：F3键
+                if (keyEvent.getCode() == KeyCode.F3 && latencyOverlay != null) {
+                    latencyOverlay.toggle();
+                    keyEvent.consume();
+                }
+
+                // 切换光晕渲染质量：F4键，切换后重新统计帧耗时
+                if (keyEvent.getCode() == KeyCode.F4) {
+                    changeRenderQuality(renderQuality.next());
+                    keyEvent.consume();
+                }
+                
                 // 处理新游戏：N键
                 if (keyEvent.getCode() == KeyCode.N) {
                     confirmNewGame();
@@ -264,11 +276,38 @@ public class GuiController implements Initializable {
                 }
             }
         });
+
+        // 松开按键时停止自动重复；暂停期间也要记录，避免恢复后方块继续移动
+        gamePanel.setOnKeyReleased(keyEvent -> {
+            EventType action = player1Action(keyEvent.getCode());
+            if (action != null) {
+                pressKey(keys, simulation, action, false);
+                latencyProbe.keyReleased(action.ordinal());
+            }
+            EventType action2 = player2Action(keyEvent.getCode());
+            if (action2 != null) {
+                pressKey(keys2, simulation2, action2, false);
+                latencyProbe2.keyReleased(action2.ordinal());
+            }
+        });
         
         // 初始时隐藏游戏结束面板和暂停面板
         gameOverPanel.setVisible(false);
         pausePanel.setVisible(false);
 
+        // 预先创建可复用的分数提示，消行时不再新建节点
+        if (groupNotification != null) {
+            notifications = new NotificationPool(groupNotification);
+        }
+        if (groupNotification2 != null) {
+            notifications2 = new NotificationPool(groupNotification2);
+        } else {
+            notifications2 = notifications;
+        }
+
+        // 按渲染质量缓存或去掉光晕效果
+        renderQuality.applyTo((Pane) gameBoard.getParent());
+
         // Reflection effect removed to use CSS DropShadow for neon glow
         // if (scoreLabel != null) {
         //     scoreLabel.setEffect(reflection);
@@ -315,6 +354,11 @@ public class GuiController implements Initializable {
             vsModeButton.setMouseTransparent(false);
             vsModeButton.setDisable(false);
         }
+        if (player2Button != null) {
+            player2Button.setOnAction(e -> cyclePlayer2());
+            player2Button.setMouseTransparent(false);
+            player2Button.setDisable(false);
+        }
         
         // 初始时隐藏玩家2的UI元素
         if (gameBoard2 != null) {
@@ -353,12 +397,12 @@ public class GuiController implements Initializable {
      * @param hardMode true = 困难模式，false = 简单模式
      */
     private void setDifficulty(boolean hardMode) {
-        isHardMode = hardMode;
+        difficulty = hardMode ? new HardDifficultyStrategy() : new EasyDifficultyStrategy();
         updateDifficultyButtonStyle(hardMode);
         
-        // 如果游戏正在进行，更新时间线速度
-        if (timeLine != null && isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-            createTimeline();
+        // 立即应用新的下落速度，游戏循环无需重建
+        if (gameController != null) {
+            changeGame(() -> gameController.setDifficulty(difficulty));
         }
     }
     
@@ -388,29 +432,30 @@ public class GuiController implements Initializable {
      * @param brick Current brick view data
      */
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        // 创建游戏背景显示矩阵
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        // 从第2行开始显示（前两行是隐藏区域）
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT); // 初始为透明
-                displayMatrix[i][j] = rectangle;
-                // 添加到游戏面板，列索引为j，行索引为i-2（因为前两行不显示）
-                gamePanel.add(rectangle, j, i - 2);
-            }
-        }
+        // 创建游戏背景的渲染器
+        boardView = BoardView.create(gamePanel, BRICK_SIZE);
+        boardView.init(boardMatrix);
 
         // 创建当前方块显示矩阵
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        BrickShape shape = brick.getBrickShape();
+        rectangles = new Rectangle[BrickShape.SIZE][BrickShape.SIZE];
+        for (int i = 0; i < BrickShape.SIZE; i++) {
+            for (int j = 0; j < BrickShape.SIZE; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                setRectangleData(brick.getBrickData()[i][j], rectangle, true); // 高亮当前下落方块
+                setRectangleData(shape.getCell(i, j), rectangle, true); // 高亮当前下落方块
                 rectangles[i][j] = rectangle;
                 brickPanel.add(rectangle, j, i);
             }
         }
+        if (ghostPanel == null) {
+            ghostRectangles = new Rectangle[rectangles.length][rectangles[0].length];
+            ghostPanel = createGhostPanel(brickPanel, ghostRectangles);
+        }
+        refreshGhost(ghostPanel, ghostRectangles, brickPanel, brick);
+        if (latencyOverlay == null) {
+            latencyOverlay = new LatencyOverlay((Pane) brickPanel.getParent(), inputLatency, frameTimings);
+            latencyOverlay.setCaption("glow   " + renderQuality.displayName());
+        }
         
         // 设置方块面板的位置（根据方块在游戏板中的位置）
         // 使用gamePanel的boundsInParent来获取在父容器中的位置
@@ -425,119 +470,253 @@ public class GuiController implements Initializable {
         bringBrickPanelsToFront();
 
         // 初始化下一个方块预览
-        initNextBrickPreview(brick.getNextBrickData());
+        initNextBrickPreview(brick.getNextBrickShape());
 
-        // 创建自动下落的时间线动画（根据难度设置速度）
-        createTimeline();
-        createScoreTimeline();
+        // 启动游戏主循环（根据难度设置速度）
+        startGameLoop();
     }
     
     /**
-     * 创建或更新自动下落的时间线动画
-     * 根据当前难度模式设置下降速度
+     * 创建并启动游戏主循环
+     * 按当前难度设置重力和锁定延迟，替代原来的下落和加分两个时间线
      */
-    private void createTimeline() {
-        // 如果已有时间线，先停止
-        if (timeLine != null) {
-            timeLine.stop();
+    private void startGameLoop() {
+        // 如果已有循环，先停止
+        stopGameLoop();
+        if (gameController != null) {
+            gameController.setDifficulty(difficulty);
+        }
+        keys.reset();
+        keys2.reset();
+        simulation = null;
+        simulation2 = null;
+        renderedFrame = null;
+        renderedFrame2 = null;
+        if (useGameThreads && gameController != null) {
+            // 每个玩家一个游戏线程，按键经环形缓冲区送入，渲染读取最新快照
+            simulation = new PlayerSimulation(gameController.getEngine(), keys, eventListener,
+                    gameController::tick, () -> !gameController.isReplaying());
+            GameThread thread = new GameThread("game-player1", simulation);
+            if (isVsMode && gameController.getEngine2() != null) {
+                simulation2 = new PlayerSimulation(gameController.getEngine2(), keys2, gameController.getPlayer2Input(),
+                        gameController::tick2, () -> !gameController.isCpuPlayer2());
+                gameLoop = new GameLoop(this::renderFrame, frameTimings, thread, new GameThread("game-player2", simulation2));
+            } else {
+                gameLoop = new GameLoop(this::renderFrame, frameTimings, thread);
+            }
+        } else {
+            gameLoop = new GameLoop(this::tickGame, this::renderFrame, frameTimings);
         }
+        latencyProbe.cancel();
+        latencyProbe2.cancel();
+        renderedChangeCount = -1;
+        renderedChangeCount2 = -1;
         
-        // 根据难度设置下降间隔：简单模式400ms，困难模式200ms
-        long fallInterval = isHardMode ? 200 : 400;
-        
-        // 创建时间线，同时处理玩家1和玩家2（如果是对战模式）的自动下落
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(fallInterval),
-                ae -> {
-                    // 玩家1自动下落
-                    moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
-                    // 如果是对战模式，玩家2也自动下落
-                    if (isVsMode && gameController != null) {
-                        moveDown2(new MoveEvent(EventType.DOWN, EventSource.THREAD));
-                    }
-                }
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE); // 无限循环
-        
-        // 如果游戏未暂停且未结束，开始播放
+        // 如果游戏未暂停且未结束，开始运行
         if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-            timeLine.play();
+            gameLoop.start();
+        }
+    }
+
+    private void stopGameLoop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
         }
     }
 
     /**
-     * 创建或更新自动加分的时间线动画
-     * 每秒增加1分
+     * 修改游戏状态：启用游戏线程时先停下线程，修改完成后恢复，避免与游戏tick并发
+     * 
+     * @param change 在JavaFX线程上执行的修改
      */
-    private void createScoreTimeline() {
-        // 如果已有时间线，先停止
-        if (scoreTimeline != null) {
-            scoreTimeline.stop();
+    private void changeGame(Runnable change) {
+        if (gameLoop != null) {
+            gameLoop.runExclusive(change);
+        } else {
+            change.run();
         }
-        
-        // 创建时间线，每秒触发一次
-        scoreTimeline = new Timeline(new KeyFrame(
-                Duration.seconds(1),
-                ae -> {
-                    // 玩家1加分
-                    if (gameController != null && gameController.getBoard() != null) {
-                        gameController.getBoard().getScore().add(1);
-                    }
-                    // 如果是对战模式，玩家2也加分
-                    if (isVsMode && gameController != null && gameController.getBoard2() != null) {
-                        gameController.getBoard2().getScore().add(1);
-                    }
-                }
-        ));
-        scoreTimeline.setCycleCount(Timeline.INDEFINITE); // 无限循环
-        
-        // 如果游戏未暂停且未结束，开始播放
-        if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-            scoreTimeline.play();
+    }
+
+    /**
+     * 按下或松开按键：单线程模式直接记入KeyRepeat，使用游戏线程时经环形缓冲区交给游戏线程
+     * 
+     * @param repeat 玩家的按键状态
+     * @param playerSimulation 玩家的模拟，单线程模式下为null
+     * @param action 按键对应的动作
+     * @param pressed true表示按下，false表示松开
+     */
+    private static void pressKey(KeyRepeat repeat, PlayerSimulation playerSimulation, EventType action, boolean pressed) {
+        if (playerSimulation != null) {
+            playerSimulation.offer(action, pressed);
+        } else if (pressed) {
+            repeat.press(action);
+        } else {
+            repeat.release(action);
+        }
+    }
+
+    /**
+     * 把玩家1的按键映射为动作
+     * 
+     * @param code 按键
+     * @return 对应的动作，不是玩家1的按键时为null
+     */
+    private static EventType player1Action(KeyCode code) {
+        switch (code) {
+            case LEFT:
+                return EventType.LEFT;
+            case RIGHT:
+                return EventType.RIGHT;
+            case UP:
+                return EventType.ROTATE;
+            case DOWN:
+                return EventType.DOWN;
+            case ENTER:
+                return EventType.HARD_DROP;
+            default:
+                return null;
         }
     }
 
     /**
-     * 根据方块类型编号获取对应的颜色
-     * 不同的数字代表不同的方块类型和颜色
+     * 把玩家2的按键映射为动作
      * 
-     * @param i 方块类型编号
-     * @return 对应的颜色Paint对象
+     * @param code 按键
+     * @return 对应的动作，不是玩家2的按键时为null
      */
-    private Paint getFillColor(int i) {
-        Paint returnPaint;
-        switch (i) {
-            case 0:
-                returnPaint = Color.TRANSPARENT;
-                break;
-            case 1:
-                returnPaint = Color.rgb(0, 240, 255); // Neon Cyan (I)
-                break;
-            case 2:
-                returnPaint = Color.rgb(180, 0, 255); // Neon Purple (J)
-                break;
-            case 3:
-                returnPaint = Color.rgb(0, 255, 0); // Neon Green (L)
-                break;
-            case 4:
-                returnPaint = Color.rgb(255, 255, 0); // Neon Yellow (O)
-                break;
-            case 5:
-                returnPaint = Color.rgb(255, 0, 80); // Neon Red (S)
-                break;
-            case 6:
-                returnPaint = Color.rgb(255, 0, 255); // Neon Magenta (T)
-                break;
-            case 7:
-                returnPaint = Color.rgb(255, 165, 0); // Neon Orange (Z)
-                break;
+    private static EventType player2Action(KeyCode code) {
+        switch (code) {
+            case A:
+                return EventType.LEFT;
+            case D:
+                return EventType.RIGHT;
+            case W:
+                return EventType.ROTATE;
+            case S:
+                return EventType.DOWN;
+            case E:
+                return EventType.HARD_DROP;
             default:
-                returnPaint = Color.WHITE;
-                break;
+                return null;
+        }
+    }
+
+    /**
+     * 推进一个固定步长的游戏逻辑，同时处理玩家1和玩家2（如果是对战模式）
+     */
+    private void tickGame() {
+        if (gameController == null) {
+            return;
+        }
+        // 先处理按住的键，同一tick内的多次移动在下一帧统一刷新
+        if (!gameController.isReplaying()) {
+            GameEngine engine = gameController.getEngine();
+            long changes = engine.getChangeCount();
+            showClearNotification(keys.tick(eventListener));
+            latencyProbe.inputApplied(System.nanoTime(), engine.getChangeCount() != changes);
+        }
+        showClearNotification(gameController.tick());
+        if (isVsMode) {
+            if (!gameController.isCpuPlayer2()) {
+                GameEngine engine2 = gameController.getEngine2();
+                long changes2 = engine2.getChangeCount();
+                showClearNotification2(keys2.tick(gameController.getPlayer2Input()));
+                latencyProbe2.inputApplied(System.nanoTime(), engine2.getChangeCount() != changes2);
+            }
+            showClearNotification2(gameController.tick2());
         }
-        return returnPaint;
     }
 
+    /**
+     * 每帧渲染一次：只有方块状态变化时才刷新方块显示
+     * 刷新后结束本帧的输入延迟测量，场景图随后在同一脉冲内绘制
+     */
+    private void renderFrame() {
+        if (gameController == null) {
+            return;
+        }
+        if (simulation != null) {
+            renderSnapshots();
+            return;
+        }
+        GameEngine engine = gameController.getEngine();
+        if (engine.getChangeCount() != renderedChangeCount) {
+            renderedChangeCount = engine.getChangeCount();
+            refreshBrick(engine.getViewData());
+        }
+        GameEngine engine2 = gameController.getEngine2();
+        if (isVsMode && engine2 != null && engine2.getChangeCount() != renderedChangeCount2) {
+            renderedChangeCount2 = engine2.getChangeCount();
+            refreshBrick2(engine2.getViewData());
+        }
+        long now = System.nanoTime();
+        latencyProbe.frameRendered(now);
+        latencyProbe2.frameRendered(now);
+        if (latencyOverlay != null) {
+            latencyOverlay.update();
+        }
+    }
+
+    /**
+     * 使用游戏线程时的渲染：读取每个玩家最新的不可变快照，只刷新发生变化的部分
+     * 游戏线程上发生的消行提示和游戏结束也在这里交给界面处理
+     */
+    private void renderSnapshots() {
+        FrameSnapshot frame = simulation.latest();
+        if (frame != null && frame != renderedFrame) {
+            FrameSnapshot previous = renderedFrame;
+            renderedFrame = frame;
+            if (previous == null || previous.getBoardVersion() != frame.getBoardVersion()) {
+                refreshGameBackground(frame.getBoard());
+            }
+            if (previous == null || previous.getChangeCount() != frame.getChangeCount()) {
+                refreshBrick(frame.getViewData());
+            }
+            if (scoreLabel != null && (previous == null || previous.getScore() != frame.getScore())) {
+                scoreLabel.setText(String.valueOf(frame.getScore()));
+            }
+            if (frame.getInputsConsumed() == simulation.getInputsSent()) {
+                latencyProbe.inputApplied(frame.getInputAppliedNanos(), frame.isInputChanged());
+            }
+        }
+        for (ClearRow clearRow = simulation.pollClear(); clearRow != null; clearRow = simulation.pollClear()) {
+            showClearNotification(clearRow);
+        }
+        FrameSnapshot frame2 = simulation2 != null ? simulation2.latest() : null;
+        if (frame2 != null && frame2 != renderedFrame2) {
+            FrameSnapshot previous = renderedFrame2;
+            renderedFrame2 = frame2;
+            if (previous == null || previous.getBoardVersion() != frame2.getBoardVersion()) {
+                refreshGameBackground2(frame2.getBoard());
+            }
+            if (previous == null || previous.getChangeCount() != frame2.getChangeCount()) {
+                refreshBrick2(frame2.getViewData());
+            }
+            if (scoreLabel2 != null && (previous == null || previous.getScore() != frame2.getScore())) {
+                scoreLabel2.setText(String.valueOf(frame2.getScore()));
+            }
+            if (frame2.getInputsConsumed() == simulation2.getInputsSent()) {
+                latencyProbe2.inputApplied(frame2.getInputAppliedNanos(), frame2.isInputChanged());
+            }
+        }
+        if (simulation2 != null) {
+            for (ClearRow clearRow = simulation2.pollClear(); clearRow != null; clearRow = simulation2.pollClear()) {
+                showClearNotification2(clearRow);
+            }
+        }
+        long now = System.nanoTime();
+        latencyProbe.frameRendered(now);
+        latencyProbe2.frameRendered(now);
+        if (latencyOverlay != null) {
+            latencyOverlay.update();
+        }
+        // 最后处理游戏结束，它会停止游戏循环
+        if (frame != null && frame.isGameOver() && isGameOver.getValue() == Boolean.FALSE) {
+            gameOver();
+        } else if (frame2 != null && frame2.isGameOver() && gameOverPanel2 != null && !gameOverPanel2.isVisible()) {
+            gameOver2();
+        }
+    }
 
     /**
      * 刷新当前方块的显示
@@ -560,15 +739,17 @@ public class GuiController implements Initializable {
             
         bringBrickPanelsToFront();
 
-            // 更新方块每个部分的颜色
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j], true);
+            // 更新方块每个部分的颜色，直接读取打包的形状，不复制数组
+            BrickShape shape = brick.getBrickShape();
+            for (int i = 0; i < BrickShape.SIZE; i++) {
+                for (int j = 0; j < BrickShape.SIZE; j++) {
+                    setRectangleData(shape.getCell(i, j), rectangles[i][j], true);
                 }
             }
+            refreshGhost(ghostPanel, ghostRectangles, brickPanel, brick);
             
             // 刷新下一个方块预览
-            refreshNextBrickPreview(brick.getNextBrickData());
+            refreshNextBrickPreview(brick.getNextBrickShape());
         }
     }
 
@@ -579,12 +760,14 @@ public class GuiController implements Initializable {
      * @param board Game board matrix data
      */
     public void refreshGameBackground(int[][] board) {
-        // 从第2行开始更新（前两行是隐藏区域）
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
+        // 在游戏线程上调用时由下一帧的快照负责刷新
+        if (!Platform.isFxApplicationThread()) {
+            return;
         }
+        RenderRefreshEvent event = new RenderRefreshEvent();
+        event.begin();
+        boardView.refresh(board);
+        commitRefresh(event, 1, boardView);
     }
 
     /**
@@ -599,56 +782,19 @@ public class GuiController implements Initializable {
     }
 
     private void setRectangleData(int color, Rectangle rectangle, boolean highlight) {
-        rectangle.setFill(getFillColor(color)); // 设置填充颜色
-        rectangle.setArcHeight(10); // slightly rounder
-        rectangle.setArcWidth(10);
-
-        if (color != 0) {
-            if (highlight) {
-                // Falling block: No glow, but has border
-                rectangle.setEffect(null);
-                rectangle.setStroke(Color.WHITE);
-                rectangle.setStrokeWidth(2);
-                rectangle.setStrokeType(javafx.scene.shape.StrokeType.INSIDE);
-            } else {
-                // Merged block: No glow
-                rectangle.setEffect(null);
-                
-                // Subtle inner stroke
-                rectangle.setStroke(Color.rgb(255, 255, 255, 0.3));
-                rectangle.setStrokeWidth(1);
-                rectangle.setStrokeType(javafx.scene.shape.StrokeType.INSIDE);
-            }
-        } else {
-            rectangle.setEffect(null);
-            rectangle.setStroke(Color.TRANSPARENT);
-            rectangle.setStrokeWidth(0);
-        }
+        CellStyle.apply(rectangle, color, highlight);
     }
 
     /**
-     * 处理方块下落事件
-     * 调用事件监听器处理下落逻辑，显示消除行的分数提示
+     * 如果有行被消除，显示分数提示
      * 
-     * @param event 下落事件对象
+     * @param clearRow 消行结果，可以为null
      */
-    private void moveDown(MoveEvent event) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            // 调用事件监听器处理下落逻辑
-            DownData downData = eventListener.onDownEvent(event);
-            
-            // 如果有行被消除，显示分数提示
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0 && groupNotification != null) {
-                updateNotificationPosition(); // Ensure position is correct
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
-            
-            // 刷新方块显示
-            refreshBrick(downData.getViewData());
+    private void showClearNotification(ClearRow clearRow) {
+        if (clearRow != null && clearRow.getLinesRemoved() > 0 && groupNotification != null) {
+            updateNotificationPosition(); // Ensure position is correct
+            notifications.show("+" + clearRow.getScoreBonus());
         }
-        gamePanel.requestFocus(); // 确保游戏面板保持焦点
     }
 
     /**
@@ -683,12 +829,7 @@ public class GuiController implements Initializable {
             // 调整布局：玩家1移到右侧，玩家2放在左侧
             applyVsLayout();
             // 开启对战模式：结束当前游戏，开始新的对战
-            if (timeLine != null) {
-                timeLine.stop();
-            }
-            if (scoreTimeline != null) {
-                scoreTimeline.stop();
-            }
+            stopGameLoop();
             gameOverPanel.setVisible(false);
             if (groupNotification2 != null) {
                 groupNotification2.setVisible(true);
@@ -711,12 +852,7 @@ public class GuiController implements Initializable {
             // 恢复单人模式布局
             applySinglePlayerLayout();
             // 关闭对战模式：结束当前游戏，回到单人模式
-            if (timeLine != null) {
-                timeLine.stop();
-            }
-            if (scoreTimeline != null) {
-                scoreTimeline.stop();
-            }
+            stopGameLoop();
             gameOverPanel.setVisible(false);
             if (groupNotification2 != null) {
                 groupNotification2.setVisible(false);
@@ -738,6 +874,28 @@ public class GuiController implements Initializable {
         }
     }
     
+    /**
+     * 切换玩家2的控制方式：人类 → 电脑（简单/中等/困难）→ 人类
+     */
+    private void cyclePlayer2() {
+        if (gameController == null) {
+            return;
+        }
+        AiStrength current = gameController.getCpuStrength();
+        AiStrength next;
+        if (current == null) {
+            next = AiStrength.values()[0];
+        } else if (current.ordinal() + 1 < AiStrength.values().length) {
+            next = AiStrength.values()[current.ordinal() + 1];
+        } else {
+            next = null;
+        }
+        AiStrength strength = next;
+        changeGame(() -> gameController.setCpuStrength(strength));
+        player2Button.setText(next == null ? "P2: Human" : "P2: CPU " + next.getDisplayName());
+        gamePanel.requestFocus();
+    }
+
     /**
      * Initialize versus mode view (Player 2)
      */
@@ -765,27 +923,26 @@ public class GuiController implements Initializable {
             pausePanel2.setVisible(false);
         }
         
-        // 创建玩家2的游戏背景显示矩阵
-        displayMatrix2 = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix2[i][j] = rectangle;
-                gamePanel2.add(rectangle, j, i - 2);
-            }
-        }
+        // 创建玩家2的游戏背景渲染器
+        boardView2 = BoardView.create(gamePanel2, BRICK_SIZE);
+        boardView2.init(boardMatrix);
         
         // 创建玩家2的当前方块显示矩阵
-        rectangles2 = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        BrickShape shape = brick.getBrickShape();
+        rectangles2 = new Rectangle[BrickShape.SIZE][BrickShape.SIZE];
+        for (int i = 0; i < BrickShape.SIZE; i++) {
+            for (int j = 0; j < BrickShape.SIZE; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                setRectangleData(brick.getBrickData()[i][j], rectangle, true);
+                setRectangleData(shape.getCell(i, j), rectangle, true);
                 rectangles2[i][j] = rectangle;
                 brickPanel2.add(rectangle, j, i);
             }
         }
+        if (ghostPanel2 == null) {
+            ghostRectangles2 = new Rectangle[rectangles2.length][rectangles2[0].length];
+            ghostPanel2 = createGhostPanel(brickPanel2, ghostRectangles2);
+        }
+        refreshGhost(ghostPanel2, ghostRectangles2, brickPanel2, brick);
         
         // 设置玩家2方块面板的位置
         // 使用gamePanel2的boundsInParent来获取在父容器中的位置
@@ -799,7 +956,7 @@ public class GuiController implements Initializable {
         
         // 初始化玩家2的下一个方块预览
         if (nextBrickPanel2 != null) {
-            initNextBrickPreview2(brick.getNextBrickData());
+            initNextBrickPreview2(brick.getNextBrickShape());
         }
 
         // 确保通知组在布局完成后定位到玩家2棋盘内部
@@ -840,7 +997,7 @@ public class GuiController implements Initializable {
             pausePanel2.setVisible(false);
         }
         
-        displayMatrix2 = null;
+        boardView2 = null;
         rectangles2 = null;
         nextBrickRectangles2 = null;
     }
@@ -863,63 +1020,89 @@ public class GuiController implements Initializable {
 
             bringBrickPanelsToFront();
             
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles2[i][j], true);
+            BrickShape shape = brick.getBrickShape();
+            for (int i = 0; i < BrickShape.SIZE; i++) {
+                for (int j = 0; j < BrickShape.SIZE; j++) {
+                    setRectangleData(shape.getCell(i, j), rectangles2[i][j], true);
                 }
             }
+            refreshGhost(ghostPanel2, ghostRectangles2, brickPanel2, brick);
             
             if (nextBrickPanel2 != null) {
-                refreshNextBrickPreview2(brick.getNextBrickData());
+                refreshNextBrickPreview2(brick.getNextBrickShape());
             }
         }
     }
     
     /**
-     * 处理玩家2的方块下落事件
+     * 玩家2消行时显示分数提示
+     * 
+     * @param clearRow 消行结果，可以为null
      */
-    private void moveDown2(MoveEvent event) {
-        if (isPause.getValue() == Boolean.FALSE && gameController != null) {
-            DownData downData = gameController.onDownEvent2(event);
-            
-            if (downData != null) {
-                if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                    updateNotificationPosition(); // Ensure position is correct
-                    NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                    Group targetGroup = groupNotification2 != null ? groupNotification2 : groupNotification;
-                    if (targetGroup != null) {
-                        targetGroup.setVisible(true); // Ensure visible
-                        targetGroup.getChildren().add(notificationPanel);
-                        notificationPanel.showScore(targetGroup.getChildren());
-                        targetGroup.toFront(); // Ensure on top
-                    }
-                }
-                
-                refreshBrick2(downData.getViewData());
+    private void showClearNotification2(ClearRow clearRow) {
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            updateNotificationPosition(); // Ensure position is correct
+            Group targetGroup = groupNotification2 != null ? groupNotification2 : groupNotification;
+            if (targetGroup != null) {
+                targetGroup.setVisible(true); // Ensure visible
+                notifications2.show("+" + clearRow.getScoreBonus());
+                targetGroup.toFront(); // Ensure on top
             }
         }
-        gamePanel.requestFocus();
     }
     
     /**
      * Refresh Player 2's game background display
      */
     public void refreshGameBackground2(int[][] board) {
-        if (displayMatrix2 != null) {
-            for (int i = 2; i < board.length; i++) {
-                for (int j = 0; j < board[i].length; j++) {
-                    setRectangleData(board[i][j], displayMatrix2[i][j]);
-                }
-            }
+        if (boardView2 != null && Platform.isFxApplicationThread()) {
+            RenderRefreshEvent event = new RenderRefreshEvent();
+            event.begin();
+            boardView2.refresh(board);
+            commitRefresh(event, 2, boardView2);
+        }
+    }
+
+    /**
+     * 结束并提交一次背景刷新的JFR事件
+     * 
+     * @param event 已开始计时的事件
+     * @param player 玩家编号
+     * @param view 刚刷新的渲染器
+     */
+    private static void commitRefresh(RenderRefreshEvent event, int player, BoardView view) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = player;
+            event.cellsUpdated = view.getLastUpdateCount();
+            event.commit();
         }
     }
     
+    /**
+     * Gets the number of board cell redraws and node moves made by the renderers, for monitoring.
+     * 
+     * @return the total update count of both boards
+     */
+    public long getBoardUpdateCount() {
+        long count = boardView != null ? boardView.getTotalUpdateCount() : 0;
+        if (boardView2 != null) {
+            count += boardView2.getTotalUpdateCount();
+        }
+        return count;
+    }
+    
     /**
      * Bind Player 2's score display
      */
-    public void bindScore2(IntegerProperty integerProperty) {
+    public void bindScore2(Score score) {
         if (scoreLabel2 != null) {
-            scoreLabel2.textProperty().bind(integerProperty.asString());
+            scoreLabel2.setText(String.valueOf(score.getValue()));
+            score.addListener(value -> {
+                if (Platform.isFxApplicationThread()) {
+                    scoreLabel2.setText(String.valueOf(value));
+                }
+            });
         }
     }
     
@@ -927,12 +1110,11 @@ public class GuiController implements Initializable {
      * Handle Player 2 game over
      */
     public void gameOver2() {
-        if (timeLine != null) {
-            timeLine.stop();
-        }
-        if (scoreTimeline != null) {
-            scoreTimeline.stop();
+        // 在游戏线程上调用时由快照中的游戏结束标志处理
+        if (!Platform.isFxApplicationThread()) {
+            return;
         }
+        stopGameLoop();
         if (groupNotification2 != null) {
             groupNotification2.setVisible(true);
         }
@@ -944,20 +1126,17 @@ public class GuiController implements Initializable {
     /**
      * 初始化玩家2的下一个方块预览
      */
-    private void initNextBrickPreview2(int[][] nextBrickData) {
+    private void initNextBrickPreview2(BrickShape nextBrickData) {
         if (nextBrickPanel2 != null && nextBrickData != null) {
             nextBrickPanel2.getChildren().clear();
             
-            if (nextBrickData.length > 0 && nextBrickData[0].length > 0) {
-                nextBrickRectangles2 = new Rectangle[nextBrickData.length][nextBrickData[0].length];
-                for (int i = 0; i < nextBrickData.length; i++) {
-                    for (int j = 0; j < nextBrickData[i].length; j++) {
-                        Rectangle rectangle = new Rectangle(BRICK_SIZE - 2, BRICK_SIZE - 2);
-                        rectangle.setFill(getFillColor(nextBrickData[i][j]));
-                        setRectangleData(nextBrickData[i][j], rectangle);
-                        nextBrickRectangles2[i][j] = rectangle;
-                        nextBrickPanel2.add(rectangle, j, i);
-                    }
+            nextBrickRectangles2 = new Rectangle[BrickShape.SIZE][BrickShape.SIZE];
+            for (int i = 0; i < BrickShape.SIZE; i++) {
+                for (int j = 0; j < BrickShape.SIZE; j++) {
+                    Rectangle rectangle = new Rectangle(BRICK_SIZE - 2, BRICK_SIZE - 2);
+                    setRectangleData(nextBrickData.getCell(i, j), rectangle);
+                    nextBrickRectangles2[i][j] = rectangle;
+                    nextBrickPanel2.add(rectangle, j, i);
                 }
             }
         }
@@ -966,11 +1145,11 @@ public class GuiController implements Initializable {
     /**
      * 刷新玩家2的下一个方块预览
      */
-    private void refreshNextBrickPreview2(int[][] nextBrickData) {
+    private void refreshNextBrickPreview2(BrickShape nextBrickData) {
         if (nextBrickPanel2 != null && nextBrickData != null && nextBrickRectangles2 != null) {
-            for (int i = 0; i < nextBrickData.length && i < nextBrickRectangles2.length; i++) {
-                for (int j = 0; j < nextBrickData[i].length && j < nextBrickRectangles2[i].length; j++) {
-                    setRectangleData(nextBrickData[i][j], nextBrickRectangles2[i][j]);
+            for (int i = 0; i < BrickShape.SIZE && i < nextBrickRectangles2.length; i++) {
+                for (int j = 0; j < BrickShape.SIZE && j < nextBrickRectangles2[i].length; j++) {
+                    setRectangleData(nextBrickData.getCell(i, j), nextBrickRectangles2[i][j]);
                 }
             }
         }
@@ -978,14 +1157,20 @@ public class GuiController implements Initializable {
 
     /**
      * Bind score display
-     * Binds score property to Label for real-time updates
+     * Observes the score so the Label is updated whenever it changes
      * 
-     * @param integerProperty Score property
+     * @param score the score of player 1
      */
-    public void bindScore(IntegerProperty integerProperty) {
+    public void bindScore(Score score) {
         if (scoreLabel != null) {
-            // 将分数属性绑定到Label的文本属性，使用StringConverter格式化
-            scoreLabel.textProperty().bind(integerProperty.asString());
+            // 分数本身不依赖JavaFX，由监听器把变化写入Label
+            scoreLabel.setText(String.valueOf(score.getValue()));
+            // 游戏线程上的变化由快照写入Label
+            score.addListener(value -> {
+                if (Platform.isFxApplicationThread()) {
+                    scoreLabel.setText(String.valueOf(value));
+                }
+            });
         }
     }
 
@@ -993,24 +1178,21 @@ public class GuiController implements Initializable {
      * 初始化下一个方块预览
      * 创建下一个方块的显示矩阵
      * 
-     * @param nextBrickData 下一个方块的数据矩阵
+     * @param nextBrickData 下一个方块的形状
      */
-    private void initNextBrickPreview(int[][] nextBrickData) {
+    private void initNextBrickPreview(BrickShape nextBrickData) {
         if (nextBrickPanel != null && nextBrickData != null) {
             // 清除之前的预览
             nextBrickPanel.getChildren().clear();
             
             // 创建下一个方块显示矩阵
-            if (nextBrickData.length > 0 && nextBrickData[0].length > 0) {
-                nextBrickRectangles = new Rectangle[nextBrickData.length][nextBrickData[0].length];
-                for (int i = 0; i < nextBrickData.length; i++) {
-                    for (int j = 0; j < nextBrickData[i].length; j++) {
-                        Rectangle rectangle = new Rectangle(BRICK_SIZE - 2, BRICK_SIZE - 2);
-                        rectangle.setFill(getFillColor(nextBrickData[i][j]));
-                        setRectangleData(nextBrickData[i][j], rectangle);
-                        nextBrickRectangles[i][j] = rectangle;
-                        nextBrickPanel.add(rectangle, j, i);
-                    }
+            nextBrickRectangles = new Rectangle[BrickShape.SIZE][BrickShape.SIZE];
+            for (int i = 0; i < BrickShape.SIZE; i++) {
+                for (int j = 0; j < BrickShape.SIZE; j++) {
+                    Rectangle rectangle = new Rectangle(BRICK_SIZE - 2, BRICK_SIZE - 2);
+                    setRectangleData(nextBrickData.getCell(i, j), rectangle);
+                    nextBrickRectangles[i][j] = rectangle;
+                    nextBrickPanel.add(rectangle, j, i);
                 }
             }
         }
@@ -1020,13 +1202,13 @@ public class GuiController implements Initializable {
      * 刷新下一个方块预览
      * 更新下一个方块的显示
      * 
-     * @param nextBrickData 下一个方块的数据矩阵
+     * @param nextBrickData 下一个方块的形状
      */
-    private void refreshNextBrickPreview(int[][] nextBrickData) {
+    private void refreshNextBrickPreview(BrickShape nextBrickData) {
         if (nextBrickPanel != null && nextBrickData != null && nextBrickRectangles != null) {
-            for (int i = 0; i < nextBrickData.length && i < nextBrickRectangles.length; i++) {
-                for (int j = 0; j < nextBrickData[i].length && j < nextBrickRectangles[i].length; j++) {
-                    setRectangleData(nextBrickData[i][j], nextBrickRectangles[i][j]);
+            for (int i = 0; i < BrickShape.SIZE && i < nextBrickRectangles.length; i++) {
+                for (int j = 0; j < BrickShape.SIZE && j < nextBrickRectangles[i].length; j++) {
+                    setRectangleData(nextBrickData.getCell(i, j), nextBrickRectangles[i][j]);
                 }
             }
         }
@@ -1037,10 +1219,11 @@ public class GuiController implements Initializable {
      * Stops automatic descent animation, displays game over panel
      */
     public void gameOver() {
-        timeLine.stop(); // 停止自动下落
-        if (scoreTimeline != null) {
-            scoreTimeline.stop(); // 停止自动加分
+        // 在游戏线程上调用时由快照中的游戏结束标志处理
+        if (!Platform.isFxApplicationThread()) {
+            return;
         }
+        stopGameLoop(); // 停止游戏循环（自动下落和自动加分）
         gameOverPanel.setVisible(true); // 显示游戏结束面板
         isGameOver.setValue(Boolean.TRUE); // 设置游戏结束状态
     }
@@ -1055,10 +1238,7 @@ public class GuiController implements Initializable {
         final boolean wasPaused = isPause.getValue();
         final boolean[] wasPlaying = {false};
         if (isGameOver.getValue() == Boolean.FALSE && !wasPaused) {
-            timeLine.pause();
-            if (scoreTimeline != null) {
-                scoreTimeline.pause();
-            }
+            stopGameLoop();
             wasPlaying[0] = true;
         }
         
@@ -1082,12 +1262,7 @@ public class GuiController implements Initializable {
      * @param actionEvent 动作事件（未使用）
      */
     private void startNewGameDirectly(ActionEvent actionEvent) {
-        if (timeLine != null) {
-            timeLine.stop(); // 停止当前动画
-        }
-        if (scoreTimeline != null) {
-            scoreTimeline.stop();
-        }
+        stopGameLoop(); // 停止当前游戏循环
         gameOverPanel.setVisible(false); // 隐藏游戏结束面板
         if (gameOverPanel2 != null) {
             gameOverPanel2.setVisible(false);
@@ -1105,23 +1280,22 @@ public class GuiController implements Initializable {
         // 通过触发一次空的下落事件来获取当前视图数据
         DownData downData = eventListener.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
         if (downData != null && downData.getViewData() != null) {
-            initNextBrickPreview(downData.getViewData().getNextBrickData());
+            initNextBrickPreview(downData.getViewData().getNextBrickShape());
         }
         
         // 如果是对战模式，也初始化玩家2的下一个方块预览
         if (isVsMode && gameController != null && gameController.getBoard2() != null) {
             DownData downData2 = gameController.onDownEvent2(new MoveEvent(EventType.DOWN, EventSource.THREAD));
             if (downData2 != null && downData2.getViewData() != null) {
-                initNextBrickPreview2(downData2.getViewData().getNextBrickData());
+                initNextBrickPreview2(downData2.getViewData().getNextBrickShape());
             }
         }
         
         isPause.setValue(Boolean.FALSE); // 取消暂停状态
         isGameOver.setValue(Boolean.FALSE); // 取消游戏结束状态
         
-        // 根据当前难度重新创建时间线
-        createTimeline();
-        createScoreTimeline();
+        // 根据当前难度重新启动游戏循环
+        startGameLoop();
         
         
         refreshCurrentBricksPosition(); // 确保方块位置与最新布局一致
@@ -1209,7 +1383,66 @@ public class GuiController implements Initializable {
         notificationGroup.toFront();
     }
 
+    /**
+     * 在方块面板旁创建幽灵方块面板
+     * 幽灵面板的位置与可见性绑定到方块面板，刷新时只需设置竖直偏移和颜色
+     * 
+     * @param panel 当前方块面板
+     * @param cells 用于保存幽灵格子的数组
+     * @return 幽灵方块面板
+     */
+    private GridPane createGhostPanel(GridPane panel, Rectangle[][] cells) {
+        GridPane ghost = new GridPane();
+        ghost.setHgap(panel.getHgap());
+        ghost.setVgap(panel.getVgap());
+        ghost.setMouseTransparent(true);
+        for (int i = 0; i < cells.length; i++) {
+            for (int j = 0; j < cells[i].length; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                CellStyle.applyGhost(rectangle, 0);
+                cells[i][j] = rectangle;
+                ghost.add(rectangle, j, i);
+            }
+        }
+        ghost.layoutXProperty().bind(panel.layoutXProperty());
+        ghost.layoutYProperty().bind(panel.layoutYProperty());
+        ghost.visibleProperty().bind(panel.visibleProperty());
+        if (panel.getParent() instanceof Pane) {
+            Pane parent = (Pane) panel.getParent();
+            parent.getChildren().add(parent.getChildren().indexOf(panel), ghost);
+        }
+        return ghost;
+    }
+
+    /**
+     * 把幽灵方块移动到当前方块的落点并更新形状
+     * 落点由棋盘按列高度直接算出，这里只做一次平移
+     * 
+     * @param ghost 幽灵方块面板
+     * @param cells 幽灵格子
+     * @param panel 当前方块面板
+     * @param brick 包含落点的视图数据
+     */
+    private void refreshGhost(GridPane ghost, Rectangle[][] cells, GridPane panel, ViewData brick) {
+        if (ghost == null) {
+            return;
+        }
+        ghost.setTranslateY((brick.getGhostYPosition() - brick.getyPosition()) * (panel.getVgap() + BRICK_SIZE));
+        BrickShape shape = brick.getBrickShape();
+        for (int i = 0; i < BrickShape.SIZE; i++) {
+            for (int j = 0; j < BrickShape.SIZE; j++) {
+                CellStyle.applyGhost(cells[i][j], shape.getCell(i, j));
+            }
+        }
+    }
+
     private void bringBrickPanelsToFront() {
+        if (ghostPanel != null) {
+            ghostPanel.toFront();
+        }
+        if (ghostPanel2 != null) {
+            ghostPanel2.toFront();
+        }
         if (brickPanel != null) {
             brickPanel.toFront();
         }
@@ -1252,6 +1485,20 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus(); // 保持焦点
     }
 
+    /**
+     * 切换光晕渲染质量，并清空帧耗时统计，使F3调试信息只反映新质量下的帧
+     *
+     * @param quality 新的渲染质量
+     */
+    private void changeRenderQuality(RenderQuality quality) {
+        renderQuality = quality;
+        quality.applyTo((Pane) gameBoard.getParent());
+        frameTimings.reset();
+        if (latencyOverlay != null) {
+            latencyOverlay.setCaption("glow   " + quality.displayName());
+        }
+    }
+
     /**
      * 切换暂停/继续状态
      * 暂停时停止自动下落动画，继续时恢复动画
@@ -1260,10 +1507,7 @@ public class GuiController implements Initializable {
         if (isGameOver.getValue() == Boolean.FALSE) {
             if (isPause.getValue() == Boolean.FALSE) {
                 // 暂停游戏
-                timeLine.pause();
-                if (scoreTimeline != null) {
-                    scoreTimeline.pause();
-                }
+                stopGameLoop();
                 isPause.setValue(Boolean.TRUE);
                 if (pausePanel != null) {
                     pausePanel.setVisible(true); // 显示暂停提示
@@ -1273,11 +1517,8 @@ public class GuiController implements Initializable {
                 // }
             } else {
                 // 继续游戏
-                timeLine.play();
-                if (scoreTimeline != null) {
-                    scoreTimeline.play();
-                }
                 isPause.setValue(Boolean.FALSE);
+                gameLoop.start();
                 if (pausePanel != null) {
                     pausePanel.setVisible(false); // 隐藏暂停提示
                 }
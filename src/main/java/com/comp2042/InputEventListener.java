@@ -38,6 +38,14 @@ public interface InputEventListener {
      */
     ViewData onRotateEvent(MoveEvent event);
 
+    /**
+     * Handles the hard drop event when the user presses the hard drop key.
+     * 
+     * @param event the movement event containing event source information
+     * @return DownData containing information about cleared rows and updated view state
+     */
+    DownData onHardDropEvent(MoveEvent event);
+
     /**
      * Creates and initializes a new game, resetting all game state.
      */
@@ -0,0 +1,234 @@
+package com.comp2042;
+
+/**
+ * Turns key presses and releases into moves on game ticks, with Delayed Auto Shift (DAS) and
+ * Auto Repeat Rate (ARR) measured in ticks instead of the operating system's key repeat.
+ *
+ * A pressed key moves the brick once on the next tick, even if it was released before that tick.
+ * Holding left or right moves again after the DAS delay and then every ARR ticks; an ARR of 0
+ * slides the brick to the wall at once. When both directions are held, the one pressed last wins.
+ * Holding down soft-drops every few ticks, and rotation and hard drop never repeat. Repeated press events sent
+ * by the operating system for a held key are ignored, so the keyboard settings have no effect.
+ *
+ * All methods must be called from the game thread.
+ */
+public final class KeyRepeat {
+
+    /** System property holding the DAS delay in ticks. */
+    public static final String DAS_PROPERTY = "tetris.das";
+
+    /** System property holding the ARR interval in ticks; 0 slides instantly. */
+    public static final String ARR_PROPERTY = "tetris.arr";
+
+    /** System property holding the soft-drop interval in ticks. */
+    public static final String SOFT_DROP_PROPERTY = "tetris.softdrop";
+
+    /** Default DAS delay: 10 ticks, about 167 ms. */
+    public static final int DEFAULT_DAS = 10;
+
+    /** Default ARR interval: 2 ticks, 30 cells per second. */
+    public static final int DEFAULT_ARR = 2;
+
+    /** Default soft-drop interval: 2 ticks, 30 rows per second. */
+    public static final int DEFAULT_SOFT_DROP = 2;
+
+    // ARR为0时一个tick内最多移动的格数，足够从一侧滑到另一侧
+    private static final int MAX_SLIDE = 64;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    private final int das;
+    private final int arr;
+    private final int softDrop;
+
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private boolean downHeld;
+    // 上个tick之后按下的键，即使已松开也要执行一次
+    private EventType pendingShift;
+    private boolean pendingDown;
+    private boolean pendingRotate;
+    private boolean pendingHardDrop;
+    // 当前按住的横移方向；null表示没有
+    private EventType shiftDirection;
+    private int shiftTicks;
+    private int downTicks;
+
+    /**
+     * Constructs a new KeyRepeat.
+     *
+     * @param das the ticks a direction must be held before it repeats
+     * @param arr the ticks between repeated moves, or 0 to slide to the wall
+     * @param softDrop the ticks between soft-drop steps while down is held
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    public KeyRepeat(int das, int arr, int softDrop) {
+        if (das < 1 || arr < 0 || softDrop < 1) {
+            throw new IllegalArgumentException("DAS and soft drop must be at least 1 tick and ARR at least 0");
+        }
+        this.das = das;
+        this.arr = arr;
+        this.softDrop = softDrop;
+    }
+
+    /**
+     * Constructs a KeyRepeat with the timings set by the system properties, or the defaults.
+     *
+     * @return the key repeat
+     */
+    public static KeyRepeat fromProperties() {
+        return new KeyRepeat(Integer.getInteger(DAS_PROPERTY, DEFAULT_DAS),
+                Integer.getInteger(ARR_PROPERTY, DEFAULT_ARR),
+                Integer.getInteger(SOFT_DROP_PROPERTY, DEFAULT_SOFT_DROP));
+    }
+
+    /**
+     * Records that a key was pressed.
+     *
+     * @param type the action of the key
+     */
+    public void press(EventType type) {
+        switch (type) {
+            case LEFT:
+                if (!leftHeld) {
+                    leftHeld = true;
+                    startShift(EventType.LEFT);
+                }
+                break;
+            case RIGHT:
+                if (!rightHeld) {
+                    rightHeld = true;
+                    startShift(EventType.RIGHT);
+                }
+                break;
+            case DOWN:
+                if (!downHeld) {
+                    downHeld = true;
+                    pendingDown = true;
+                }
+                break;
+            case HARD_DROP:
+                pendingHardDrop = true;
+                break;
+            default:
+                pendingRotate = true;
+                break;
+        }
+    }
+
+    /**
+     * Records that a key was released.
+     *
+     * @param type the action of the key
+     */
+    public void release(EventType type) {
+        switch (type) {
+            case LEFT:
+                leftHeld = false;
+                if (shiftDirection == EventType.LEFT) {
+                    // 另一方向仍按住时，从头计算它的DAS
+                    shiftDirection = rightHeld ? EventType.RIGHT : null;
+                    shiftTicks = 0;
+                }
+                break;
+            case RIGHT:
+                rightHeld = false;
+                if (shiftDirection == EventType.RIGHT) {
+                    shiftDirection = leftHeld ? EventType.LEFT : null;
+                    shiftTicks = 0;
+                }
+                break;
+            case DOWN:
+                downHeld = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Forgets all held and pending keys, e.g. when a new game starts.
+     */
+    public void reset() {
+        leftHeld = false;
+        rightHeld = false;
+        downHeld = false;
+        pendingShift = null;
+        pendingDown = false;
+        pendingRotate = false;
+        pendingHardDrop = false;
+        shiftDirection = null;
+        shiftTicks = 0;
+        downTicks = 0;
+    }
+
+    /**
+     * Applies the moves due in this tick. Should be called before the engine's own tick, so the
+     * moves of one tick are all shown in the next rendered frame.
+     *
+     * @param input the listener that moves the brick
+     * @return the cleared rows if a drop locked the brick, or null otherwise
+     */
+    public ClearRow tick(InputEventListener input) {
+        if (pendingRotate) {
+            pendingRotate = false;
+            input.onRotateEvent(ROTATE);
+        }
+        if (pendingShift != null) {
+            shift(input, pendingShift, 1);
+            pendingShift = null;
+        } else if (shiftDirection != null) {
+            shiftTicks++;
+            if (shiftTicks >= das) {
+                if (arr == 0) {
+                    shift(input, shiftDirection, MAX_SLIDE);
+                } else if ((shiftTicks - das) % arr == 0) {
+                    shift(input, shiftDirection, 1);
+                }
+            }
+        }
+        // 硬降在横移之后执行，同一tick内先移动再落下
+        if (pendingHardDrop) {
+            pendingHardDrop = false;
+            pendingDown = false;
+            DownData downData = input.onHardDropEvent(HARD_DROP);
+            return downData != null ? downData.getClearRow() : null;
+        }
+        if (pendingDown) {
+            pendingDown = false;
+            downTicks = 0;
+            return softDrop(input);
+        }
+        if (downHeld && ++downTicks % softDrop == 0) {
+            return softDrop(input);
+        }
+        return null;
+    }
+
+    private void startShift(EventType direction) {
+        shiftDirection = direction;
+        shiftTicks = 0;
+        pendingShift = direction;
+    }
+
+    private static void shift(InputEventListener input, EventType direction, int cells) {
+        int lastX = Integer.MIN_VALUE;
+        for (int i = 0; i < cells; i++) {
+            ViewData view = direction == EventType.LEFT ? input.onLeftEvent(LEFT) : input.onRightEvent(RIGHT);
+            // 撞墙后停止
+            if (view == null || view.getxPosition() == lastX) {
+                return;
+            }
+            lastX = view.getxPosition();
+        }
+    }
+
+    private static ClearRow softDrop(InputEventListener input) {
+        DownData downData = input.onDownEvent(DOWN);
+        return downData != null ? downData.getClearRow() : null;
+    }
+}
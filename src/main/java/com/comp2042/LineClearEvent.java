@@ -0,0 +1,23 @@
+package com.comp2042;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for removing complete rows; its duration is the clear and compaction time.
+ * Checks that remove nothing are not recorded.
+ */
+@Name("com.comp2042.LineClear")
+@Label("Line Clear")
+@Category({"Tetris", "Board"})
+@Description("Complete rows removed from the board")
+@StackTrace(false)
+final class LineClearEvent extends Event {
+
+    @Label("Rows Removed")
+    int rowsRemoved;
+}
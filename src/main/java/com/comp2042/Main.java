@@ -30,6 +30,29 @@ public class Main extends Application {
     @Override
     public void start(Stage primaryStage) throws Exception {
 
+        // 命令行参数 --renderer=canvas 选择Canvas渲染器（也可直接设置系统属性）
+        String renderer = getParameters().getNamed().get("renderer");
+        if (renderer != null) {
+            System.setProperty(BoardView.RENDERER_PROPERTY, renderer);
+        }
+        // --seed=<数字> 固定方块序列，便于复现对局
+        String seed = getParameters().getNamed().get("seed");
+        if (seed != null) {
+            System.setProperty(GameController.SEED_PROPERTY, seed);
+        }
+        // --replay-dir=<目录> 保存每局录像；--replay=<文件> --replay-speed=<倍速> 启动时重放录像
+        setPropertyFromParameter("replay-dir", GameController.REPLAY_DIR_PROPERTY);
+        setPropertyFromParameter("replay", GameController.REPLAY_PROPERTY);
+        setPropertyFromParameter("replay-speed", GameController.REPLAY_SPEED_PROPERTY);
+        // --das= --arr= --softdrop= 以tick为单位设置按住方向键时的重复节奏
+        setPropertyFromParameter("das", KeyRepeat.DAS_PROPERTY);
+        setPropertyFromParameter("arr", KeyRepeat.ARR_PROPERTY);
+        setPropertyFromParameter("softdrop", KeyRepeat.SOFT_DROP_PROPERTY);
+        // --game-thread=true 在独立线程上运行游戏逻辑（对战时每个玩家一个线程）
+        setPropertyFromParameter("game-thread", GameThread.ENABLED_PROPERTY);
+        // --render-quality=high|balanced|low 光晕实时渲染、缓存为位图或关闭
+        setPropertyFromParameter("render-quality", RenderQuality.PROPERTY);
+
         // 获取FXML布局文件的URL路径
         URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
         ResourceBundle resources = null; // 不使用资源包，设为null
@@ -63,6 +86,13 @@ public class Main extends Application {
         new GameController(c);
     }
 
+    private void setPropertyFromParameter(String parameter, String property) {
+        String value = getParameters().getNamed().get(parameter);
+        if (value != null) {
+            System.setProperty(property, value);
+        }
+    }
+
     /**
      * Main entry point of the program.
      * Launches the JavaFX application.
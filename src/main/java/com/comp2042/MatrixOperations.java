@@ -6,6 +6,8 @@ import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.comp2042.logic.bricks.BrickShape;
+
 /**
  * Utility class providing static methods for matrix operations used in the Tetris game.
  * Includes methods for collision detection, matrix copying, merging, and row clearing.
@@ -42,6 +44,27 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a precomputed brick shape intersects with the board boundaries or existing blocks.
+     * Only the filled cells of the shape are visited, and nothing is allocated.
+     * 
+     * @param matrix the game board matrix
+     * @param shape the packed brick shape to check
+     * @param x the x-coordinate (column) where the brick would be placed
+     * @param y the y-coordinate (row) where the brick would be placed
+     * @return true if there is an intersection (collision), false otherwise
+     */
+    public static boolean intersect(final int[][] matrix, final BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int targetX = x + shape.getCellColumn(i);
+            int targetY = y + shape.getCellRow(i);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if the specified coordinates are out of bounds for the given matrix.
      * 
@@ -98,6 +121,23 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Merges a precomputed brick shape into the game board at the specified position.
+     * 
+     * @param filledFields the current game board matrix
+     * @param shape the packed brick shape to merge
+     * @param x the x-coordinate (column) where the brick should be merged
+     * @param y the y-coordinate (row) where the brick should be merged
+     * @return a new matrix with the brick merged into the board
+     */
+    public static int[][] merge(int[][] filledFields, BrickShape shape, int x, int y) {
+        int[][] copy = copy(filledFields);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            copy[y + shape.getCellRow(i)][x + shape.getCellColumn(i)] = shape.getColor();
+        }
+        return copy;
+    }
+
     /**
      * Checks for and removes complete rows from the game board.
      * Calculates the score bonus based on the number of rows cleared.
@@ -133,10 +173,20 @@ public class MatrixOperations {
                 break;
             }
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
+        int scoreBonus = calculateScoreBonus(clearedRows.size());
         return new ClearRow(clearedRows.size(), tmp, scoreBonus);
     }
 
+    /**
+     * Calculates the score bonus for clearing the given number of rows at once.
+     * 
+     * @param linesRemoved the number of rows cleared by a single brick
+     * @return the score bonus (50 points times the square of the cleared rows)
+     */
+    public static int calculateScoreBonus(int linesRemoved) {
+        return 50 * linesRemoved * linesRemoved;
+    }
+
     /**
      * Creates a deep copy of a list of 2D integer arrays.
      * 
@@ -0,0 +1,25 @@
+package com.comp2042;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for resetting the boards for a new game.
+ */
+@Name("com.comp2042.NewGame")
+@Label("New Game")
+@Category({"Tetris", "Game"})
+@Description("Boards reset for a new game")
+@StackTrace(false)
+final class NewGameEvent extends Event {
+
+    @Label("Seed")
+    long seed;
+
+    @Label("Versus")
+    boolean versus;
+}
@@ -0,0 +1,46 @@
+package com.comp2042;
+
+import javafx.scene.Group;
+
+/**
+ * Fixed set of reusable score notifications in one notification group.
+ *
+ * Creating a notification per line clear built new nodes and applied CSS to them in the middle of
+ * play, which caused visible hitches when clears came in bursts. The pool adds its panels to the
+ * group once, hidden, and replays them in turn; as every notification plays for the same time, the
+ * next panel in turn is always the one shown longest ago.
+ */
+final class NotificationPool {
+
+    /** Number of panels per group; more than can be readable on screen at once. */
+    static final int SIZE = 4;
+
+    private final NotificationPanel[] panels = new NotificationPanel[SIZE];
+    private int next;
+
+    /**
+     * Creates the panels and adds them, hidden, to a group.
+     *
+     * @param group the group that shows the notifications
+     */
+    NotificationPool(Group group) {
+        for (int i = 0; i < SIZE; i++) {
+            panels[i] = new NotificationPanel("");
+            panels[i].setVisible(false);
+            group.getChildren().add(panels[i]);
+        }
+    }
+
+    /**
+     * Shows a notification, reusing the panel shown longest ago.
+     *
+     * @param text the notification text, e.g. "+100"
+     */
+    void show(String text) {
+        NotificationPanel panel = panels[next];
+        next = (next + 1) % SIZE;
+        // 最新的提示显示在最上层
+        panel.toFront();
+        panel.show(text);
+    }
+}
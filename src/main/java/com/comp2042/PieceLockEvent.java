@@ -0,0 +1,28 @@
+package com.comp2042;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for merging the current brick into the board; its duration is the merge time.
+ */
+@Name("com.comp2042.PieceLock")
+@Label("Piece Lock")
+@Category({"Tetris", "Board"})
+@Description("A brick merged into the board background")
+@StackTrace(false)
+final class PieceLockEvent extends Event {
+
+    @Label("Color")
+    int color;
+
+    @Label("Column")
+    int column;
+
+    @Label("Row")
+    int row;
+}
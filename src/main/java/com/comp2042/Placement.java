@@ -0,0 +1,63 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * A position in which a brick can lock, found by a {@link PlacementEnumerator}.
+ * The position uses the same coordinates as the board: the column and row of the brick's 4x4 top-left corner.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final BrickShape shape;
+    // 枚举器内部的状态编号与枚举批次，用于回溯移动路径
+    final int state;
+    final int generation;
+
+    Placement(int rotation, int x, int y, BrickShape shape, int state, int generation) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.shape = shape;
+        this.state = state;
+        this.generation = generation;
+    }
+
+    /**
+     * Gets the rotation index of the brick in this placement.
+     * 
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the column of the brick's top-left corner.
+     * 
+     * @return the x position
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row of the brick's top-left corner.
+     * 
+     * @return the y position
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the packed shape of the brick in this placement.
+     * 
+     * @return the brick shape
+     */
+    public BrickShape getShape() {
+        return shape;
+    }
+}
@@ -0,0 +1,188 @@
+package com.comp2042;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Finds every position in which a brick can lock, using a breadth-first search over the same
+ * moves the board allows: left, right, rotate (without wall kicks) and down. Positions only
+ * reachable by sliding under an overhang (tucks) are included. Placements that cover the same
+ * cells are reported once, with the shortest move sequence.
+ *
+ * The search buffers are allocated once for the board size and reused, so an enumerator should be
+ * kept and reused rather than created per brick. An instance is not thread-safe.
+ */
+public final class PlacementEnumerator {
+
+    // 方块在4x4矩阵中可能向左/向上伸出棋盘，状态索引需要留出边距
+    private static final int PAD = BrickShape.SIZE;
+    private static final int MAX_ROTATIONS = 4;
+    private static final EventType[] MOVES = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.DOWN};
+
+    private final int rows;
+    private final int columns;
+    private final int width;
+    private final int planeSize;
+    private final int[] visited;
+    private final int[] parent;
+    private final byte[] parentMove;
+    private final int[] queue;
+    private long[] footprints = new long[64];
+    private int generation;
+
+    /**
+     * Constructs a new PlacementEnumerator for boards of the given size.
+     * 
+     * @param rows the number of rows of the board matrix
+     * @param columns the number of columns of the board matrix
+     */
+    public PlacementEnumerator(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.width = columns + PAD;
+        this.planeSize = (rows + PAD) * width;
+        int states = MAX_ROTATIONS * planeSize;
+        visited = new int[states];
+        parent = new int[states];
+        parentMove = new byte[states];
+        queue = new int[states];
+    }
+
+    /**
+     * Lists every position in which the brick can lock, reachable from the given start position.
+     * 
+     * @param matrix the board matrix, where non-zero cells are filled
+     * @param brick the brick to place
+     * @param rotation the current rotation index of the brick
+     * @param x the current column of the brick
+     * @param y the current row of the brick
+     * @return the placements, in order of increasing move count; empty if the start position is blocked
+     * @throws IllegalArgumentException if the board size or the brick's rotation count is not supported
+     */
+    public List<Placement> enumerate(int[][] matrix, Brick brick, int rotation, int x, int y) {
+        if (matrix.length != rows || matrix[0].length != columns || brick.getRotationCount() > MAX_ROTATIONS) {
+            throw new IllegalArgumentException("Board or brick does not fit this enumerator");
+        }
+        if (++generation == 0) {
+            Arrays.fill(visited, 0);
+            generation = 1;
+        }
+        List<Placement> placements = new ArrayList<>();
+        if (!inRange(x, y) || MatrixOperations.intersect(matrix, brick.getShape(rotation), x, y)) {
+            return placements;
+        }
+        int rotationCount = brick.getRotationCount();
+        int footprintCount = 0;
+        int head = 0;
+        int tail = 0;
+        int start = encode(rotation, x, y);
+        visited[start] = generation;
+        parent[start] = -1;
+        queue[tail++] = start;
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / planeSize;
+            int cellX = state % width - PAD;
+            int cellY = state % planeSize / width - PAD;
+            BrickShape shape = brick.getShape(r);
+
+            for (int move = 0; move < MOVES.length; move++) {
+                int nextR = r;
+                int nextX = cellX;
+                int nextY = cellY;
+                switch (MOVES[move]) {
+                    case LEFT:
+                        nextX--;
+                        break;
+                    case RIGHT:
+                        nextX++;
+                        break;
+                    case ROTATE:
+                        nextR = (r + 1) % rotationCount;
+                        break;
+                    default:
+                        nextY++;
+                        break;
+                }
+                if (!inRange(nextX, nextY)) {
+                    continue;
+                }
+                int next = encode(nextR, nextX, nextY);
+                if (visited[next] == generation
+                        || MatrixOperations.intersect(matrix, brick.getShape(nextR), nextX, nextY)) {
+                    continue;
+                }
+                visited[next] = generation;
+                parent[next] = state;
+                parentMove[next] = (byte) move;
+                queue[tail++] = next;
+            }
+
+            // 无法继续下落的位置即为锁定位置，按最终占据的格子去重
+            if (MatrixOperations.intersect(matrix, shape, cellX, cellY + 1)) {
+                long footprint = footprint(shape, cellX, cellY);
+                if (!contains(footprints, footprintCount, footprint)) {
+                    if (footprintCount == footprints.length) {
+                        footprints = Arrays.copyOf(footprints, footprintCount * 2);
+                    }
+                    footprints[footprintCount++] = footprint;
+                    placements.add(new Placement(r, cellX, cellY, shape, state, generation));
+                }
+            }
+        }
+        return placements;
+    }
+
+    /**
+     * Gets the moves that take the brick from the start position to the given placement.
+     * Only valid for placements returned by the most recent call to {@link #enumerate}.
+     * 
+     * @param placement a placement from the most recent enumeration
+     * @return the moves in order; the brick then locks at the placement
+     * @throws IllegalStateException if the placement comes from an earlier enumeration
+     */
+    public List<EventType> getPath(Placement placement) {
+        if (placement.generation != generation) {
+            throw new IllegalStateException("Placement is from an earlier enumeration");
+        }
+        List<EventType> path = new ArrayList<>();
+        for (int state = placement.state; parent[state] >= 0; state = parent[state]) {
+            path.add(MOVES[parentMove[state]]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private boolean inRange(int x, int y) {
+        return x >= -PAD && x < columns && y >= -PAD && y < rows;
+    }
+
+    private int encode(int rotation, int x, int y) {
+        return rotation * planeSize + (y + PAD) * width + (x + PAD);
+    }
+
+    /**
+     * Packs the cells covered by a shape at a position into one value that does not depend on the rotation index.
+     */
+    private static long footprint(BrickShape shape, int x, int y) {
+        // 将形状平移到包围盒左上角，使不同旋转得到的相同形状具有相同的掩码
+        long normalized = shape.getMask() >>> (shape.getMinRow() * BrickShape.SIZE + shape.getMinColumn());
+        long row = y + shape.getMinRow() + PAD;
+        long column = x + shape.getMinColumn() + PAD;
+        return normalized << 32 | row << 16 | column;
+    }
+
+    private static boolean contains(long[] values, int count, long value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,183 @@
+package com.comp2042;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * One player's game as driven by a {@link GameThread}: the logic that {@code GuiController} runs
+ * on the JavaFX thread in the default single-threaded mode, with lock-free handoffs at both ends.
+ *
+ * The JavaFX thread queues key presses and releases with {@link #offer(EventType, boolean)}; the game
+ * thread applies them to the player's {@link KeyRepeat} on its next tick, runs the tick and publishes
+ * an immutable {@link FrameSnapshot}, which the JavaFX pulse picks up with {@link #latest()}.
+ * Cleared rows travel back through a second buffer so every notification is shown, even when the
+ * pulse skips snapshots.
+ */
+final class PlayerSimulation {
+
+    // 按键命令缓冲区容量；游戏线程每个tick都会清空，远大于一个tick内可能的按键数
+    private static final int INPUT_CAPACITY = 256;
+    private static final int CLEAR_CAPACITY = 64;
+
+    private final GameEngine engine;
+    private final KeyRepeat keys;
+    private final InputEventListener input;
+    private final Supplier<ClearRow> tick;
+    private final BooleanSupplier keysEnabled;
+    private final SpscRingBuffer<KeyCommand> commands = new SpscRingBuffer<>(INPUT_CAPACITY);
+    private final SpscRingBuffer<ClearRow> clears = new SpscRingBuffer<>(CLEAR_CAPACITY);
+    private volatile FrameSnapshot latest;
+
+    // 以下只由JavaFX线程访问
+    private long inputsSent;
+
+    // 以下只由游戏线程访问（游戏线程停止时由JavaFX线程访问）
+    private long inputsConsumed;
+    private long inputAppliedNanos;
+    private boolean inputChanged;
+
+    /**
+     * Constructs a new simulation.
+     *
+     * @param engine the player's engine, read for the snapshots
+     * @param keys the player's held keys
+     * @param input receives the moves of the held keys
+     * @param tick advances the player's game by one logic tick
+     * @param keysEnabled whether the keyboard currently controls this player
+     */
+    PlayerSimulation(GameEngine engine, KeyRepeat keys, InputEventListener input, Supplier<ClearRow> tick,
+            BooleanSupplier keysEnabled) {
+        this.engine = engine;
+        this.keys = keys;
+        this.input = input;
+        this.tick = tick;
+        this.keysEnabled = keysEnabled;
+    }
+
+    /**
+     * Queues a key press or release for the next tick; called on the JavaFX thread.
+     *
+     * @param action the action of the key
+     * @param pressed true for a press, false for a release
+     * @return false if the buffer was full and the command was dropped
+     */
+    boolean offer(EventType action, boolean pressed) {
+        if (!commands.offer(KeyCommand.of(action, pressed))) {
+            return false;
+        }
+        inputsSent++;
+        return true;
+    }
+
+    /**
+     * Gets the number of key commands queued so far; called on the JavaFX thread.
+     *
+     * @return the sent command count
+     */
+    long getInputsSent() {
+        return inputsSent;
+    }
+
+    /**
+     * Runs one logic tick on the game thread: applies the queued keys, advances the game and
+     * publishes a new snapshot if anything changed.
+     */
+    void tick() {
+        int consumed = 0;
+        for (KeyCommand command = commands.poll(); command != null; command = commands.poll()) {
+            if (command.pressed) {
+                keys.press(command.action);
+            } else {
+                keys.release(command.action);
+            }
+            consumed++;
+        }
+        if (keysEnabled.getAsBoolean()) {
+            long changes = engine.getChangeCount();
+            post(keys.tick(input));
+            if (consumed > 0) {
+                inputAppliedNanos = System.nanoTime();
+                inputChanged = engine.getChangeCount() != changes;
+            }
+        }
+        inputsConsumed += consumed;
+        post(tick.get());
+        publish();
+    }
+
+    private void post(ClearRow clearRow) {
+        // 缓冲区满时丢弃提示，不影响游戏本身
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            clears.offer(clearRow);
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the current state unless it equals the latest one. Called on the game
+     * thread after each tick, and on the JavaFX thread while the game thread is stopped.
+     */
+    void publish() {
+        FrameSnapshot previous = latest;
+        long boardVersion = engine.getBoardChangeCount();
+        int score = engine.getScore().getValue();
+        if (previous != null && previous.getChangeCount() == engine.getChangeCount()
+                && previous.getBoardVersion() == boardVersion && previous.getScore() == score
+                && previous.isGameOver() == engine.isGameOver() && previous.getInputsConsumed() == inputsConsumed) {
+            return;
+        }
+        // 只有棋盘变化时才复制，其余快照共享同一份不可变副本
+        int[][] board = previous != null && previous.getBoardVersion() == boardVersion
+                ? previous.getBoard() : MatrixOperations.copy(engine.getBoard().getBoardMatrix());
+        // 棋盘的ViewData会被复用，快照需要自己的副本
+        latest = new FrameSnapshot(board, boardVersion, engine.getViewData().copy(), engine.getChangeCount(), score,
+                engine.isGameOver(), inputsConsumed, inputAppliedNanos, inputChanged);
+    }
+
+    /**
+     * Gets the most recently published snapshot; called on the JavaFX thread.
+     *
+     * @return the latest snapshot, or null before the first one
+     */
+    FrameSnapshot latest() {
+        return latest;
+    }
+
+    /**
+     * Takes the next cleared-rows notification; called on the JavaFX thread.
+     *
+     * @return the cleared rows, or null if there are none
+     */
+    ClearRow pollClear() {
+        return clears.poll();
+    }
+
+    /**
+     * A key press or release. All instances are created up front, so queueing input never allocates.
+     */
+    private static final class KeyCommand {
+
+        private static final KeyCommand[] COMMANDS = createCommands();
+
+        private final EventType action;
+        private final boolean pressed;
+
+        private KeyCommand(EventType action, boolean pressed) {
+            this.action = action;
+            this.pressed = pressed;
+        }
+
+        static KeyCommand of(EventType action, boolean pressed) {
+            return COMMANDS[action.ordinal() * 2 + (pressed ? 1 : 0)];
+        }
+
+        private static KeyCommand[] createCommands() {
+            EventType[] actions = EventType.values();
+            KeyCommand[] commands = new KeyCommand[actions.length * 2];
+            for (EventType action : actions) {
+                commands[action.ordinal() * 2] = new KeyCommand(action, false);
+                commands[action.ordinal() * 2 + 1] = new KeyCommand(action, true);
+            }
+            return commands;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Board renderer that places one Rectangle node per visible cell in the grid panel.
+ * Rows shifted down by a clear are moved with translateY, which needs neither CSS nor layout,
+ * instead of restyling every cell of the row.
+ */
+final class RectangleBoardView extends DiffingBoardView implements RowMover {
+
+    private final GridPane panel;
+    private final int cellSize;
+
+    // 游戏背景显示矩阵，存储每个格子的Rectangle对象（按当前显示位置索引）
+    private Rectangle[][] cells;
+
+    RectangleBoardView(GridPane panel, int cellSize) {
+        this.panel = panel;
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    protected void createCells(int rows, int columns) {
+        cells = new Rectangle[rows][columns];
+        // 从第2行开始显示（前两行是隐藏区域）
+        for (int i = HIDDEN_ROWS; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
+                rectangle.setFill(Color.TRANSPARENT); // 初始为透明
+                cells[i][j] = rectangle;
+                // 添加到游戏面板，列索引为j，行索引为i-2（因为前两行不显示）
+                panel.add(rectangle, j, i - HIDDEN_ROWS);
+            }
+        }
+    }
+
+    @Override
+    protected void drawCell(int row, int column, int color) {
+        CellStyle.apply(cells[row][column], color, false);
+    }
+
+    @Override
+    public int minChangedCellsForMove(int columns) {
+        // 移动整行需更新两行的节点，只有大半格子都变化时才划算
+        return columns / 2 + 1;
+    }
+
+    @Override
+    public int swapRows(int upper, int lower) {
+        Rectangle[] upperCells = cells[upper];
+        cells[upper] = cells[lower];
+        cells[lower] = upperCells;
+        for (int j = 0; j < upperCells.length; j++) {
+            moveTo(cells[upper][j], upper);
+            moveTo(cells[lower][j], lower);
+        }
+        return 2 * upperCells.length;
+    }
+
+    /**
+     * Shows a cell at the given board row, relative to the grid row it was created in.
+     */
+    private void moveTo(Rectangle rectangle, int row) {
+        int gridRow = GridPane.getRowIndex(rectangle);
+        rectangle.setTranslateY((row - HIDDEN_ROWS - gridRow) * (cellSize + panel.getVgap()));
+    }
+}
@@ -0,0 +1,167 @@
+package com.comp2042;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javafx.beans.value.ChangeListener;
+import javafx.geometry.Bounds;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+/**
+ * How much of the neon glow is rendered live.
+ *
+ * A CSS drop shadow on a container is recomputed whenever anything inside it changes, so the glow
+ * of the game boards was re-rasterized on every brick move and score update. {@link #BALANCED}
+ * keeps the same look but draws each glowing board and side panel as a cached backdrop behind it,
+ * with the container itself reduced to its changing content, and caches the static glowing labels
+ * as bitmaps; only small elements such as the score keep a live glow. {@link #LOW} drops the
+ * decorative effects altogether and {@link #HIGH} renders everything live as before.
+ */
+enum RenderQuality {
+
+    /** Every glow is a live effect. */
+    HIGH,
+    /** Glows of changing containers are cached backdrops; static glowing text is cached. */
+    BALANCED,
+    /** No decorative effects. */
+    LOW;
+
+    /** System property selecting the quality: {@code high}, {@code balanced} or {@code low}. */
+    static final String PROPERTY = "tetris.render.quality";
+
+    // 子节点会变化、光晕需要移到背景板上的容器样式类
+    private static final String[] GLOWING_CONTAINERS = {"gameBoard", "sidePanel"};
+    // 内容不变的发光节点，缓存为位图
+    private static final String[] STATIC_GLOWS = {".nextBrickLabel", ".gameOverStyle", ".pauseStyle"};
+    private static final String BACKDROP_CLASS = "glowBackdrop";
+    private static final String SOURCE_CLASS = "glowSource";
+    private static final String BACKDROP_KEY = RenderQuality.class.getName() + ".backdrop";
+
+    /**
+     * Reads the quality from the system property.
+     *
+     * @return the configured quality, or {@link #BALANCED} if unset or unknown
+     */
+    static RenderQuality fromProperty() {
+        String value = System.getProperty(PROPERTY);
+        if (value != null) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown render quality " + value + ", using balanced");
+            }
+        }
+        return BALANCED;
+    }
+
+    /**
+     * Gets the next quality, for cycling through them with a key.
+     *
+     * @return the following quality, wrapping around
+     */
+    RenderQuality next() {
+        return values()[(ordinal() + 1) % values().length];
+    }
+
+    /**
+     * Applies this quality to the game's root pane, undoing the previous one.
+     *
+     * @param root the pane holding the game boards and side panels
+     */
+    void applyTo(Pane root) {
+        for (RenderQuality quality : values()) {
+            root.getStyleClass().remove(quality.styleClass());
+        }
+        root.getStyleClass().add(styleClass());
+        for (Node node : new ArrayList<>(root.getChildren())) {
+            if (node instanceof Region && isGlowingContainer(node)) {
+                Backdrop backdrop = (Backdrop) node.getProperties().get(BACKDROP_KEY);
+                if (this == BALANCED && backdrop == null) {
+                    new Backdrop(root, (Region) node).attach();
+                } else if (this != BALANCED && backdrop != null) {
+                    backdrop.detach();
+                }
+            }
+        }
+        for (String selector : STATIC_GLOWS) {
+            for (Node node : root.lookupAll(selector)) {
+                node.setCache(this == BALANCED);
+                node.setCacheHint(CacheHint.QUALITY);
+            }
+        }
+    }
+
+    /**
+     * Gets the lower-case name used on the command line and in the debug overlay.
+     *
+     * @return the name
+     */
+    String displayName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    private String styleClass() {
+        return "quality-" + displayName();
+    }
+
+    private static boolean isGlowingContainer(Node node) {
+        List<String> classes = node.getStyleClass();
+        if (classes.contains(BACKDROP_CLASS)) {
+            return false;
+        }
+        for (String styleClass : GLOWING_CONTAINERS) {
+            if (classes.contains(styleClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cached region behind a container that draws the container's background, border and glow.
+     * It copies the container's style classes, follows its bounds and visibility, and the container
+     * is given the {@code glowSource} class, which makes its own background, border and effect empty.
+     */
+    private static final class Backdrop {
+
+        private final Pane root;
+        private final Region container;
+        private final Region region = new Region();
+        private final ChangeListener<Bounds> follow = (observable, oldBounds, bounds) -> place(bounds);
+
+        Backdrop(Pane root, Region container) {
+            this.root = root;
+            this.container = container;
+        }
+
+        void attach() {
+            region.getStyleClass().setAll(container.getStyleClass());
+            region.getStyleClass().add(BACKDROP_CLASS);
+            region.setManaged(false);
+            region.setMouseTransparent(true);
+            region.setCache(true);
+            region.visibleProperty().bind(container.visibleProperty());
+            container.getStyleClass().add(SOURCE_CLASS);
+            root.getChildren().add(root.getChildren().indexOf(container), region);
+            container.boundsInParentProperty().addListener(follow);
+            place(container.getBoundsInParent());
+            container.getProperties().put(BACKDROP_KEY, this);
+        }
+
+        void detach() {
+            container.boundsInParentProperty().removeListener(follow);
+            container.getStyleClass().remove(SOURCE_CLASS);
+            region.visibleProperty().unbind();
+            root.getChildren().remove(region);
+            container.getProperties().remove(BACKDROP_KEY);
+        }
+
+        private void place(Bounds bounds) {
+            region.resizeRelocate(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.comp2042;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for redrawing a player's board background after it changed.
+ */
+@Name("com.comp2042.RenderRefresh")
+@Label("Render Refresh")
+@Category({"Tetris", "Rendering"})
+@Description("Board background redrawn after a lock or clear")
+@StackTrace(false)
+final class RenderRefreshEvent extends Event {
+
+    @Label("Player")
+    int player;
+
+    @Label("Cells Updated")
+    @Description("Cell redraws and row moves made by the renderer")
+    int cellsUpdated;
+}
@@ -0,0 +1,26 @@
+package com.comp2042;
+
+/**
+ * Optional capability of a {@link DiffingBoardView} renderer: moving a whole rendered row at once.
+ * Renderers that implement it get the fast path for the row shift after a clear; the others
+ * always redraw changed cells.
+ */
+interface RowMover {
+
+    /**
+     * Gets how many cells of a row must change before moving a matching row is cheaper than redrawing.
+     *
+     * @param columns the number of columns
+     * @return the threshold
+     */
+    int minChangedCellsForMove(int columns);
+
+    /**
+     * Exchanges what is shown in two visible rows.
+     *
+     * @param upper the upper board row
+     * @param lower the lower board row
+     * @return the number of updates made
+     */
+    int swapRows(int upper, int lower);
+}
@@ -1,38 +1,69 @@
 package com.comp2042;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
  * Manages the score for a Tetris game board.
- * Provides methods to add points, reset the score, and bind to JavaFX properties for UI updates.
+ * Provides methods to add points and reset the score, and notifies registered listeners on change.
+ * Holds a plain int so the game logic can run without the JavaFX toolkit; the GUI observes it through a listener.
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score;
+
+    private final List<IntConsumer> listeners = new ArrayList<>();
 
     /**
-     * Gets the score as a JavaFX property for binding to UI elements.
+     * Gets the current score.
      * 
-     * @return the IntegerProperty representing the current score
+     * @return the current score value
      */
-    public IntegerProperty scoreProperty() {
+    public int getValue() {
         return score;
     }
 
+    /**
+     * Registers a listener that is called with the new value whenever the score changes.
+     * Listeners are called on the thread that changed the score.
+     * 
+     * @param listener the listener to add
+     */
+    public void addListener(IntConsumer listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered score listener.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeListener(IntConsumer listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Adds points to the current score.
      * 
      * @param i the number of points to add
      */
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        setValue(score + i);
     }
 
     /**
      * Resets the score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        setValue(0);
+    }
+
+    private void setValue(int value) {
+        score = value;
+        // 无监听器时（无界面模拟）不产生任何额外开销
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).accept(value);
+        }
     }
 }
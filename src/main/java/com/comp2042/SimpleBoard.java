@@ -1,9 +1,11 @@
 package com.comp2042;
 
-import java.awt.Point;
+import java.util.Arrays;
+import java.util.List;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 
 /**
@@ -16,8 +18,23 @@ public class SimpleBoard implements Board {
     private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
+    private final int[][] currentGameMatrix;
+    // 每行已填充的格子数，合并时增量更新，消行时只需检查落下方块覆盖的行
+    private final int[] rowFillCounts;
+    // 每列的占用位图：第r位表示第r行已填充，另加一位表示底部，落点可由最低位直接求出
+    private final long[] columnMasks;
+    private final long floorBit;
+    // 上一次合并的方块覆盖的行范围，没有待检查的行时 lockedMinRow > lockedMaxRow
+    private int lockedMinRow;
+    private int lockedMaxRow = -1;
+    private int offsetX;
+    private int offsetY;
+    private long brickCount;
+    // 已固定格子的Zobrist哈希，合并与消行时增量更新
+    private long zobristHash;
+    // 双缓冲的视图数据：状态未变时返回同一个实例，变化时改写较旧的一个
+    private final ViewData[] views = {new ViewData(null, 0, 0, null), new ViewData(null, 0, 0, null)};
+    private int viewIndex;
     private final Score score;
 
     /**
@@ -28,66 +45,103 @@ public class SimpleBoard implements Board {
      * @param height the width of the board (number of columns)
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new SimpleBoard with the specified dimensions and brick generator.
+     * 
+     * @param width the height of the board (number of rows)
+     * @param height the width of the board (number of columns)
+     * @param brickGenerator the generator supplying the bricks for this board
+     * @throws IllegalArgumentException if the board has more than 63 rows
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        if (width >= Long.SIZE) {
+            throw new IllegalArgumentException("Boards are limited to " + (Long.SIZE - 1) + " rows");
+        }
         this.width = width;
         this.height = height;
         currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        rowFillCounts = new int[width];
+        floorBit = 1L << width;
+        columnMasks = new long[height];
+        Arrays.fill(columnMasks, floorBit);
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
     }
 
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(offsetX, offsetY + 1);
     }
 
 
     @Override
-    public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
+    public int dropBrick() {
+        int distance = getDropDistance();
+        offsetY += distance;
+        return distance;
+    }
+
+    /**
+     * Gets how many rows the current brick can fall before it lands.
+     * For each column of the brick, the first filled cell below the brick's lowest cell in that
+     * column is the lowest set bit of the column mask above that row, so no stepping is needed.
+     * This is exact because the cells of a brick in one column are contiguous, as in every tetromino.
+     * 
+     * @return the drop distance in rows
+     */
+    public int getDropDistance() {
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        int distance = width;
+        for (int column = shape.getMinColumn(); column <= shape.getMaxColumn(); column++) {
+            int bottom = shape.getColumnBottom(column);
+            if (bottom < 0) {
+                continue;
+            }
+            long below = columnMasks[offsetX + column] >>> (offsetY + bottom + 1);
+            distance = Math.min(distance, Long.numberOfTrailingZeros(below));
         }
+        return distance;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(offsetX - 1, offsetY);
     }
 
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        return tryMove(offsetX + 1, offsetY);
+    }
+
+    /**
+     * Moves the current brick to the given offset if it fits.
+     * Collision is tested directly against the live board, so a move allocates nothing.
+     * 
+     * @param x the new column of the brick
+     * @param y the new row of the brick
+     * @return true if the brick was moved, false if the target position is blocked
+     */
+    private boolean tryMove(int x, int y) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentBrickShape(), x, y)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        offsetX = x;
+        offsetY = y;
+        return true;
     }
 
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        int nextShape = brickRotator.getNextShapeIndex();
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getBrickShape(nextShape), offsetX, offsetY);
         if (conflict) {
             return false;
         } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
+            brickRotator.setCurrentShape(nextShape);
             return true;
         }
     }
@@ -96,8 +150,118 @@ public class SimpleBoard implements Board {
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(4, 3); // 从顶部（隐藏区域）出现
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        brickCount++;
+        offsetX = SPAWN_X;
+        offsetY = SPAWN_Y; // 从顶部（隐藏区域）出现
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentBrickShape(), offsetX, offsetY);
+    }
+
+    /**
+     * Lists every position in which the current brick can lock, reachable from where it is now.
+     * 
+     * @param enumerator the enumerator to use; reusing one avoids allocating its search buffers
+     * @return the reachable placements, one per distinct final footprint
+     * @see PlacementEnumerator
+     */
+    public List<Placement> findPlacements(PlacementEnumerator enumerator) {
+        return enumerator.enumerate(currentGameMatrix, brickRotator.getBrick(), brickRotator.getCurrentShapeIndex(), offsetX, offsetY);
+    }
+
+    /**
+     * Gets the brick that is currently falling.
+     * 
+     * @return the current brick
+     */
+    public Brick getBrick() {
+        return brickRotator.getBrick();
+    }
+
+    /**
+     * Gets the rotation index of the current brick.
+     * 
+     * @return the rotation index
+     */
+    public int getBrickRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    /**
+     * Previews the brick that will spawn after the current one.
+     * 
+     * @return the next brick
+     */
+    public Brick getNextBrick() {
+        return brickGenerator.getNextBrick();
+    }
+
+    /**
+     * Gets the bricks that will spawn after the current one, as far as the generator previews them.
+     * 
+     * @return the upcoming bricks in order, starting with {@link #getNextBrick()}
+     */
+    public List<Brick> getPreview() {
+        Brick[] preview = new Brick[brickGenerator.getPreviewDepth()];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = brickGenerator.getPreview(i);
+        }
+        return List.of(preview);
+    }
+
+    /**
+     * Gets the number of bricks spawned by this board. The value changes whenever a new brick
+     * appears, so a player can tell that the brick it was steering has locked.
+     * 
+     * @return the spawn counter
+     */
+    public long getBrickCount() {
+        return brickCount;
+    }
+
+    /**
+     * Gets the Zobrist hash of the filled cells, kept up to date as bricks are merged and rows are cleared.
+     * Changes made directly to the matrix returned by {@link #getBoardMatrix()} are not tracked.
+     * 
+     * @return the board hash
+     * @see Zobrist
+     */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * Replaces the whole board state, e.g. with a snapshot taken while recording a replay.
+     * The new brick counts as a spawn, see {@link #getBrickCount()}.
+     * 
+     * @param matrix the filled cells, copied into the board
+     * @param brick the falling brick
+     * @param rotation the rotation index of the falling brick
+     * @param x the column of the falling brick
+     * @param y the row of the falling brick
+     * @param scoreValue the score
+     */
+    public void restoreState(int[][] matrix, Brick brick, int rotation, int x, int y, int scoreValue) {
+        Arrays.fill(columnMasks, floorBit);
+        for (int row = 0; row < width; row++) {
+            System.arraycopy(matrix[row], 0, currentGameMatrix[row], 0, height);
+            int filled = 0;
+            for (int column = 0; column < height; column++) {
+                if (matrix[row][column] != 0) {
+                    filled++;
+                    columnMasks[column] |= 1L << row;
+                }
+            }
+            rowFillCounts[row] = filled;
+        }
+        zobristHash = Zobrist.hash(currentGameMatrix);
+        lockedMinRow = 0;
+        lockedMaxRow = -1;
+        brickRotator.setBrick(brick);
+        brickRotator.setCurrentShape(rotation);
+        brickCount++;
+        offsetX = x;
+        offsetY = y;
+        score.reset();
+        score.add(scoreValue);
     }
 
     @Override
@@ -107,20 +271,91 @@ public class SimpleBoard implements Board {
 
     @Override
     public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), brickGenerator.getNextBrick().getShapeMatrix().get(0));
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        BrickShape next = brickGenerator.getNextBrick().getShape(0);
+        int ghostY = offsetY + getDropDistance();
+        ViewData current = views[viewIndex];
+        if (current.holds(shape, offsetX, offsetY, ghostY, next)) {
+            return current;
+        }
+        viewIndex ^= 1;
+        return views[viewIndex].set(shape, offsetX, offsetY, ghostY, next);
     }
 
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        PieceLockEvent event = new PieceLockEvent();
+        event.begin();
+        BrickShape shape = brickRotator.getCurrentBrickShape();
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = offsetY + shape.getCellRow(i);
+            currentGameMatrix[row][offsetX + shape.getCellColumn(i)] = shape.getColor();
+            rowFillCounts[row]++;
+            columnMasks[offsetX + shape.getCellColumn(i)] |= 1L << row;
+        }
+        zobristHash = Zobrist.toggle(zobristHash, shape, offsetX, offsetY);
+        lockedMinRow = offsetY + shape.getMinRow();
+        lockedMaxRow = offsetY + shape.getMaxRow();
+        event.end();
+        if (event.shouldCommit()) {
+            event.color = shape.getColor();
+            event.column = offsetX;
+            event.row = offsetY;
+            event.commit();
+        }
     }
 
+    /**
+     * Removes the complete rows left by the last merged brick.
+     * Only the rows covered by that brick are checked, and the board is compacted in place by
+     * moving row references down; the removed row arrays are cleared and reused at the top.
+     */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
-
+        LineClearEvent event = new LineClearEvent();
+        event.begin();
+        int linesRemoved = 0;
+        for (int row = lockedMinRow; row <= lockedMaxRow; row++) {
+            if (rowFillCounts[row] == height) {
+                linesRemoved++;
+                zobristHash = Zobrist.toggleRow(zobristHash, currentGameMatrix[row], row);
+                // 从上往下依次删除：该行以上的位整体下移一行
+                long above = (1L << row) - 1;
+                for (int column = 0; column < height; column++) {
+                    long mask = columnMasks[column];
+                    columnMasks[column] = (mask & ~(above | 1L << row)) | (mask & above) << 1;
+                }
+            }
+        }
+        if (linesRemoved > 0) {
+            // 自被合并方块的最低行向上压缩，更低的行不受影响
+            int write = lockedMaxRow;
+            for (int read = lockedMaxRow; read >= 0; read--) {
+                if (read >= lockedMinRow && rowFillCounts[read] == height) {
+                    continue;
+                }
+                if (write != read) {
+                    zobristHash = Zobrist.moveRow(zobristHash, currentGameMatrix[read], read, write);
+                    int[] row = currentGameMatrix[write];
+                    currentGameMatrix[write] = currentGameMatrix[read];
+                    currentGameMatrix[read] = row;
+                    rowFillCounts[write] = rowFillCounts[read];
+                }
+                write--;
+            }
+            for (int row = 0; row < linesRemoved; row++) {
+                Arrays.fill(currentGameMatrix[row], 0);
+                rowFillCounts[row] = 0;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.rowsRemoved = linesRemoved;
+                event.commit();
+            }
+        }
+        lockedMinRow = 0;
+        lockedMaxRow = -1;
+        return new ClearRow(linesRemoved, currentGameMatrix, MatrixOperations.calculateScoreBonus(linesRemoved));
     }
 
     @Override
@@ -131,7 +366,14 @@ public class SimpleBoard implements Board {
 
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(rowFillCounts, 0);
+        Arrays.fill(columnMasks, floorBit);
+        zobristHash = 0;
+        lockedMinRow = 0;
+        lockedMaxRow = -1;
         score.reset();
         createNewBrick();
     }
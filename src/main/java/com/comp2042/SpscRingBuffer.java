@@ -0,0 +1,89 @@
+package com.comp2042;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread and one consumer thread.
+ *
+ * Elements live in a power-of-two array indexed by two ever-increasing counters. Each side writes
+ * only its own counter and publishes it with release semantics, so an element is fully visible
+ * before the other side can see it. Each side also caches the other's counter and only re-reads it
+ * when the buffer looks full or empty, so the common case touches no shared cache line but the slot.
+ *
+ * @param <E> the element type
+ */
+final class SpscRingBuffer<E> {
+
+    private final Object[] elements;
+    private final int mask;
+    // 消费者下一个读取的位置，只由消费者写入
+    private final AtomicLong head = new AtomicLong();
+    // 生产者下一个写入的位置，只由生产者写入
+    private final AtomicLong tail = new AtomicLong();
+    private long cachedHead;
+    private long cachedTail;
+
+    /**
+     * Constructs a new buffer.
+     *
+     * @param capacity the maximum number of queued elements, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    SpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        elements = new Object[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Adds an element; called only by the producer thread.
+     *
+     * @param element the element, not null
+     * @return true if the element was added, false if the buffer is full
+     */
+    boolean offer(E element) {
+        long t = tail.getPlain();
+        if (t - cachedHead >= elements.length) {
+            cachedHead = head.getAcquire();
+            if (t - cachedHead >= elements.length) {
+                return false;
+            }
+        }
+        elements[(int) t & mask] = element;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element; called only by the consumer thread.
+     *
+     * @return the element, or null if the buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long h = head.getPlain();
+        if (h >= cachedTail) {
+            cachedTail = tail.getAcquire();
+            if (h >= cachedTail) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        E element = (E) elements[index];
+        elements[index] = null;
+        head.setRelease(h + 1);
+        return element;
+    }
+
+    /**
+     * Gets the number of elements the buffer can hold.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return elements.length;
+    }
+}
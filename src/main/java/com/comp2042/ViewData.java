@@ -1,38 +1,99 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.BrickShape;
+
 /**
  * Data class containing view-related information for rendering the game state.
  * Holds the current brick data, position, and next brick preview information.
+ *
+ * Brick shapes are exposed as the packed, immutable {@link BrickShape}s, so reading them never copies.
+ * {@link SimpleBoard} double-buffers its ViewData: it returns the same instance while nothing changes
+ * and otherwise refills the older of two, so a returned ViewData stays valid across the next change
+ * (enough to compare a move's before and after) but not longer. Use {@link #copy()} to keep one.
  */
 public final class ViewData {
 
-    private final int[][] brickData;
-    private final int xPosition;
-    private final int yPosition;
-    private final int[][] nextBrickData;
+    private BrickShape brickData;
+    private int xPosition;
+    private int yPosition;
+    private int ghostYPosition;
+    private BrickShape nextBrickData;
 
     /**
      * Constructs a new ViewData object with the specified brick and position information.
      * 
-     * @param brickData the 2D array representing the current brick shape
+     * @param brickData the precomputed shape of the current brick at its current rotation
+     * @param xPosition the x-coordinate (column) of the brick's position
+     * @param yPosition the y-coordinate (row) of the brick's position
+     * @param nextBrickData the precomputed shape of the next brick for preview
+     */
+    public ViewData(BrickShape brickData, int xPosition, int yPosition, BrickShape nextBrickData) {
+        this(brickData, xPosition, yPosition, yPosition, nextBrickData);
+    }
+
+    /**
+     * Constructs a new ViewData object that also holds where the brick would land.
+     * 
+     * @param brickData the precomputed shape of the current brick at its current rotation
      * @param xPosition the x-coordinate (column) of the brick's position
      * @param yPosition the y-coordinate (row) of the brick's position
-     * @param nextBrickData the 2D array representing the next brick shape for preview
+     * @param ghostYPosition the row the brick would land on if dropped, shown as the ghost piece
+     * @param nextBrickData the precomputed shape of the next brick for preview
      */
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData) {
+    public ViewData(BrickShape brickData, int xPosition, int yPosition, int ghostYPosition, BrickShape nextBrickData) {
+        set(brickData, xPosition, yPosition, ghostYPosition, nextBrickData);
+    }
+
+    /**
+     * Refills a reused instance.
+     * 
+     * @return this instance
+     */
+    ViewData set(BrickShape brickData, int xPosition, int yPosition, int ghostYPosition, BrickShape nextBrickData) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
+        this.ghostYPosition = ghostYPosition;
         this.nextBrickData = nextBrickData;
+        return this;
+    }
+
+    /**
+     * Checks whether this instance already holds the given values.
+     * 
+     * @return true if refilling it with these values would change nothing
+     */
+    boolean holds(BrickShape brickData, int xPosition, int yPosition, int ghostYPosition, BrickShape nextBrickData) {
+        return this.brickData == brickData && this.xPosition == xPosition && this.yPosition == yPosition
+                && this.ghostYPosition == ghostYPosition && this.nextBrickData == nextBrickData;
+    }
+
+    /**
+     * Creates an independent copy that is not reused by the board.
+     * 
+     * @return a new ViewData with the same values
+     */
+    public ViewData copy() {
+        return new ViewData(brickData, xPosition, yPosition, ghostYPosition, nextBrickData);
+    }
+
+    /**
+     * Gets the current brick's packed shape, without copying.
+     * 
+     * @return the shape of the current brick at its current rotation
+     */
+    public BrickShape getBrickShape() {
+        return brickData;
     }
 
     /**
      * Gets a copy of the current brick's shape data.
+     * Prefer {@link #getBrickShape()}, which does not allocate.
      * 
      * @return a 2D array representing the brick shape
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickData.toMatrix();
     }
 
     /**
@@ -53,12 +114,31 @@ public final class ViewData {
         return yPosition;
     }
 
+    /**
+     * Gets the row the brick would land on if it were dropped, where the ghost piece is drawn.
+     * 
+     * @return the landing y position
+     */
+    public int getGhostYPosition() {
+        return ghostYPosition;
+    }
+
+    /**
+     * Gets the next brick's packed shape for preview display, without copying.
+     * 
+     * @return the shape of the next brick
+     */
+    public BrickShape getNextBrickShape() {
+        return nextBrickData;
+    }
+
     /**
      * Gets a copy of the next brick's shape data for preview display.
+     * Prefer {@link #getNextBrickShape()}, which does not allocate.
      * 
      * @return a 2D array representing the next brick shape
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickData.toMatrix();
     }
 }
@@ -0,0 +1,108 @@
+package com.comp2042;
+
+import java.util.SplittableRandom;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Zobrist hashing of board occupancy.
+ * Every cell has a fixed random 64-bit key, and the hash of a board is the XOR of the keys of its
+ * filled cells, so placing or removing a brick changes the hash by XOR-ing just that brick's cells.
+ * Colors are ignored: two boards with the same filled cells have the same hash.
+ *
+ * Keys exist for boards of up to {@value #MAX_ROWS} rows and {@value #MAX_COLUMNS} columns.
+ */
+public final class Zobrist {
+
+    /** Largest number of rows that can be hashed. */
+    public static final int MAX_ROWS = 64;
+
+    /** Largest number of columns that can be hashed. */
+    public static final int MAX_COLUMNS = 32;
+
+    // 固定种子，保证同一棋盘在任何运行中得到相同的哈希
+    private static final long[] KEYS = new SplittableRandom(0x5EED_2042L).longs(MAX_ROWS * MAX_COLUMNS).toArray();
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Zobrist() {
+
+    }
+
+    /**
+     * Gets the key of a cell.
+     *
+     * @param row the row of the cell
+     * @param column the column of the cell
+     * @return the cell's random key
+     */
+    public static long key(int row, int column) {
+        return KEYS[row * MAX_COLUMNS + column];
+    }
+
+    /**
+     * Computes the hash of a board from scratch.
+     *
+     * @param matrix the board matrix, where non-zero cells are filled
+     * @return the XOR of the keys of all filled cells
+     */
+    public static long hash(int[][] matrix) {
+        long hash = 0;
+        for (int row = 0; row < matrix.length; row++) {
+            hash = toggleRow(hash, matrix[row], row);
+        }
+        return hash;
+    }
+
+    /**
+     * Adds or removes the cells of a brick. Applying it twice restores the original hash.
+     *
+     * @param hash the hash before the change
+     * @param shape the shape of the brick
+     * @param x the column of the brick's top-left corner
+     * @param y the row of the brick's top-left corner
+     * @return the hash with the brick's cells toggled
+     */
+    public static long toggle(long hash, BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            hash ^= key(y + shape.getCellRow(i), x + shape.getCellColumn(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Adds or removes the filled cells of a row.
+     *
+     * @param hash the hash before the change
+     * @param cells the cells of the row
+     * @param row the index of the row
+     * @return the hash with the row's filled cells toggled
+     */
+    public static long toggleRow(long hash, int[] cells, int row) {
+        for (int column = 0; column < cells.length; column++) {
+            if (cells[column] != 0) {
+                hash ^= key(row, column);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Moves the filled cells of a row to another row index, as when rows drop after a clear.
+     *
+     * @param hash the hash before the move
+     * @param cells the cells of the row
+     * @param from the row index the cells leave
+     * @param to the row index the cells move to
+     * @return the hash with the row moved
+     */
+    public static long moveRow(long hash, int[] cells, int from, int to) {
+        for (int column = 0; column < cells.length; column++) {
+            if (cells[column] != 0) {
+                hash ^= key(from, column) ^ key(to, column);
+            }
+        }
+        return hash;
+    }
+}
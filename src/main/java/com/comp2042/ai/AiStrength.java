@@ -0,0 +1,78 @@
+package com.comp2042.ai;
+
+/**
+ * Strength levels of the CPU player.
+ * Each level sets how many bricks ahead the search looks, how many candidate boards it keeps per
+ * worker thread at each step, how long it may think per brick and how fast it presses keys.
+ * The beam width is multiplied by the number of search workers, so stronger levels use every core.
+ */
+public enum AiStrength {
+    /** Looks at the current brick only and moves slowly. */
+    EASY("Easy", 1, 1, 30, 8),
+    /** Uses the next-brick preview with a narrow beam. */
+    MEDIUM("Medium", 2, 2, 80, 4),
+    /** Searches four bricks deep with a wide beam and moves every other tick. */
+    HARD("Hard", 4, 6, 200, 2);
+
+    private final String displayName;
+    private final int depth;
+    private final int beamWidthPerWorker;
+    private final long timeBudgetMillis;
+    private final int moveIntervalTicks;
+
+    AiStrength(String displayName, int depth, int beamWidthPerWorker, long timeBudgetMillis, int moveIntervalTicks) {
+        this.displayName = displayName;
+        this.depth = depth;
+        this.beamWidthPerWorker = beamWidthPerWorker;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.moveIntervalTicks = moveIntervalTicks;
+    }
+
+    /**
+     * Gets the name shown in the GUI.
+     * 
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the number of bricks the search places, starting with the current one.
+     * The search never looks further than the bricks the preview shows.
+     * 
+     * @return the search depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the number of boards kept at each search step.
+     * 
+     * @param workers the number of threads running the search
+     * @return the beam width for that many workers
+     */
+    public int getBeamWidth(int workers) {
+        return beamWidthPerWorker * Math.max(1, workers);
+    }
+
+    /**
+     * Gets the time the search may take for one brick. When it runs out, the best move of the
+     * deepest completed step is used.
+     * 
+     * @return the time budget in milliseconds
+     */
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    /**
+     * Gets the number of game ticks between two key presses of the CPU player.
+     * 
+     * @return the move interval in ticks
+     */
+    public int getMoveIntervalTicks() {
+        return moveIntervalTicks;
+    }
+}
@@ -0,0 +1,358 @@
+package com.comp2042.ai;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.comp2042.Board;
+import com.comp2042.EventType;
+import com.comp2042.MatrixOperations;
+import com.comp2042.Placement;
+import com.comp2042.PlacementEnumerator;
+import com.comp2042.Zobrist;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Chooses a placement for the current brick by looking several bricks ahead.
+ *
+ * The search places the current brick in every reachable position, keeps the best boards
+ * (the beam), then places the first preview brick on each of them, and so on. Each board is scored
+ * with {@link BoardEvaluator} and a line of play scores the sum along its bricks. The beam is
+ * expanded in parallel on a ForkJoinPool, one task per board, and every worker thread keeps its own
+ * {@link PlacementEnumerator}.
+ *
+ * Boards are identified by their {@link Zobrist} hash. Different move orders often lead to the same
+ * board: the beam keeps only the best line to each board, and the board part of the score is cached
+ * in a {@link TranspositionTable} shared by all workers and kept between searches.
+ *
+ * A search stops at its deadline and answers with the best line of the deepest step it completed.
+ * The result does not depend on the number of threads.
+ */
+public final class BeamSearch {
+
+    /** Number of board scores the transposition table holds. */
+    private static final int TABLE_CAPACITY = 1 << 16;
+
+    private static final Comparator<Node> BEST_FIRST = Comparator.comparingDouble((Node node) -> node.score).reversed();
+
+    private final int rows;
+    private final int columns;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<PlacementEnumerator> enumerators;
+    private final TranspositionTable table = new TranspositionTable(TABLE_CAPACITY);
+
+    /**
+     * Constructs a new BeamSearch for boards of the given size.
+     *
+     * @param rows the number of rows of the board matrix
+     * @param columns the number of columns of the board matrix
+     * @param pool the pool running the searches
+     */
+    public BeamSearch(int rows, int columns, ForkJoinPool pool) {
+        this.rows = rows;
+        this.columns = columns;
+        this.pool = pool;
+        this.enumerators = ThreadLocal.withInitial(() -> new PlacementEnumerator(rows, columns));
+    }
+
+    /**
+     * Gets the number of threads the searches run on.
+     *
+     * @return the pool parallelism
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Gets the cache of board scores, e.g. to read its hit rate.
+     *
+     * @return the transposition table
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Starts a search on the pool and returns at once.
+     * The board matrix is copied before this method returns, so the caller may keep playing on it.
+     *
+     * @param matrix the board matrix
+     * @param brick the current brick
+     * @param rotation the rotation index of the current brick
+     * @param x the column of the current brick
+     * @param y the row of the current brick
+     * @param preview the bricks that follow the current one, in order
+     * @param depth the number of bricks to place, including the current one
+     * @param beamWidth the number of boards kept at each step
+     * @param deadlineNanos the {@link System#nanoTime()} value at which the search stops deepening
+     * @return the running search
+     */
+    public ForkJoinTask<SearchResult> submit(int[][] matrix, Brick brick, int rotation, int x, int y,
+            List<Brick> preview, int depth, int beamWidth, long deadlineNanos) {
+        return pool.submit(new SearchTask(MatrixOperations.copy(matrix), brick, rotation, x, y,
+                List.copyOf(preview), depth, beamWidth, deadlineNanos));
+    }
+
+    /**
+     * Runs a search and waits for its result.
+     *
+     * @param matrix the board matrix
+     * @param brick the current brick
+     * @param rotation the rotation index of the current brick
+     * @param x the column of the current brick
+     * @param y the row of the current brick
+     * @param preview the bricks that follow the current one, in order
+     * @param depth the number of bricks to place, including the current one
+     * @param beamWidth the number of boards kept at each step
+     * @param deadlineNanos the {@link System#nanoTime()} value at which the search stops deepening
+     * @return the search result
+     * @see #submit
+     */
+    public SearchResult search(int[][] matrix, Brick brick, int rotation, int x, int y,
+            List<Brick> preview, int depth, int beamWidth, long deadlineNanos) {
+        return submit(matrix, brick, rotation, x, y, preview, depth, beamWidth, deadlineNanos).join();
+    }
+
+    /**
+     * A board in the beam. Children are evaluated in place on their parent's matrix, and only the
+     * boards that survive into the next beam get a matrix of their own.
+     */
+    private static final class Node {
+        private final Node parent;
+        private final Placement placement;
+        private final double score;
+        private final int root;
+        private final long hash;
+        private int[][] matrix;
+
+        Node(Node parent, Placement placement, double score, int root, long hash) {
+            this.parent = parent;
+            this.placement = placement;
+            this.score = score;
+            this.root = root;
+            this.hash = hash;
+        }
+    }
+
+    private final class SearchTask extends RecursiveTask<SearchResult> {
+        private final int[][] matrix;
+        private final Brick brick;
+        private final int rotation;
+        private final int x;
+        private final int y;
+        private final List<Brick> preview;
+        private final int depth;
+        private final int beamWidth;
+        private final long deadlineNanos;
+
+        SearchTask(int[][] matrix, Brick brick, int rotation, int x, int y,
+                List<Brick> preview, int depth, int beamWidth, long deadlineNanos) {
+            this.matrix = matrix;
+            this.brick = brick;
+            this.rotation = rotation;
+            this.x = x;
+            this.y = y;
+            this.preview = preview;
+            this.depth = depth;
+            this.beamWidth = beamWidth;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        protected SearchResult compute() {
+            table.newSearch();
+            PlacementEnumerator enumerator = enumerators.get();
+            List<Placement> placements = enumerator.enumerate(matrix, brick, rotation, x, y);
+            if (placements.isEmpty()) {
+                return new SearchResult(null, Collections.emptyList(), 0, 0);
+            }
+            // 路径只在本次枚举有效，先为所有第一步落点取出按键序列
+            List<List<EventType>> paths = new ArrayList<>(placements.size());
+            Node start = new Node(null, null, 0, -1, Zobrist.hash(matrix));
+            start.matrix = matrix;
+            List<Node> beam = new ArrayList<>(placements.size());
+            for (int i = 0; i < placements.size(); i++) {
+                paths.add(enumerator.getPath(placements.get(i)));
+                beam.add(evaluate(start, placements.get(i), i));
+            }
+            long nodeCount = beam.size();
+            beam = select(beam);
+            int completed = 1;
+
+            int maxDepth = Math.min(depth, preview.size() + 1);
+            while (completed < maxDepth && System.nanoTime() < deadlineNanos) {
+                Brick next = preview.get(completed - 1);
+                List<ExpandTask> tasks = new ArrayList<>(beam.size());
+                for (Node node : beam) {
+                    tasks.add(new ExpandTask(node, next, deadlineNanos));
+                }
+                ForkJoinTask.invokeAll(tasks);
+                List<Node> children = new ArrayList<>();
+                boolean expired = false;
+                for (ExpandTask task : tasks) {
+                    List<Node> expanded = task.join();
+                    if (expanded == null) {
+                        expired = true;
+                        break;
+                    }
+                    children.addAll(expanded);
+                }
+                // 超时的一层不完整，使用上一层的结果；所有分支都无法出块时同样保留上一层
+                if (expired || children.isEmpty()) {
+                    break;
+                }
+                nodeCount += children.size();
+                beam = select(children);
+                completed++;
+            }
+            Node best = beam.get(0);
+            return new SearchResult(placements.get(best.root), paths.get(best.root), completed, nodeCount);
+        }
+
+        /**
+         * Keeps the best boards, one line per distinct board, and gives each of them its own matrix.
+         */
+        private List<Node> select(List<Node> nodes) {
+            nodes.sort(BEST_FIRST);
+            List<Node> kept = new ArrayList<>(Math.min(beamWidth, nodes.size()));
+            long[] keptHashes = new long[beamWidth];
+            for (int i = 0; i < nodes.size() && kept.size() < beamWidth; i++) {
+                Node node = nodes.get(i);
+                // 同一棋盘只保留得分最高的路线，把束宽留给不同的棋盘
+                if (contains(keptHashes, kept.size(), node.hash)) {
+                    continue;
+                }
+                keptHashes[kept.size()] = node.hash;
+                if (node.matrix == null) {
+                    node.matrix = place(node.parent.matrix, node.placement);
+                }
+                kept.add(node);
+            }
+            return kept;
+        }
+    }
+
+    private final class ExpandTask extends RecursiveTask<List<Node>> {
+        private final Node node;
+        private final Brick brick;
+        private final long deadlineNanos;
+
+        ExpandTask(Node node, Brick brick, long deadlineNanos) {
+            this.node = node;
+            this.brick = brick;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        protected List<Node> compute() {
+            if (System.nanoTime() >= deadlineNanos) {
+                return null;
+            }
+            List<Placement> placements = enumerators.get().enumerate(node.matrix, brick, 0, Board.SPAWN_X, Board.SPAWN_Y);
+            List<Node> children = new ArrayList<>(placements.size());
+            for (Placement placement : placements) {
+                children.add(evaluate(node, placement, node.root));
+            }
+            return children;
+        }
+    }
+
+    /**
+     * Scores the board that results from a placement, by merging the brick into the parent's matrix,
+     * scoring it and taking the brick out again. Placements that clear rows are scored on a copy,
+     * which the new node keeps.
+     */
+    private Node evaluate(Node parent, Placement placement, int root) {
+        int[][] matrix = parent.matrix;
+        BrickShape shape = placement.getShape();
+        int x = placement.getX();
+        int y = placement.getY();
+        setCells(matrix, shape, x, y, shape.getColor());
+        int lines = countFullRows(matrix, shape, y);
+        double landingHeight = rows - y - (shape.getMinRow() + shape.getMaxRow()) / 2.0;
+        double score = BoardEvaluator.evaluatePlacement(landingHeight, lines);
+        if (lines == 0) {
+            long hash = Zobrist.toggle(parent.hash, shape, x, y);
+            score += boardScore(matrix, hash);
+            setCells(matrix, shape, x, y, 0);
+            return new Node(parent, placement, parent.score + score, root, hash);
+        }
+        setCells(matrix, shape, x, y, 0);
+        int[][] cleared = place(matrix, placement);
+        long hash = Zobrist.hash(cleared);
+        score += boardScore(cleared, hash);
+        Node child = new Node(parent, placement, parent.score + score, root, hash);
+        child.matrix = cleared;
+        return child;
+    }
+
+    /**
+     * Gets the board part of the score from the transposition table, computing and storing it on a miss.
+     */
+    private double boardScore(int[][] matrix, long hash) {
+        double score = table.get(hash);
+        if (Double.isNaN(score)) {
+            score = BoardEvaluator.evaluateBoard(matrix);
+            table.put(hash, score);
+        }
+        return score;
+    }
+
+    /**
+     * Builds the board after a placement: merges the brick into a copy and removes complete rows.
+     */
+    private int[][] place(int[][] parentMatrix, Placement placement) {
+        int[][] matrix = MatrixOperations.merge(parentMatrix, placement.getShape(), placement.getX(), placement.getY());
+        // 自底向上压缩，跳过已满的行，顶部补空行
+        int write = rows - 1;
+        for (int read = rows - 1; read >= 0; read--) {
+            if (!isFull(matrix[read])) {
+                matrix[write--] = matrix[read];
+            }
+        }
+        while (write >= 0) {
+            matrix[write--] = new int[columns];
+        }
+        return matrix;
+    }
+
+    private static void setCells(int[][] matrix, BrickShape shape, int x, int y, int value) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            matrix[y + shape.getCellRow(i)][x + shape.getCellColumn(i)] = value;
+        }
+    }
+
+    private static int countFullRows(int[][] matrix, BrickShape shape, int y) {
+        int lines = 0;
+        for (int row = y + shape.getMinRow(); row <= y + shape.getMaxRow(); row++) {
+            if (isFull(matrix[row])) {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static boolean contains(long[] values, int count, long value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
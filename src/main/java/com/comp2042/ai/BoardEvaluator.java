@@ -0,0 +1,143 @@
+package com.comp2042.ai;
+
+/**
+ * Scores a board after a brick has been placed, using the six features and weights of the
+ * El-Tetris heuristic (landing height, cleared rows, row and column transitions, holes and wells).
+ * Higher scores are better. The features are read straight from the board matrix without allocating.
+ */
+public final class BoardEvaluator {
+
+    private static final double LANDING_HEIGHT = -4.500158825082766;
+    private static final double ROWS_ELIMINATED = 3.4181268101392694;
+    private static final double ROW_TRANSITIONS = -3.2178882868487753;
+    private static final double COLUMN_TRANSITIONS = -9.348695305445199;
+    private static final double HOLES = -7.899265427351652;
+    private static final double WELL_SUMS = -3.3855972247263626;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private BoardEvaluator() {
+
+    }
+
+    /**
+     * Scores a board.
+     * 
+     * @param matrix the board after the brick was merged and complete rows were removed
+     * @param landingHeight the height above the floor of the middle of the placed brick, in rows
+     * @param linesCleared the number of rows the placement removed
+     * @return the score of the board; higher is better
+     */
+    public static double evaluate(int[][] matrix, double landingHeight, int linesCleared) {
+        return evaluatePlacement(landingHeight, linesCleared) + evaluateBoard(matrix);
+    }
+
+    /**
+     * Scores the features that depend on how the brick was placed.
+     * 
+     * @param landingHeight the height above the floor of the middle of the placed brick, in rows
+     * @param linesCleared the number of rows the placement removed
+     * @return the placement part of the score
+     */
+    public static double evaluatePlacement(double landingHeight, int linesCleared) {
+        return LANDING_HEIGHT * landingHeight + ROWS_ELIMINATED * linesCleared;
+    }
+
+    /**
+     * Scores the features that depend only on the filled cells of the board, so the result can be
+     * cached by the board's {@link com.comp2042.Zobrist} hash.
+     * 
+     * @param matrix the board matrix
+     * @return the board part of the score
+     */
+    public static double evaluateBoard(int[][] matrix) {
+        return ROW_TRANSITIONS * rowTransitions(matrix)
+                + COLUMN_TRANSITIONS * columnTransitions(matrix)
+                + HOLES * holes(matrix)
+                + WELL_SUMS * wellSums(matrix);
+    }
+
+    /**
+     * Counts filled/empty changes along each row; the walls count as filled.
+     */
+    static int rowTransitions(int[][] matrix) {
+        int transitions = 0;
+        for (int[] row : matrix) {
+            boolean previous = true;
+            for (int cell : row) {
+                boolean filled = cell != 0;
+                if (filled != previous) {
+                    transitions++;
+                }
+                previous = filled;
+            }
+            if (!previous) {
+                transitions++;
+            }
+        }
+        return transitions;
+    }
+
+    /**
+     * Counts filled/empty changes down each column; the floor counts as filled.
+     */
+    static int columnTransitions(int[][] matrix) {
+        int transitions = 0;
+        for (int column = 0; column < matrix[0].length; column++) {
+            boolean previous = false;
+            for (int[] row : matrix) {
+                boolean filled = row[column] != 0;
+                if (filled != previous) {
+                    transitions++;
+                }
+                previous = filled;
+            }
+            if (!previous) {
+                transitions++;
+            }
+        }
+        return transitions;
+    }
+
+    /**
+     * Counts empty cells that have a filled cell somewhere above them.
+     */
+    static int holes(int[][] matrix) {
+        int holes = 0;
+        for (int column = 0; column < matrix[0].length; column++) {
+            boolean covered = false;
+            for (int[] row : matrix) {
+                if (row[column] != 0) {
+                    covered = true;
+                } else if (covered) {
+                    holes++;
+                }
+            }
+        }
+        return holes;
+    }
+
+    /**
+     * Sums the depth of every well cell: an empty cell whose left and right neighbours are filled.
+     * A well of depth n adds 1 + 2 + ... + n, so deep wells weigh much more than shallow ones.
+     */
+    static int wellSums(int[][] matrix) {
+        int columns = matrix[0].length;
+        int sum = 0;
+        for (int column = 0; column < columns; column++) {
+            int depth = 0;
+            for (int[] row : matrix) {
+                boolean leftFilled = column == 0 || row[column - 1] != 0;
+                boolean rightFilled = column == columns - 1 || row[column + 1] != 0;
+                if (row[column] == 0 && leftFilled && rightFilled) {
+                    depth++;
+                    sum += depth;
+                } else {
+                    depth = 0;
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,180 @@
+package com.comp2042.ai;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+import com.comp2042.ClearRow;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.SimpleBoard;
+import com.comp2042.ViewData;
+
+/**
+ * Computer player that steers a board through the same input events as a human player.
+ *
+ * When a new brick appears the player snapshots the board and starts a {@link BeamSearch} on the
+ * search pool, so the game thread never waits for it. Once the search has answered, the player
+ * presses one key every few ticks along the chosen path and then soft-drops the brick until it locks.
+ * If gravity moves the brick while the search runs, down moves it already made are skipped; if a
+ * move is blocked, the player searches again from where the brick is.
+ *
+ * All methods must be called from the game thread.
+ */
+public final class CpuPlayer {
+
+    private final SimpleBoard board;
+    private final InputEventListener input;
+    private final BeamSearch search;
+    private AiStrength strength;
+
+    // 当前计划对应的方块编号；与棋盘不一致时需要重新搜索
+    private long plannedBrick = -1;
+    private ForkJoinTask<SearchResult> pending;
+    private List<EventType> plan;
+    private int step;
+    // 按计划执行到当前步时方块应在的行
+    private int plannedY;
+    private int cooldown;
+
+    /**
+     * Constructs a new CpuPlayer.
+     *
+     * @param board the board the player watches
+     * @param input the input events that move the board's brick
+     * @param search the search used to choose placements
+     * @param strength the strength level
+     */
+    public CpuPlayer(SimpleBoard board, InputEventListener input, BeamSearch search, AiStrength strength) {
+        this.board = board;
+        this.input = input;
+        this.search = search;
+        this.strength = strength;
+    }
+
+    /**
+     * Gets the strength level.
+     *
+     * @return the strength level
+     */
+    public AiStrength getStrength() {
+        return strength;
+    }
+
+    /**
+     * Changes the strength level. Takes effect from the next brick.
+     *
+     * @param strength the strength level
+     */
+    public void setStrength(AiStrength strength) {
+        this.strength = strength;
+    }
+
+    /**
+     * Checks whether a search is still running for the current brick.
+     *
+     * @return true while the player waits for its search
+     */
+    public boolean isSearching() {
+        return pending != null && !pending.isDone();
+    }
+
+    /**
+     * Drops the current plan and cancels a running search, e.g. when a new game starts.
+     */
+    public void reset() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+        plannedBrick = -1;
+        plan = null;
+    }
+
+    /**
+     * Advances the player by one game tick: starts a search for a new brick, or presses the next key
+     * of the plan when the move interval has passed.
+     *
+     * @return the cleared rows if a key press locked the brick, or null otherwise
+     */
+    public ClearRow tick() {
+        if (board.getBrickCount() != plannedBrick) {
+            startSearch();
+        }
+        if (plan == null) {
+            if (!pending.isDone()) {
+                return null;
+            }
+            // 搜索失败时不移动，直接下落
+            plan = pending.isCompletedNormally() ? pending.join().getPath() : Collections.emptyList();
+            pending = null;
+            step = 0;
+            cooldown = 0;
+        }
+        if (cooldown > 0) {
+            cooldown--;
+            return null;
+        }
+        cooldown = strength.getMoveIntervalTicks() - 1;
+        return pressNextKey();
+    }
+
+    private void startSearch() {
+        reset();
+        ViewData view = board.getViewData();
+        plannedBrick = board.getBrickCount();
+        plannedY = view.getyPosition();
+        long deadline = System.nanoTime() + strength.getTimeBudgetMillis() * 1_000_000L;
+        pending = search.submit(board.getBoardMatrix(), board.getBrick(), board.getBrickRotation(),
+                view.getxPosition(), view.getyPosition(), board.getPreview(),
+                strength.getDepth(), strength.getBeamWidth(search.getParallelism()), deadline);
+    }
+
+    private ClearRow pressNextKey() {
+        while (step < plan.size()) {
+            EventType move = plan.get(step++);
+            if (move == EventType.DOWN) {
+                plannedY++;
+                // 重力已经把方块带到这一行
+                if (board.getViewData().getyPosition() >= plannedY) {
+                    continue;
+                }
+                return pressDown();
+            }
+            if (!press(move)) {
+                // 路径被挡住，下一个tick从当前位置重新搜索
+                plannedBrick = -1;
+            }
+            return null;
+        }
+        // 路径走完后持续软降，直到方块锁定
+        return pressDown();
+    }
+
+    private boolean press(EventType move) {
+        ViewData before = board.getViewData();
+        int rotation = board.getBrickRotation();
+        MoveEvent event = new MoveEvent(move, EventSource.USER);
+        ViewData after;
+        switch (move) {
+            case LEFT:
+                after = input.onLeftEvent(event);
+                break;
+            case RIGHT:
+                after = input.onRightEvent(event);
+                break;
+            default:
+                after = input.onRotateEvent(event);
+                return after != null && board.getBrickRotation() != rotation;
+        }
+        return after != null && after.getxPosition() != before.getxPosition();
+    }
+
+    private ClearRow pressDown() {
+        DownData downData = input.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+        return downData != null ? downData.getClearRow() : null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.ai;
+
+import java.util.List;
+
+import com.comp2042.EventType;
+import com.comp2042.Placement;
+
+/**
+ * The outcome of a {@link BeamSearch}: where to put the current brick and the keys that get it there.
+ */
+public final class SearchResult {
+
+    private final Placement placement;
+    private final List<EventType> path;
+    private final int depth;
+    private final long nodeCount;
+
+    SearchResult(Placement placement, List<EventType> path, int depth, long nodeCount) {
+        this.placement = placement;
+        this.path = path;
+        this.depth = depth;
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Gets the chosen placement of the current brick.
+     * 
+     * @return the placement, or null if the brick cannot move from where it is
+     */
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    /**
+     * Gets the moves that take the current brick from its start position to the chosen placement.
+     * 
+     * @return the moves in order; empty if there is no placement
+     */
+    public List<EventType> getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of bricks the search placed before it stopped, including the current one.
+     * This is lower than the requested depth when the time budget ran out or the preview was too short.
+     * 
+     * @return the completed search depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the number of boards the search evaluated.
+     * 
+     * @return the node count
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+}
@@ -0,0 +1,163 @@
+package com.comp2042.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size cache from a 64-bit board hash to a score, shared by all search threads.
+ *
+ * Entries live in primitive arrays and are grouped in buckets of {@value #BUCKET_SIZE} slots; a key
+ * is only ever stored in its own bucket, so a lookup reads at most one cache line or two. When a
+ * bucket is full, the entry written in the oldest search is replaced.
+ *
+ * The table is not locked. Each slot stores the key XOR-ed with the value, so a slot that another
+ * thread is halfway through writing does not match any key and reads as a miss.
+ */
+public final class TranspositionTable {
+
+    /** Number of slots a key may occupy. */
+    static final int BUCKET_SIZE = 4;
+
+    private final long[] checks;
+    private final long[] values;
+    // 写入该槽的搜索代数；0表示空槽
+    private final int[] ages;
+    private final int bucketMask;
+    private volatile int age = 1;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+
+    /**
+     * Constructs a new TranspositionTable.
+     *
+     * @param capacity the minimum number of entries; rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Unsupported capacity " + capacity);
+        }
+        int size = Math.max(BUCKET_SIZE, Integer.highestOneBit(capacity - 1) << 1);
+        checks = new long[size];
+        values = new long[size];
+        ages = new int[size];
+        bucketMask = size - BUCKET_SIZE;
+    }
+
+    /**
+     * Looks up the score stored for a hash.
+     *
+     * @param key the board hash
+     * @return the stored score, or {@link Double#NaN} if the table does not hold the hash
+     */
+    public double get(long key) {
+        int bucket = bucketOf(key);
+        for (int slot = bucket; slot < bucket + BUCKET_SIZE; slot++) {
+            long value = values[slot];
+            if (ages[slot] != 0 && (checks[slot] ^ value) == key) {
+                hits.increment();
+                return Double.longBitsToDouble(value);
+            }
+        }
+        misses.increment();
+        return Double.NaN;
+    }
+
+    /**
+     * Stores the score of a hash, replacing the oldest entry of its bucket if the bucket is full.
+     *
+     * @param key the board hash
+     * @param score the score to store
+     */
+    public void put(long key, double score) {
+        long value = Double.doubleToRawLongBits(score);
+        int bucket = bucketOf(key);
+        int victim = bucket;
+        for (int slot = bucket; slot < bucket + BUCKET_SIZE; slot++) {
+            if (ages[slot] == 0 || (checks[slot] ^ values[slot]) == key) {
+                victim = slot;
+                break;
+            }
+            if (ages[slot] < ages[victim]) {
+                victim = slot;
+            }
+        }
+        if (ages[victim] != 0 && (checks[victim] ^ values[victim]) != key) {
+            replacements.increment();
+        }
+        values[victim] = value;
+        checks[victim] = key ^ value;
+        ages[victim] = age;
+    }
+
+    /**
+     * Marks the start of a new search, so entries of earlier searches are replaced first.
+     */
+    public void newSearch() {
+        age++;
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return the table capacity
+     */
+    public int getCapacity() {
+        return values.length;
+    }
+
+    /**
+     * Gets the number of lookups that found their hash.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that did not find their hash.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of stores that evicted another hash.
+     *
+     * @return the replacement count
+     */
+    public long getReplacements() {
+        return replacements.sum();
+    }
+
+    /**
+     * Gets the share of lookups that found their hash.
+     *
+     * @return the hit rate between 0 and 1, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Empties the table and resets the counters.
+     */
+    public void clear() {
+        Arrays.fill(ages, 0);
+        hits.reset();
+        misses.reset();
+        replacements.reset();
+    }
+
+    private int bucketOf(long key) {
+        // 低位与键的其余位混合，避免只依赖少数几个格子的键
+        return (int) (key ^ key >>> 32) & bucketMask;
+    }
+}
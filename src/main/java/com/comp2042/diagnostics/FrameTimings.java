@@ -0,0 +1,62 @@
+package com.comp2042.diagnostics;
+
+/**
+ * Timings of the JavaFX pulses that drive the game loop: the interval between pulses, which shows
+ * dropped or late frames, and the time the game loop itself spends in each pulse.
+ *
+ * Must be used from the JavaFX application thread.
+ */
+public final class FrameTimings {
+
+    private final LatencyHistogram intervals = new LatencyHistogram();
+    private final LatencyHistogram work = new LatencyHistogram();
+    private long lastPulse = Long.MIN_VALUE;
+
+    /**
+     * Records one pulse.
+     *
+     * @param pulseStart the pulse timestamp passed to the animation timer
+     * @param workNanos the time the game loop spent in the pulse
+     */
+    public void pulse(long pulseStart, long workNanos) {
+        if (lastPulse != Long.MIN_VALUE) {
+            intervals.record(pulseStart - lastPulse);
+        }
+        lastPulse = pulseStart;
+        work.record(workNanos);
+    }
+
+    /**
+     * Forgets the previous pulse, so a pause is not counted as one long frame.
+     */
+    public void restart() {
+        lastPulse = Long.MIN_VALUE;
+    }
+
+    /**
+     * Discards all recorded pulses, to measure from a clean slate after a settings change.
+     */
+    public void reset() {
+        intervals.reset();
+        work.reset();
+        lastPulse = Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the intervals between consecutive pulses.
+     *
+     * @return the interval histogram
+     */
+    public LatencyHistogram getIntervals() {
+        return intervals;
+    }
+
+    /**
+     * Gets the time the game loop spent in each pulse.
+     *
+     * @return the work histogram
+     */
+    public LatencyHistogram getWork() {
+        return work;
+    }
+}
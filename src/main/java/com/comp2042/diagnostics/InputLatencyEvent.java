@@ -0,0 +1,39 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one key press, from its arrival in the key handler to the frame that
+ * showed its effect. Enable it with {@code -XX:StartFlightRecording} or stream it with
+ * {@code jdk.jfr.consumer.RecordingStream} and the name {@code com.comp2042.InputLatency}.
+ */
+@Name("com.comp2042.InputLatency")
+@Label("Input Latency")
+@Category({"Tetris", "Input"})
+@Description("Time from a key press to the frame that rendered the moved brick")
+@StackTrace(false)
+final class InputLatencyEvent extends Event {
+
+    @Label("Player")
+    int player;
+
+    @Label("Queued")
+    @Description("From the key event to the game tick that applied it")
+    @Timespan(Timespan.NANOSECONDS)
+    long queuedNanos;
+
+    @Label("Rendered")
+    @Description("From the game tick to the end of the frame that drew the result")
+    @Timespan(Timespan.NANOSECONDS)
+    long renderNanos;
+
+    @Label("Total")
+    @Timespan(Timespan.NANOSECONDS)
+    long totalNanos;
+}
@@ -0,0 +1,123 @@
+package com.comp2042.diagnostics;
+
+/**
+ * Follows key presses of one player through the game loop and records how long each took to reach
+ * the screen.
+ *
+ * A press is timestamped when the key handler receives it, again when the game tick applies it,
+ * and finished by the next frame that renders the moved brick. Presses that change nothing, such as
+ * a move into a wall, are dropped because no frame will ever show them. When several presses wait
+ * for the same frame, the earliest one is measured, so the worst case is never hidden.
+ *
+ * The operating system repeats the press event of a held key, but the game ignores those repeats
+ * and moves a held brick on its own DAS/ARR timing. {@link #keyPressed(int, long)} therefore only
+ * stamps the first press of a key until {@link #keyReleased(int)}; otherwise each repeat would be
+ * matched with the next auto-shift step and record a short latency that no real press had.
+ *
+ * Each measurement goes into a {@link LatencyHistogram} and, when Flight Recorder is recording it,
+ * into an {@code com.comp2042.InputLatency} event. All methods must be called from the JavaFX
+ * application thread.
+ */
+public final class InputLatencyProbe {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final int player;
+    private final LatencyHistogram histogram;
+    private long arrived = NONE;
+    private long applied = NONE;
+    // 当前按住的按键，每个按键编号占一位
+    private long heldKeys;
+
+    /**
+     * Constructs a new InputLatencyProbe.
+     *
+     * @param player the player number reported in the events
+     * @param histogram the histogram receiving the total latencies
+     */
+    public InputLatencyProbe(int player, LatencyHistogram histogram) {
+        this.player = player;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Marks the arrival of a key press, unless the key is already held and this is a repeat.
+     *
+     * @param key the key number, from 0 to 63, e.g. the ordinal of the key's action
+     * @param now the current {@link System#nanoTime()}
+     */
+    public void keyPressed(int key, long now) {
+        long bit = 1L << key;
+        if ((heldKeys & bit) == 0) {
+            heldKeys |= bit;
+            keyArrived(now);
+        }
+    }
+
+    /**
+     * Marks the release of a key, so its next press is measured again.
+     *
+     * @param key the key number passed to {@link #keyPressed(int, long)}
+     */
+    public void keyReleased(int key) {
+        heldKeys &= ~(1L << key);
+    }
+
+    /**
+     * Marks the arrival of a key press.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    public void keyArrived(long now) {
+        if (arrived == NONE) {
+            arrived = now;
+        }
+    }
+
+    /**
+     * Marks the end of the input handling of a game tick.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @param changed whether the tick's input changed the board, so a frame will show it
+     */
+    public void inputApplied(long now, boolean changed) {
+        if (arrived == NONE || applied != NONE) {
+            return;
+        }
+        if (changed) {
+            applied = now;
+        } else {
+            arrived = NONE;
+        }
+    }
+
+    /**
+     * Marks the end of a rendered frame, completing the measurement of an applied press.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    public void frameRendered(long now) {
+        if (applied == NONE) {
+            return;
+        }
+        histogram.record(now - arrived);
+        InputLatencyEvent event = new InputLatencyEvent();
+        if (event.isEnabled()) {
+            event.player = player;
+            event.queuedNanos = applied - arrived;
+            event.renderNanos = now - applied;
+            event.totalNanos = now - arrived;
+            event.commit();
+        }
+        arrived = NONE;
+        applied = NONE;
+    }
+
+    /**
+     * Drops a press that is still in flight, e.g. when the game is paused.
+     */
+    public void cancel() {
+        arrived = NONE;
+        applied = NONE;
+    }
+}
@@ -0,0 +1,116 @@
+package com.comp2042.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations in nanoseconds with a fixed memory footprint.
+ *
+ * Values are counted in log-linear buckets: every power of two is split into
+ * {@value #SUB_BUCKETS} equal sub-buckets, so a reported percentile is within about 6% of the true
+ * value from one nanosecond up to centuries. Recording is a few shifts and an array increment and
+ * never allocates, so it can run on every frame.
+ *
+ * Not thread-safe; record and read from the same thread, e.g. the JavaFX application thread.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 小于SUB_BUCKETS的值各占一个桶，之后每个2的幂区间占SUB_BUCKETS个桶
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long max;
+
+    /**
+     * Counts one duration.
+     *
+     * @param nanos the duration; negative values are counted as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        count++;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the largest recorded duration exactly.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the duration below which the given share of the recorded durations fall.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the duration in nanoseconds, at the middle of its bucket and never above the maximum;
+     *         0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long low = lowerBound(i);
+                long width = lowerBound(i + 1) - low;
+                return Math.min(max, low + width / 2);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Forgets all recorded durations.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+    }
+
+    /**
+     * Formats the median, 99th percentile and maximum in milliseconds.
+     *
+     * @return a one-line summary such as {@code "p50 4.1 ms  p99 9.8 ms  max 12.0 ms (240)"}
+     */
+    public String summary() {
+        return String.format("p50 %.1f ms  p99 %.1f ms  max %.1f ms (%d)",
+                getPercentile(50) / 1e6, getPercentile(99) / 1e6, max / 1e6, count);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long sub = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.diagnostics;
+
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * On-screen debug text showing input latency and pulse timings, refreshed a few times per second.
+ * Hidden until toggled, and costs nothing while hidden.
+ */
+public final class LatencyOverlay {
+
+    // 每隔多少帧刷新一次文字，避免每帧重新排版
+    private static final int REFRESH_FRAMES = 15;
+
+    private final Label label = new Label();
+    private final LatencyHistogram inputLatency;
+    private final FrameTimings frameTimings;
+    private String caption = "";
+    private int frames;
+
+    /**
+     * Creates the overlay and adds it to a pane, hidden.
+     *
+     * @param parent the pane that shows the overlay in its top-left corner
+     * @param inputLatency the key-to-frame latencies
+     * @param frameTimings the pulse timings
+     */
+    public LatencyOverlay(Pane parent, LatencyHistogram inputLatency, FrameTimings frameTimings) {
+        this.inputLatency = inputLatency;
+        this.frameTimings = frameTimings;
+        label.setFont(Font.font("Monospaced", 14));
+        label.setTextFill(Color.LIME);
+        label.setStyle("-fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 6;");
+        label.setMouseTransparent(true);
+        label.setLayoutX(10);
+        label.setLayoutY(10);
+        label.setVisible(false);
+        parent.getChildren().add(label);
+    }
+
+    /**
+     * Shows or hides the overlay.
+     */
+    public void toggle() {
+        label.setVisible(!label.isVisible());
+        frames = 0;
+        if (label.isVisible()) {
+            label.toFront();
+            refresh();
+        }
+    }
+
+    /**
+     * Sets a line shown above the timings, such as the active render settings.
+     *
+     * @param caption the text, without a trailing line break
+     */
+    public void setCaption(String caption) {
+        this.caption = caption + "\n";
+        if (label.isVisible()) {
+            refresh();
+        }
+    }
+
+    /**
+     * Called once per rendered frame; refreshes the text every few frames while visible.
+     */
+    public void update() {
+        if (label.isVisible() && ++frames >= REFRESH_FRAMES) {
+            frames = 0;
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        label.setText(caption + "input  " + inputLatency.summary()
+                + "\npulse  " + frameTimings.getIntervals().summary()
+                + "\nloop   " + frameTimings.getWork().summary());
+    }
+}
@@ -5,6 +5,10 @@ import java.util.List;
 /**
  * Interface representing a Tetris brick (tetromino).
  * Provides access to the brick's shape matrices for all rotation states.
+ *
+ * Bricks are flyweights: an implementation packs every rotation state into a {@link BrickShape}
+ * once, when its class is loaded (see {@link BrickShape#table(List)}), and {@link #getShape(int)}
+ * hands out those shared, immutable instances. Only {@link #getShapeMatrix()} copies.
  */
 public interface Brick {
 
@@ -15,4 +19,20 @@ public interface Brick {
      * @return a list of 2D arrays, where each array represents the brick shape at a specific rotation
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the precomputed, immutable shape of one rotation state.
+     * Unlike {@link #getShapeMatrix()} this never copies, so it is safe to call on every move.
+     * 
+     * @param rotation the rotation index, from 0 to {@link #getRotationCount()} - 1
+     * @return the packed shape of that rotation state
+     */
+    BrickShape getShape(int rotation);
+
+    /**
+     * Gets the number of rotation states of this brick.
+     * 
+     * @return the rotation count
+     */
+    int getRotationCount();
 }
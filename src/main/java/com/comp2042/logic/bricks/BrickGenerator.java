@@ -19,4 +19,27 @@ public interface BrickGenerator {
      * @return the next Brick object that will be returned by getBrick()
      */
     Brick getNextBrick();
+
+    /**
+     * Previews an upcoming brick without removing it from the queue.
+     * 
+     * @param index 0 for the brick returned by the next call to getBrick(), 1 for the one after it, and so on
+     * @return the upcoming Brick
+     * @throws IndexOutOfBoundsException if the index is not below {@link #getPreviewDepth()}
+     */
+    default Brick getPreview(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " out of range 0-0");
+        }
+        return getNextBrick();
+    }
+
+    /**
+     * Gets the number of upcoming bricks that can be previewed.
+     * 
+     * @return the preview depth, at least 1
+     */
+    default int getPreviewDepth() {
+        return 1;
+    }
 }
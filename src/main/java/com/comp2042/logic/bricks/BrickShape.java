@@ -0,0 +1,240 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, precomputed form of one rotation state of a brick.
+ * Holds the 4x4 cell bitmask, the list of filled cell coordinates and the bounding box,
+ * so collision checks and rendering can read the shape without copying any arrays.
+ *
+ * Bit {@code row * 4 + column} of the mask is set when that cell of the 4x4 shape is filled.
+ */
+public final class BrickShape {
+
+    /** Width and height of every brick shape matrix. */
+    public static final int SIZE = 4;
+
+    private final int color;
+    private final int mask;
+    private final int[] cellRows;
+    private final int[] cellColumns;
+    private final int minRow;
+    private final int maxRow;
+    private final int minColumn;
+    private final int maxColumn;
+    // 每列最低的填充行，空列为-1
+    private final int[] columnBottoms = new int[SIZE];
+
+    private BrickShape(int color, int mask) {
+        this.color = color;
+        this.mask = mask;
+        int count = Integer.bitCount(mask);
+        cellRows = new int[count];
+        cellColumns = new int[count];
+        int cell = 0;
+        int top = SIZE;
+        int bottom = -1;
+        int left = SIZE;
+        int right = -1;
+        Arrays.fill(columnBottoms, -1);
+        for (int row = 0; row < SIZE; row++) {
+            for (int column = 0; column < SIZE; column++) {
+                if ((mask & bit(row, column)) != 0) {
+                    cellRows[cell] = row;
+                    cellColumns[cell] = column;
+                    cell++;
+                    top = Math.min(top, row);
+                    bottom = Math.max(bottom, row);
+                    left = Math.min(left, column);
+                    right = Math.max(right, column);
+                    columnBottoms[column] = row;
+                }
+            }
+        }
+        minRow = top;
+        maxRow = bottom;
+        minColumn = left;
+        maxColumn = right;
+    }
+
+    private static int bit(int row, int column) {
+        return 1 << (row * SIZE + column);
+    }
+
+    /**
+     * Packs a shape matrix into its immutable form.
+     *
+     * @param matrix a 4x4 shape matrix where non-zero values are the brick color
+     * @return the packed shape
+     * @throws IllegalArgumentException if the matrix is larger than 4x4, empty, or uses more than one color
+     */
+    public static BrickShape of(int[][] matrix) {
+        if (matrix.length > SIZE) {
+            throw new IllegalArgumentException("Brick shape must fit in " + SIZE + "x" + SIZE);
+        }
+        int color = 0;
+        int mask = 0;
+        for (int row = 0; row < matrix.length; row++) {
+            if (matrix[row].length > SIZE) {
+                throw new IllegalArgumentException("Brick shape must fit in " + SIZE + "x" + SIZE);
+            }
+            for (int column = 0; column < matrix[row].length; column++) {
+                int value = matrix[row][column];
+                if (value == 0) {
+                    continue;
+                }
+                if (color != 0 && value != color) {
+                    throw new IllegalArgumentException("Brick shape must use a single color");
+                }
+                color = value;
+                mask |= bit(row, column);
+            }
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("Brick shape must have at least one filled cell");
+        }
+        return new BrickShape(color, mask);
+    }
+
+    /**
+     * Packs every rotation state of a brick, in order.
+     *
+     * @param matrices the shape matrices of all rotation states
+     * @return an array with one packed shape per rotation state
+     */
+    public static BrickShape[] table(List<int[][]> matrices) {
+        BrickShape[] shapes = new BrickShape[matrices.size()];
+        for (int i = 0; i < shapes.length; i++) {
+            shapes[i] = of(matrices.get(i));
+        }
+        return shapes;
+    }
+
+    /**
+     * Gets the color value of the brick (the non-zero value used in the board matrix).
+     *
+     * @return the color value
+     */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Gets the 4x4 cell bitmask, where bit {@code row * 4 + column} marks a filled cell.
+     *
+     * @return the 16-bit cell mask
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Gets the filled cells of one shape row as a bitmask, where bit {@code column} marks a filled cell.
+     *
+     * @param row the shape row (0-3)
+     * @return the 4-bit row mask
+     */
+    public int getRowMask(int row) {
+        return (mask >>> (row * SIZE)) & ((1 << SIZE) - 1);
+    }
+
+    /**
+     * Gets the color value at the given cell of the 4x4 shape.
+     *
+     * @param row the shape row (0-3)
+     * @param column the shape column (0-3)
+     * @return the color value, or 0 if the cell is empty
+     */
+    public int getCell(int row, int column) {
+        return (mask & bit(row, column)) != 0 ? color : 0;
+    }
+
+    /**
+     * Gets the number of filled cells.
+     *
+     * @return the cell count
+     */
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    /**
+     * Gets the shape row of the filled cell with the given index. Cells are ordered row by row.
+     *
+     * @param index the cell index, from 0 to {@link #getCellCount()} - 1
+     * @return the shape row of the cell
+     */
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Gets the shape column of the filled cell with the given index. Cells are ordered row by row.
+     *
+     * @param index the cell index, from 0 to {@link #getCellCount()} - 1
+     * @return the shape column of the cell
+     */
+    public int getCellColumn(int index) {
+        return cellColumns[index];
+    }
+
+    /**
+     * Gets the topmost filled row of the shape.
+     *
+     * @return the minimum row index
+     */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /**
+     * Gets the bottommost filled row of the shape.
+     *
+     * @return the maximum row index
+     */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /**
+     * Gets the leftmost filled column of the shape.
+     *
+     * @return the minimum column index
+     */
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    /**
+     * Gets the rightmost filled column of the shape.
+     *
+     * @return the maximum column index
+     */
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+
+    /**
+     * Gets the bottommost filled row of one column of the shape.
+     *
+     * @param column the column of the shape, from 0 to {@link #SIZE} - 1
+     * @return the maximum filled row index in the column, or -1 if the column is empty
+     */
+    public int getColumnBottom(int column) {
+        return columnBottoms[column];
+    }
+
+    /**
+     * Creates a new 4x4 shape matrix from this packed shape.
+     *
+     * @return a fresh 2D array that the caller may modify
+     */
+    public int[][] toMatrix() {
+        int[][] matrix = new int[SIZE][SIZE];
+        for (int i = 0; i < cellRows.length; i++) {
+            matrix[cellRows[i]][cellColumns[i]] = color;
+        }
+        return matrix;
+    }
+}
@@ -2,7 +2,6 @@ package com.comp2042.logic.bricks;
 
 import com.comp2042.MatrixOperations;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,26 +10,22 @@ import java.util.List;
  */
 final class IBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    private static final List<int[][]> BRICK_MATRIX = List.of(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            }
+    );
 
-    /**
-     * Constructs an I-brick and initializes its rotation matrices.
-     * Defines the horizontal and vertical orientations of the I-piece.
-     */
-    public IBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {1, 1, 1, 1},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0}
-        });
-    }
+    private static final BrickShape[] SHAPES = BrickShape.table(BRICK_MATRIX);
 
     /**
      * Gets a deep copy of all rotation matrices for this brick.
@@ -39,7 +34,22 @@ final class IBrick implements Brick {
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(BRICK_MATRIX);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BrickShape getShape(int rotation) {
+        return SHAPES[rotation];
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRotationCount() {
+        return SHAPES.length;
+    }
 }
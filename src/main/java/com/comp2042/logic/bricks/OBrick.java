@@ -2,7 +2,6 @@ package com.comp2042.logic.bricks;
 
 import com.comp2042.MatrixOperations;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,20 +10,16 @@ import java.util.List;
  */
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    private static final List<int[][]> BRICK_MATRIX = List.<int[][]>of(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
-    /**
-     * Constructs an O-brick and initializes its rotation matrix.
-     * Since the O-piece is symmetrical, it only has one orientation.
-     */
-    public OBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 4, 4, 0},
-                {0, 4, 4, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    private static final BrickShape[] SHAPES = BrickShape.table(BRICK_MATRIX);
 
     /**
      * Gets a deep copy of all rotation matrices for this brick.
@@ -33,7 +28,22 @@ final class OBrick implements Brick {
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(BRICK_MATRIX);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BrickShape getShape(int rotation) {
+        return SHAPES[rotation];
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRotationCount() {
+        return SHAPES.length;
+    }
 }
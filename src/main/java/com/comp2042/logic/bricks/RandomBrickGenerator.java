@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Generates bricks randomly from the standard set of Tetris pieces.
@@ -16,11 +17,25 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
+    // 为null时使用当前线程的ThreadLocalRandom
+    private final RandomGenerator random;
+
     /**
      * Constructs a new RandomBrickGenerator and initializes the brick queue.
      * Creates the standard set of 7 Tetris pieces (I, J, L, O, S, T, Z) and pre-generates the first two bricks.
      */
     public RandomBrickGenerator() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new RandomBrickGenerator that draws bricks from the given random source.
+     * A seeded source makes the brick sequence reproducible, which simulations rely on.
+     * 
+     * @param random the random source, or null to use {@link ThreadLocalRandom}
+     */
+    public RandomBrickGenerator(RandomGenerator random) {
+        this.random = random;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -29,8 +44,8 @@ public class RandomBrickGenerator implements BrickGenerator {
         brickList.add(new SBrick());
         brickList.add(new TBrick());
         brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
     }
 
     /**
@@ -42,7 +57,7 @@ public class RandomBrickGenerator implements BrickGenerator {
     @Override
     public Brick getBrick() {
         if (nextBricks.size() <= 1) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+            nextBricks.add(randomBrick());
         }
         return nextBricks.poll();
     }
@@ -56,4 +71,9 @@ public class RandomBrickGenerator implements BrickGenerator {
     public Brick getNextBrick() {
         return nextBricks.peek();
     }
+
+    private Brick randomBrick() {
+        RandomGenerator source = random != null ? random : ThreadLocalRandom.current();
+        return brickList.get(source.nextInt(brickList.size()));
+    }
 }
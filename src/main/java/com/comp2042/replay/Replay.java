@@ -0,0 +1,239 @@
+package com.comp2042.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+
+/**
+ * A recorded game: the seed of its brick sequence, the board size and every input event with the
+ * tick it happened on. Replaying the events on a board dealt from the same seed reproduces the game.
+ *
+ * File layout, after the magic number {@code "TRPL"} and a version byte: the seed as 8 bytes, then
+ * the rows and columns as varints, then the records. Each record starts with one varint key,
+ * {@code (ticks since the previous record << 4) | code}. Codes 0-9 are moves, {@code type * 2 + source};
+ * {@value #CODE_DIFFICULTY} is a difficulty change followed by the fall interval, lock delay and score
+ * multiplier; {@value #CODE_END} ends the game and is followed by the final score. A key press a few
+ * ticks after the previous one therefore takes a single byte.
+ */
+public final class Replay {
+
+    static final int MAGIC = 0x5452504C;
+    static final int VERSION = 2;
+
+    static final int CODE_BITS = 4;
+    static final int CODE_MASK = (1 << CODE_BITS) - 1;
+    static final int CODE_MOVES = EventType.values().length * EventSource.values().length;
+    static final int CODE_DIFFICULTY = 14;
+    static final int CODE_END = 15;
+
+    private final long seed;
+    private final int rows;
+    private final int columns;
+    private final byte[] records;
+    private final int eventCount;
+    private final int tickCount;
+    private final int finalScore;
+
+    /**
+     * Creates a replay from encoded records, checking that they are complete.
+     *
+     * @throws IOException if the records are truncated or contain an unknown code
+     */
+    Replay(long seed, int rows, int columns, byte[] records) throws IOException {
+        this.seed = seed;
+        this.rows = rows;
+        this.columns = columns;
+        this.records = records;
+        // 解码一遍以校验记录并取得结尾的tick与分数
+        VarIntReader reader = new VarIntReader(records);
+        int events = 0;
+        int tick = 0;
+        while (true) {
+            int key = reader.readInt();
+            tick += key >>> CODE_BITS;
+            int code = key & CODE_MASK;
+            if (code == CODE_END) {
+                break;
+            }
+            if (code == CODE_DIFFICULTY) {
+                reader.readLong();
+                reader.readLong();
+                reader.readInt();
+            } else if (code >= CODE_MOVES) {
+                throw new IOException("Unknown replay record " + code);
+            } else {
+                events++;
+            }
+        }
+        eventCount = events;
+        tickCount = tick;
+        finalScore = reader.readInt();
+        if (reader.position() != records.length) {
+            throw new IOException("Unexpected data after the end of the replay");
+        }
+    }
+
+    /**
+     * Reads a replay.
+     *
+     * @param in the stream to read; it is not closed
+     * @return the replay
+     * @throws IOException if the stream cannot be read or does not hold a replay
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        long seed = data.readLong();
+        int rows = VarIntReader.readInt(data);
+        int columns = VarIntReader.readInt(data);
+        return new Replay(seed, rows, columns, data.readAllBytes());
+    }
+
+    /**
+     * Reads a replay from a file.
+     *
+     * @param file the file to read
+     * @return the replay
+     * @throws IOException if the file cannot be read or does not hold a replay
+     */
+    public static Replay load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes this replay.
+     *
+     * @param out the stream to write to; it is not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        VarIntWriter header = new VarIntWriter(4);
+        header.writeInt(rows);
+        header.writeInt(columns);
+        header.writeTo(data);
+        data.write(records);
+        data.flush();
+    }
+
+    /**
+     * Writes this replay to a file, replacing an existing file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Gets the seed of the brick sequence.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of rows of the board.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns of the board.
+     *
+     * @return the column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of recorded input events.
+     *
+     * @return the event count
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Gets the tick at which the recording ended.
+     *
+     * @return the final tick
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the score at the end of the recording, to check a replay against.
+     *
+     * @return the final score
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    /**
+     * Gets the size of the encoded records, without the header.
+     *
+     * @return the record size in bytes
+     */
+    public int getRecordBytes() {
+        return records.length;
+    }
+
+    /**
+     * Gets a reader positioned at the first record.
+     *
+     * @return a new reader over the records
+     */
+    VarIntReader reader() {
+        return new VarIntReader(records);
+    }
+
+    /**
+     * Gets a reader positioned at the given record byte.
+     *
+     * @param position the index of the first byte to read
+     * @return a new reader over the records
+     */
+    VarIntReader reader(int position) {
+        return new VarIntReader(records, position);
+    }
+
+    /**
+     * Gets the encoded records, without copying them.
+     *
+     * @return the record bytes
+     */
+    byte[] records() {
+        return records;
+    }
+}
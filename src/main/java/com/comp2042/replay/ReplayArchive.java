@@ -0,0 +1,201 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.comp2042.EngineInput;
+import com.comp2042.EngineState;
+import com.comp2042.GameEngine;
+import com.comp2042.InputEventListener;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+/**
+ * Read-only view of a file holding many replays, written by {@link ReplayArchiveWriter}.
+ *
+ * The file is memory-mapped, so opening it reads only the index at its end and the operating
+ * system pages in the games that are actually looked at. Every game stores its replay records
+ * followed by fixed-size snapshots of the full game state taken every few seconds of play, so
+ * {@link #seek(int, int)} restores the snapshot before the requested tick and plays at most one
+ * snapshot interval of events instead of the whole game.
+ *
+ * Layout: magic and version; per game the seed, rows, columns, snapshot interval, record length,
+ * records, snapshot count and snapshots; then the offset of every game, the game count and the
+ * magic again. All numbers are big-endian. Archives are limited to 2 GB, the size of one mapping.
+ */
+public final class ReplayArchive {
+
+    static final int MAGIC = 0x54525041;
+    static final int VERSION = 2;
+
+    // 快照中棋盘之前的定长部分：13个int、1个long、1个boolean
+    private static final int SNAPSHOT_HEADER_BYTES = 13 * Integer.BYTES + Long.BYTES + 1;
+
+    private final ByteBuffer buffer;
+    private final long[] offsets;
+    // 解码后的记录按需缓存；并发读取时最多重复解码
+    private final Replay[] replays;
+
+    private ReplayArchive(ByteBuffer buffer, long[] offsets) {
+        this.buffer = buffer;
+        this.offsets = offsets;
+        this.replays = new Replay[offsets.length];
+    }
+
+    /**
+     * Maps an archive file.
+     *
+     * @param file the file to open
+     * @return the archive
+     * @throws IOException if the file cannot be read or is not an archive
+     */
+    public static ReplayArchive open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Archive is larger than 2 GB");
+            }
+            // 映射在通道关闭后仍然有效
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int size = buffer.limit();
+        if (size < 16 || buffer.getInt(0) != MAGIC || buffer.getInt(size - 4) != MAGIC) {
+            throw new IOException("Not a replay archive");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported archive version " + buffer.getInt(4));
+        }
+        int count = buffer.getInt(size - 8);
+        long indexStart = size - 8 - (long) count * Long.BYTES;
+        if (count < 0 || indexStart < 8) {
+            throw new IOException("Corrupt archive index");
+        }
+        long[] offsets = new long[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = buffer.getLong((int) indexStart + i * Long.BYTES);
+            if (offsets[i] < 8 || offsets[i] >= indexStart) {
+                throw new IOException("Corrupt archive index");
+            }
+        }
+        return new ReplayArchive(buffer, offsets);
+    }
+
+    /**
+     * Gets the number of games in the archive.
+     *
+     * @return the game count
+     */
+    public int getGameCount() {
+        return offsets.length;
+    }
+
+    /**
+     * Gets the replay of a game.
+     *
+     * @param game the index of the game
+     * @return the replay
+     * @throws IOException if the stored records are corrupt
+     */
+    public Replay getReplay(int game) throws IOException {
+        Replay replay = replays[game];
+        if (replay == null) {
+            int base = (int) offsets[game];
+            byte[] records = new byte[buffer.getInt(base + 20)];
+            buffer.get(base + 24, records);
+            replay = new Replay(buffer.getLong(base), buffer.getInt(base + 8), buffer.getInt(base + 12), records);
+            replays[game] = replay;
+        }
+        return replay;
+    }
+
+    /**
+     * Gets the number of ticks between the snapshots of a game.
+     *
+     * @param game the index of the game
+     * @return the snapshot interval
+     */
+    public int getSnapshotInterval(int game) {
+        return buffer.getInt((int) offsets[game] + 16);
+    }
+
+    /**
+     * Restores a game at a tick on a new headless board.
+     *
+     * @param game the index of the game
+     * @param tick the tick to jump to; later than the end of the game means the end
+     * @return a player positioned at the tick, before the events recorded at it are applied
+     * @throws IOException if the stored records are corrupt
+     */
+    public ReplayPlayer seek(int game, int tick) throws IOException {
+        Replay replay = getReplay(game);
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(replay.getSeed());
+        GameEngine engine = new GameEngine(new SimpleBoard(replay.getRows(), replay.getColumns(), generator));
+        return seek(game, tick, engine, generator, new EngineInput(engine));
+    }
+
+    /**
+     * Restores a game at a tick on an existing board, e.g. the one shown by the GUI.
+     *
+     * @param game the index of the game
+     * @param tick the tick to jump to; later than the end of the game means the end
+     * @param engine the engine to restore, playing on a {@link SimpleBoard} of the replay's size
+     * @param generator the brick generator of the engine's board
+     * @param input the listener receiving the events played after the snapshot
+     * @return a player positioned at the tick, before the events recorded at it are applied
+     * @throws IOException if the stored records are corrupt
+     * @throws IllegalArgumentException if the engine does not play on a SimpleBoard of the replay's size
+     */
+    public ReplayPlayer seek(int game, int tick, GameEngine engine, SevenBagBrickGenerator generator,
+                             InputEventListener input) throws IOException {
+        Replay replay = getReplay(game);
+        int rows = replay.getRows();
+        int columns = replay.getColumns();
+        if (!(engine.getBoard() instanceof SimpleBoard) || engine.getBoard().getBoardMatrix().length != rows
+                || engine.getBoard().getBoardMatrix()[0].length != columns) {
+            throw new IllegalArgumentException("Engine must play on a " + rows + "x" + columns + " SimpleBoard");
+        }
+        int base = (int) offsets[game];
+        int interval = buffer.getInt(base + 16);
+        int snapshotsStart = base + 24 + replay.getRecordBytes();
+        int count = buffer.getInt(snapshotsStart);
+        int snapshotBytes = SNAPSHOT_HEADER_BYTES + rows * columns;
+        // 快照按固定间隔存放，直接按下标定位
+        int index = Math.min(Math.max(tick, 0) / interval, count - 1);
+        int at = snapshotsStart + Integer.BYTES + index * snapshotBytes;
+
+        int snapshotTick = buffer.getInt(at);
+        int position = buffer.getInt(at + 4);
+        int nextTick = buffer.getInt(at + 8);
+        int nextCode = buffer.getInt(at + 12);
+        long dealt = buffer.getLong(at + 16);
+        int rotation = buffer.getInt(at + 24);
+        int x = buffer.getInt(at + 28);
+        int y = buffer.getInt(at + 32);
+        int score = buffer.getInt(at + 36);
+        EngineState state = new EngineState(snapshotTick, buffer.getInt(at + 40), buffer.getInt(at + 44),
+                buffer.getInt(at + 48), buffer.getInt(at + 52), buffer.getInt(at + 56), buffer.get(at + 60) != 0);
+        int[][] matrix = new int[rows][columns];
+        int cell = at + SNAPSHOT_HEADER_BYTES;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                matrix[row][column] = buffer.get(cell++) & 0xFF;
+            }
+        }
+
+        // 生成器从种子重新发牌到快照时的位置，最后发出的即为当前方块
+        generator.reset(replay.getSeed(), dealt - 1);
+        Brick brick = generator.getBrick();
+        ((SimpleBoard) engine.getBoard()).restoreState(matrix, brick, rotation, x, y, score);
+        engine.restoreState(state);
+
+        ReplayPlayer player = new ReplayPlayer(replay, engine, input, position, nextTick, nextCode);
+        while (engine.getTickCount() < tick && player.step()) {
+            // 从快照向前播放到目标tick
+        }
+        return player;
+    }
+}
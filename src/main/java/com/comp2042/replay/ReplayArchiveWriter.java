@@ -0,0 +1,168 @@
+package com.comp2042.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.comp2042.EngineInput;
+import com.comp2042.EngineState;
+import com.comp2042.GameEngine;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+/**
+ * Writes many replays back to back into one {@link ReplayArchive} file.
+ *
+ * Each replay is played once headlessly while it is added, and the full game state is stored
+ * every {@code snapshotInterval} ticks, so a reader can later jump to any tick by restoring the
+ * nearest snapshot and playing at most one interval of events.
+ */
+public final class ReplayArchiveWriter implements Closeable {
+
+    /** Default number of ticks between snapshots: five seconds of play. */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 5 * GameEngine.TICKS_PER_SECOND;
+
+    private final DataOutputStream out;
+    private final int snapshotInterval;
+    private final List<Long> offsets = new ArrayList<>();
+    private boolean closed;
+
+    /**
+     * Creates an archive file, replacing an existing file.
+     *
+     * @param file the file to write
+     * @param snapshotInterval the number of ticks between snapshots
+     * @throws IOException if the file cannot be created
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public ReplayArchiveWriter(Path file, int snapshotInterval) throws IOException {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.snapshotInterval = snapshotInterval;
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.writeInt(ReplayArchive.MAGIC);
+        out.writeInt(ReplayArchive.VERSION);
+    }
+
+    /**
+     * Appends a replay and its snapshots.
+     *
+     * @param replay the replay to add
+     * @throws IOException if the file cannot be written
+     */
+    public void add(Replay replay) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Archive is closed");
+        }
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(replay.getSeed());
+        SimpleBoard board = new SimpleBoard(replay.getRows(), replay.getColumns(), generator);
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+        ReplayPlayer player = new ReplayPlayer(replay, engine, new EngineInput(engine));
+
+        // 先播放一遍，把快照写入内存，之后才知道快照数量
+        ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream();
+        DataOutputStream snapshots = new DataOutputStream(snapshotBytes);
+        int snapshotCount = 0;
+        do {
+            if (engine.getTickCount() == snapshotCount * snapshotInterval) {
+                writeSnapshot(snapshots, player, board, generator);
+                snapshotCount++;
+            }
+        } while (player.step());
+
+        // DataOutputStream.size()在2GB处饱和，整个档案需能映射到一个缓冲区
+        if (out.size() == Integer.MAX_VALUE) {
+            throw new IOException("Archive is larger than 2 GB");
+        }
+        offsets.add((long) out.size());
+        out.writeLong(replay.getSeed());
+        out.writeInt(replay.getRows());
+        out.writeInt(replay.getColumns());
+        out.writeInt(snapshotInterval);
+        out.writeInt(replay.getRecordBytes());
+        out.write(replay.records());
+        out.writeInt(snapshotCount);
+        snapshotBytes.writeTo(out);
+    }
+
+    private static void writeSnapshot(DataOutputStream data, ReplayPlayer player, SimpleBoard board,
+                                      SevenBagBrickGenerator generator) throws IOException {
+        EngineState state = player.getEngine().saveState();
+        data.writeInt(state.getTicks());
+        data.writeInt(player.getPosition());
+        data.writeInt(player.getNextTick());
+        data.writeInt(player.getNextCode());
+        data.writeLong(generator.getDealtCount());
+        data.writeInt(board.getBrickRotation());
+        data.writeInt(board.getViewData().getxPosition());
+        data.writeInt(board.getViewData().getyPosition());
+        data.writeInt(board.getScore().getValue());
+        data.writeInt(state.getGravity());
+        data.writeInt(state.getGravityAccumulator());
+        data.writeInt(state.getLockDelayTicks());
+        data.writeInt(state.getRestingTicks());
+        data.writeInt(state.getScoreMultiplier());
+        data.writeBoolean(state.isGameOver());
+        // 颜色编号很小，每格一个字节
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                data.writeByte(cell);
+            }
+        }
+    }
+
+    /**
+     * Writes the index of the games and closes the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (long offset : offsets) {
+            out.writeLong(offset);
+        }
+        out.writeInt(offsets.size());
+        out.writeInt(ReplayArchive.MAGIC);
+        out.close();
+    }
+
+    /**
+     * Packs every {@code .trpl} file of a directory into one archive.
+     * Arguments: directory archive [snapshotInterval]
+     *
+     * @param args the arguments
+     * @throws IOException if a replay cannot be read or the archive cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: ReplayArchiveWriter <replay directory> <archive file> [snapshot interval]");
+            return;
+        }
+        int interval = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SNAPSHOT_INTERVAL;
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(Paths.get(args[0]))) {
+            files = listing.filter(file -> file.toString().endsWith(".trpl")).sorted().collect(Collectors.toList());
+        }
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(Paths.get(args[1]), interval)) {
+            for (Path file : files) {
+                writer.add(Replay.load(file));
+            }
+        }
+        System.out.println(files.size() + " replays written to " + args[1]);
+    }
+}
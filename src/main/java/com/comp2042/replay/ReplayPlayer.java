@@ -0,0 +1,328 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.comp2042.ClearRow;
+import com.comp2042.DifficultyStrategy;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EngineInput;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+/**
+ * Plays a {@link Replay} back by feeding its events to an input listener at the ticks they were
+ * recorded on. Playback speed is set by the caller: each {@link #step()} plays one tick, so the GUI
+ * calls it once per frame for real time or several times for fast forward, and
+ * {@link #playHeadless(Replay)} calls it in a loop as fast as the CPU allows.
+ *
+ * The engine must be in the state the recording started from: a new game on a board dealt from
+ * the replay's seed.
+ */
+public final class ReplayPlayer {
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    // 重放的事件对象只有动作数×来源数种（目前10种），预先创建以免每个事件都分配
+    private static final MoveEvent[] EVENTS = new MoveEvent[TYPES.length * SOURCES.length];
+
+    static {
+        for (EventType type : TYPES) {
+            for (EventSource source : SOURCES) {
+                EVENTS[type.ordinal() * SOURCES.length + source.ordinal()] = new MoveEvent(type, source);
+            }
+        }
+    }
+
+    private final Replay replay;
+    private final GameEngine engine;
+    private final InputEventListener input;
+    private final VarIntReader reader;
+    private int nextTick;
+    private int nextCode;
+    // 最近一次step中锁定方块的消行结果，供界面显示提示和记录事件
+    private ClearRow lastClear;
+
+    /**
+     * Constructs a new ReplayPlayer.
+     *
+     * @param replay the replay to play
+     * @param engine the engine whose ticks pace the playback
+     * @param input the listener receiving the recorded events, normally driving the same engine
+     */
+    public ReplayPlayer(Replay replay, GameEngine engine, InputEventListener input) {
+        this.replay = replay;
+        this.engine = engine;
+        this.input = input;
+        this.reader = replay.reader();
+        readKey();
+    }
+
+    /**
+     * Constructs a ReplayPlayer that resumes in the middle of a replay, from the read position
+     * saved in a snapshot. The engine must already be restored to the snapshot's tick.
+     *
+     * @param position the index of the record byte after the pending key
+     * @param nextTick the tick of the pending record
+     * @param nextCode the code of the pending record
+     */
+    ReplayPlayer(Replay replay, GameEngine engine, InputEventListener input, int position, int nextTick, int nextCode) {
+        this.replay = replay;
+        this.engine = engine;
+        this.input = input;
+        this.reader = replay.reader(position);
+        this.nextTick = nextTick;
+        this.nextCode = nextCode;
+    }
+
+    /**
+     * Plays one tick: applies the events recorded at the engine's current tick, then advances the engine.
+     *
+     * @return true if the replay has more to play, false once it has finished
+     */
+    public boolean step() {
+        lastClear = null;
+        int tick = engine.getTickCount();
+        while (nextCode != Replay.CODE_END && nextTick == tick) {
+            apply(nextCode);
+            readKey();
+        }
+        if (isFinished()) {
+            return false;
+        }
+        keepClear(engine.tick());
+        return !isFinished();
+    }
+
+    /**
+     * Gets the result of the last brick locked during the last {@link #step()}, by a recorded
+     * down or hard drop event or by gravity, like {@link GameEngine#tick()} returns for live play.
+     *
+     * @return the cleared rows, or null if no brick was locked in the last step
+     */
+    public ClearRow getLastClear() {
+        return lastClear;
+    }
+
+    /**
+     * Checks whether the replay has reached its end record or the game is over.
+     *
+     * @return true if nothing is left to play
+     */
+    public boolean isFinished() {
+        return engine.isGameOver() || nextCode == Replay.CODE_END && engine.getTickCount() >= nextTick;
+    }
+
+    /**
+     * Gets the engine the replay is played on.
+     *
+     * @return the engine
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the index of the record byte after the pending record's key, to resume from later.
+     *
+     * @return the read position
+     */
+    int getPosition() {
+        return reader.position();
+    }
+
+    /**
+     * Gets the tick of the pending record.
+     *
+     * @return the tick of the next record to apply
+     */
+    int getNextTick() {
+        return nextTick;
+    }
+
+    /**
+     * Gets the code of the pending record.
+     *
+     * @return the code of the next record to apply
+     */
+    int getNextCode() {
+        return nextCode;
+    }
+
+    /**
+     * Gets the replay being played.
+     *
+     * @return the replay
+     */
+    public Replay getReplay() {
+        return replay;
+    }
+
+    private void apply(int code) {
+        if (code == Replay.CODE_DIFFICULTY) {
+            engine.setDifficulty(readDifficulty());
+            return;
+        }
+        MoveEvent event = EVENTS[code];
+        switch (event.getEventType()) {
+            case DOWN:
+                keepClear(input.onDownEvent(event));
+                break;
+            case LEFT:
+                input.onLeftEvent(event);
+                break;
+            case RIGHT:
+                input.onRightEvent(event);
+                break;
+            case HARD_DROP:
+                keepClear(input.onHardDropEvent(event));
+                break;
+            default:
+                input.onRotateEvent(event);
+                break;
+        }
+    }
+
+    private void keepClear(DownData downData) {
+        if (downData != null) {
+            keepClear(downData.getClearRow());
+        }
+    }
+
+    private void keepClear(ClearRow clearRow) {
+        if (clearRow != null) {
+            lastClear = clearRow;
+        }
+    }
+
+    private void readKey() {
+        try {
+            int key = reader.readInt();
+            nextTick += key >>> Replay.CODE_BITS;
+            nextCode = key & Replay.CODE_MASK;
+        } catch (IOException e) {
+            // Replay在构造时已校验过全部记录
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private DifficultyStrategy readDifficulty() {
+        try {
+            long fallInterval = reader.readLong();
+            long lockDelay = reader.readLong();
+            int multiplier = reader.readInt();
+            return new RecordedDifficulty(fallInterval, lockDelay, multiplier);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replays a game without a GUI, as fast as possible.
+     *
+     * @param replay the replay to play
+     * @return the engine in the state the replay ends in
+     */
+    public static GameEngine playHeadless(Replay replay) {
+        ReplayPlayer player = createHeadless(replay);
+        while (player.step()) {
+            // 持续推进，直到重放结束
+        }
+        return player.getEngine();
+    }
+
+    /**
+     * Creates a player at the start of a replay, on a new board without a GUI.
+     *
+     * @param replay the replay to play
+     * @return the player
+     */
+    static ReplayPlayer createHeadless(Replay replay) {
+        SimpleBoard board = new SimpleBoard(replay.getRows(), replay.getColumns(),
+                new SevenBagBrickGenerator(replay.getSeed()));
+        GameEngine engine = new GameEngine(board);
+        engine.newGame();
+        return new ReplayPlayer(replay, engine, new EngineInput(engine));
+    }
+
+    /**
+     * Replays every {@code .trpl} file of a directory headlessly and in parallel, and prints the
+     * files whose final score differs from the recorded one.
+     * Arguments: [directory]
+     *
+     * @param args the optional arguments
+     * @throws IOException if the directory cannot be listed
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : ".");
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(file -> file.toString().endsWith(".trpl")).collect(Collectors.toList());
+        }
+        long start = System.nanoTime();
+        long mismatches = files.parallelStream().filter(file -> {
+            try {
+                Replay replay = Replay.load(file);
+                int score = playHeadless(replay).getScore().getValue();
+                if (score != replay.getFinalScore()) {
+                    System.out.println(file + ": replayed score " + score + ", recorded " + replay.getFinalScore());
+                    return true;
+                }
+                return false;
+            } catch (IOException e) {
+                System.out.println(file + ": " + e.getMessage());
+                return true;
+            }
+        }).count();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d replays, %d mismatches, %.0f replays/s%n",
+                files.size(), mismatches, files.size() / Math.max(seconds, 1e-9));
+    }
+
+    /**
+     * Difficulty rebuilt from the values stored in a replay.
+     */
+    private static final class RecordedDifficulty implements DifficultyStrategy {
+        private final long fallInterval;
+        private final long lockDelay;
+        private final int scoreMultiplier;
+
+        RecordedDifficulty(long fallInterval, long lockDelay, int scoreMultiplier) {
+            this.fallInterval = fallInterval;
+            this.lockDelay = lockDelay;
+            this.scoreMultiplier = scoreMultiplier;
+        }
+
+        @Override
+        public long getFallInterval() {
+            return fallInterval;
+        }
+
+        @Override
+        public int getScoreMultiplier() {
+            return scoreMultiplier;
+        }
+
+        @Override
+        public long getLockDelay() {
+            return lockDelay;
+        }
+
+        @Override
+        public String getDifficultyName() {
+            return "Replay";
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.comp2042.DifficultyStrategy;
+import com.comp2042.MoveEvent;
+
+/**
+ * Records the input events of one game into the compact format of {@link Replay}.
+ * Each event is appended to a growable byte array as it happens, so recording costs a few bytes
+ * and no allocation per key press.
+ */
+public final class ReplayRecorder {
+
+    private final long seed;
+    private final int rows;
+    private final int columns;
+    private final VarIntWriter records = new VarIntWriter(1024);
+    private int lastTick;
+    private boolean finished;
+
+    /**
+     * Constructs a new ReplayRecorder for a game that starts now.
+     *
+     * @param seed the seed of the game's brick sequence
+     * @param rows the number of rows of the board
+     * @param columns the number of columns of the board
+     */
+    public ReplayRecorder(long seed, int rows, int columns) {
+        this.seed = seed;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Records an input event.
+     *
+     * @param tick the engine tick at which the event was applied
+     * @param event the event
+     */
+    public void record(int tick, MoveEvent event) {
+        writeKey(tick, event.getEventType().ordinal() * 2 + event.getEventSource().ordinal());
+    }
+
+    /**
+     * Records a change of difficulty.
+     *
+     * @param tick the engine tick at which the difficulty was applied
+     * @param difficulty the new difficulty
+     */
+    public void recordDifficulty(int tick, DifficultyStrategy difficulty) {
+        writeKey(tick, Replay.CODE_DIFFICULTY);
+        records.writeLong(difficulty.getFallInterval());
+        records.writeLong(difficulty.getLockDelay());
+        records.writeInt(difficulty.getScoreMultiplier());
+    }
+
+    /**
+     * Ends the recording.
+     *
+     * @param tick the engine tick at which the game ended
+     * @param score the final score, checked when the replay is played back
+     * @return the recorded replay
+     * @throws IllegalStateException if the recording has already ended
+     */
+    public Replay finish(int tick, int score) {
+        writeKey(tick, Replay.CODE_END);
+        records.writeInt(score);
+        finished = true;
+        try {
+            return new Replay(seed, rows, columns, records.toByteArray());
+        } catch (IOException e) {
+            // 记录由本类写入，不可能格式错误
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks whether {@link #finish(int, int)} has been called.
+     *
+     * @return true if the recording has ended
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private void writeKey(int tick, int code) {
+        if (finished) {
+            throw new IllegalStateException("Recording has already finished");
+        }
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("Tick " + tick + " is before the previous record at " + lastTick);
+        }
+        records.writeInt((tick - lastTick) << Replay.CODE_BITS | code);
+        lastTick = tick;
+    }
+}
@@ -0,0 +1,112 @@
+package com.comp2042.replay;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the unsigned LEB128 varints written by {@link VarIntWriter} from a byte array.
+ */
+final class VarIntReader {
+
+    private final byte[] bytes;
+    private int position;
+
+    /**
+     * Constructs a new VarIntReader positioned at the first byte.
+     *
+     * @param bytes the bytes to read
+     */
+    VarIntReader(byte[] bytes) {
+        this(bytes, 0);
+    }
+
+    /**
+     * Constructs a new VarIntReader positioned at the given byte.
+     *
+     * @param bytes the bytes to read
+     * @param position the index of the first byte to read
+     */
+    VarIntReader(byte[] bytes, int position) {
+        this.bytes = bytes;
+        this.position = position;
+    }
+
+    /**
+     * Reads a varint that must fit in an int.
+     *
+     * @return the value
+     * @throws IOException if the data ends early or the value is too large
+     */
+    int readInt() throws IOException {
+        long value = readLong();
+        if (value >>> 31 != 0) {
+            throw new IOException("Varint out of int range");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a varint.
+     *
+     * @return the value, treated as unsigned
+     * @throws IOException if the data ends early or the varint is longer than 10 bytes
+     */
+    long readLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= bytes.length) {
+                throw new EOFException("Replay data ends inside a record");
+            }
+            byte b = bytes[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Checks whether all bytes have been read.
+     *
+     * @return true if no bytes are left
+     */
+    boolean isAtEnd() {
+        return position >= bytes.length;
+    }
+
+    /**
+     * Gets the index of the next byte to read.
+     *
+     * @return the read position
+     */
+    int position() {
+        return position;
+    }
+
+    /**
+     * Reads a varint that must fit in an int directly from a stream.
+     *
+     * @param in the stream to read
+     * @return the value
+     * @throws IOException if the stream ends early or the value is too large
+     */
+    static int readInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Replay header ends inside a varint");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Varint out of int range");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,78 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer that writes unsigned LEB128 varints: seven bits per byte, lowest bits first,
+ * with the high bit set on every byte but the last. Small values therefore take a single byte.
+ */
+final class VarIntWriter {
+
+    private byte[] bytes;
+    private int size;
+
+    /**
+     * Constructs a new VarIntWriter.
+     *
+     * @param capacity the initial capacity in bytes
+     */
+    VarIntWriter(int capacity) {
+        bytes = new byte[Math.max(capacity, 16)];
+    }
+
+    /**
+     * Writes a non-negative int.
+     *
+     * @param value the value to write
+     */
+    void writeInt(int value) {
+        writeLong(value & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Writes a long, treated as unsigned.
+     *
+     * @param value the value to write
+     */
+    void writeLong(long value) {
+        // 最长10个字节
+        if (size + 10 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    /**
+     * Gets the number of bytes written.
+     *
+     * @return the size in bytes
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Copies the written bytes.
+     *
+     * @return a new array holding the written bytes
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Writes the written bytes to a stream.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+}
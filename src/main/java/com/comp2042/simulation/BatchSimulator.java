@@ -0,0 +1,161 @@
+package com.comp2042.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.comp2042.ClearRow;
+import com.comp2042.DifficultyStrategy;
+import com.comp2042.EasyDifficultyStrategy;
+import com.comp2042.EventSource;
+import com.comp2042.GameEngine;
+import com.comp2042.HardDifficultyStrategy;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+/**
+ * Plays batches of seeded headless games in parallel on a ForkJoinPool.
+ *
+ * Every game gets its own board, brick generator and random source, derived from the batch seed
+ * before any game starts, so games share no mutable state and the results do not depend on
+ * how many threads run them or in which order.
+ */
+public class BatchSimulator {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    /** Games played by one fork/join leaf task; large enough to amortise the task overhead. */
+    private static final int GAMES_PER_TASK = 8;
+
+    private final MovePolicy policy;
+    private final DifficultyStrategy difficulty;
+    private final int maxPiecesPerGame;
+
+    /**
+     * Constructs a new BatchSimulator.
+     *
+     * @param policy the policy placing every brick; shared by all games, so it must be stateless
+     * @param difficulty the difficulty whose score multiplier is applied to row-clear bonuses
+     * @param maxPiecesPerGame the number of bricks after which a game is stopped even if it is not over
+     */
+    public BatchSimulator(MovePolicy policy, DifficultyStrategy difficulty, int maxPiecesPerGame) {
+        if (maxPiecesPerGame <= 0) {
+            throw new IllegalArgumentException("maxPiecesPerGame must be positive");
+        }
+        this.policy = policy;
+        this.difficulty = difficulty;
+        this.maxPiecesPerGame = maxPiecesPerGame;
+    }
+
+    /**
+     * Plays the given number of games on the common ForkJoinPool.
+     *
+     * @param games the number of games to play
+     * @param seed the seed from which every game's random source is derived
+     * @return the report of the batch
+     */
+    public SimulationReport run(int games, long seed) {
+        return run(games, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the given number of games on the given pool.
+     *
+     * @param games the number of games to play
+     * @param seed the seed from which every game's random source is derived
+     * @param pool the pool running the games
+     * @return the report of the batch
+     */
+    public SimulationReport run(int games, long seed, ForkJoinPool pool) {
+        // 预先为每局生成独立种子，结果与线程数和执行顺序无关
+        SplittableRandom master = new SplittableRandom(seed);
+        long[] gameSeeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            gameSeeds[i] = master.nextLong();
+        }
+        int[] scores = new int[games];
+        long start = System.nanoTime();
+        long[] totals = pool.invoke(new GamesTask(gameSeeds, scores, 0, games));
+        long elapsed = System.nanoTime() - start;
+        return new SimulationReport(scores, totals[0], totals[1], elapsed);
+    }
+
+    /**
+     * Plays one game to the end or to the piece limit.
+     *
+     * @param seed the seed of the game
+     * @param totals receives the pieces placed at index 0 and the rows cleared at index 1
+     * @return the final score
+     */
+    private int playGame(long seed, long[] totals) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GameEngine engine = new GameEngine(new SimpleBoard(ROWS, COLUMNS, new SevenBagBrickGenerator(random.split(), 1)), difficulty);
+        engine.newGame();
+        int pieces = 0;
+        while (!engine.isGameOver() && pieces < maxPiecesPerGame) {
+            policy.positionBrick(engine, random);
+            ClearRow clearRow;
+            do {
+                clearRow = engine.stepDown(EventSource.THREAD);
+            } while (clearRow == null);
+            totals[1] += clearRow.getLinesRemoved();
+            pieces++;
+        }
+        totals[0] += pieces;
+        return engine.getScore().getValue();
+    }
+
+    /**
+     * Plays a range of games, splitting it in half until it is small enough.
+     * Each task writes only its own slots of the score array and returns its own totals.
+     */
+    private final class GamesTask extends RecursiveTask<long[]> {
+        private final long[] gameSeeds;
+        private final int[] scores;
+        private final int from;
+        private final int to;
+
+        GamesTask(long[] gameSeeds, int[] scores, int from, int to) {
+            this.gameSeeds = gameSeeds;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                long[] totals = new long[2];
+                for (int i = from; i < to; i++) {
+                    scores[i] = playGame(gameSeeds[i], totals);
+                }
+                return totals;
+            }
+            int middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(gameSeeds, scores, from, middle);
+            left.fork();
+            long[] totals = new GamesTask(gameSeeds, scores, middle, to).compute();
+            long[] leftTotals = left.join();
+            totals[0] += leftTotals[0];
+            totals[1] += leftTotals[1];
+            return totals;
+        }
+    }
+
+    /**
+     * Runs a batch from the command line and prints the report.
+     * Arguments: [games] [seed] [easy|hard] [maxPiecesPerGame]
+     *
+     * @param args the optional arguments
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        DifficultyStrategy difficulty = args.length > 2 && args[2].equalsIgnoreCase("hard")
+                ? new HardDifficultyStrategy() : new EasyDifficultyStrategy();
+        int maxPieces = args.length > 3 ? Integer.parseInt(args[3]) : 10_000;
+        BatchSimulator simulator = new BatchSimulator(new RandomMovePolicy(), difficulty, maxPieces);
+        System.out.println(difficulty.getDifficultyName() + ": " + simulator.run(games, seed));
+    }
+}
@@ -0,0 +1,24 @@
+package com.comp2042.simulation;
+
+import java.util.random.RandomGenerator;
+
+import com.comp2042.GameEngine;
+
+/**
+ * Decides where the current brick goes during a simulated game.
+ * The simulator calls the policy once per brick and then drops the brick straight down.
+ *
+ * One policy instance is shared by all games of a batch, which run concurrently,
+ * so implementations must not keep mutable state between calls.
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+    /**
+     * Moves and rotates the current brick into the position it should be dropped from.
+     *
+     * @param engine the engine of the game being played
+     * @param random the random source of this game, for policies that need randomness
+     */
+    void positionBrick(GameEngine engine, RandomGenerator random);
+}
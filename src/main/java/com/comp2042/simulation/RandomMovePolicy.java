@@ -0,0 +1,29 @@
+package com.comp2042.simulation;
+
+import java.util.random.RandomGenerator;
+
+import com.comp2042.GameEngine;
+
+/**
+ * Move policy that rotates the brick a random number of times and shifts it to a random column.
+ * Useful as a baseline and for measuring raw engine throughput.
+ */
+public class RandomMovePolicy implements MovePolicy {
+
+    private static final int MAX_SHIFT = 5;
+
+    @Override
+    public void positionBrick(GameEngine engine, RandomGenerator random) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            engine.rotate();
+        }
+        int shift = random.nextInt(-MAX_SHIFT, MAX_SHIFT + 1);
+        for (int i = 0; i < Math.abs(shift); i++) {
+            boolean moved = shift < 0 ? engine.moveLeft() : engine.moveRight();
+            if (!moved) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.comp2042.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Result of a batch of simulated games: throughput and the distribution of final scores.
+ */
+public final class SimulationReport {
+
+    private final int[] scores;
+    private final long pieces;
+    private final long linesCleared;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new report.
+     *
+     * @param scores the final score of every game, in game order
+     * @param pieces the total number of bricks placed
+     * @param linesCleared the total number of rows cleared
+     * @param elapsedNanos the wall-clock time the batch took, in nanoseconds
+     */
+    SimulationReport(int[] scores, long pieces, long linesCleared, long elapsedNanos) {
+        this.scores = scores;
+        this.pieces = pieces;
+        this.linesCleared = linesCleared;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return the game count
+     */
+    public int getGames() {
+        return scores.length;
+    }
+
+    /**
+     * Gets the total number of bricks placed across all games.
+     *
+     * @return the piece count
+     */
+    public long getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the total number of rows cleared across all games.
+     *
+     * @return the cleared line count
+     */
+    public long getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the wall-clock time the batch took.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games completed per second of wall-clock time.
+     *
+     * @return the game throughput
+     */
+    public double getGamesPerSecond() {
+        return perSecond(scores.length);
+    }
+
+    /**
+     * Gets the number of bricks placed per second of wall-clock time.
+     *
+     * @return the piece throughput
+     */
+    public double getPiecesPerSecond() {
+        return perSecond(pieces);
+    }
+
+    private double perSecond(long count) {
+        return elapsedNanos > 0 ? count * 1e9 / elapsedNanos : 0;
+    }
+
+    /**
+     * Gets the final score of every game, in game order.
+     *
+     * @return a copy of the scores
+     */
+    public int[] getScores() {
+        return scores.clone();
+    }
+
+    /**
+     * Gets the mean final score.
+     *
+     * @return the mean score, or 0 if no games were played
+     */
+    public double getMeanScore() {
+        return Arrays.stream(scores).average().orElse(0);
+    }
+
+    /**
+     * Gets a percentile of the final scores using the nearest-rank method.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the score at that percentile, or 0 if no games were played
+     */
+    public int getScorePercentile(double percentile) {
+        if (scores.length == 0) {
+            return 0;
+        }
+        int[] sorted = scores.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games, %d pieces, %d lines in %.1f ms (%.0f games/s, %.0f pieces/s); "
+                        + "score mean %.1f, min %d, p50 %d, p90 %d, p99 %d, max %d",
+                getGames(), pieces, linesCleared, elapsedNanos / 1e6, getGamesPerSecond(), getPiecesPerSecond(),
+                getMeanScore(), getScorePercentile(0), getScorePercentile(50), getScorePercentile(90),
+                getScorePercentile(99), getScorePercentile(100));
+    }
+}
@@ -0,0 +1,188 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Unit tests for the BitBoard class.
+ * Checks the bitmask board against SimpleBoard, which is used as the reference implementation.
+ */
+public class BitBoardTest {
+
+    /**
+     * Brick generator that replays a fixed list of bricks, so two boards can receive the same sequence.
+     */
+    private static final class FixedBrickGenerator implements BrickGenerator {
+        private final List<Brick> bricks;
+        private int index;
+
+        FixedBrickGenerator(List<Brick> bricks) {
+            this.bricks = bricks;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return bricks.get(index++ % bricks.size());
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return bricks.get(index % bricks.size());
+        }
+    }
+
+    private static List<Brick> drawBricks(int count) {
+        BrickGenerator generator = new RandomBrickGenerator();
+        List<Brick> bricks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bricks.add(generator.getBrick());
+        }
+        return bricks;
+    }
+
+    /**
+     * Slides the current brick to the given x offset, drops it and spawns the next brick.
+     */
+    private static void dropAt(Board board, int x) {
+        while (board.getViewData().getxPosition() > x && board.moveBrickLeft()) {
+        }
+        while (board.getViewData().getxPosition() < x && board.moveBrickRight()) {
+        }
+        while (board.moveBrickDown()) {
+        }
+        board.mergeBrickToBackground();
+        board.createNewBrick();
+    }
+
+    @Test
+    public void testMatchesSimpleBoardOnRandomPlay() {
+        List<Brick> bricks = drawBricks(500);
+        Board expected = new SimpleBoard(25, 10, new FixedBrickGenerator(bricks));
+        Board actual = new BitBoard(25, 10, new FixedBrickGenerator(bricks));
+        expected.newGame();
+        actual.newGame();
+
+        Random random = new Random(42);
+        for (int step = 0; step < 20000; step++) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    assertEquals(expected.moveBrickLeft(), actual.moveBrickLeft(), "Left move result should match");
+                    break;
+                case 1:
+                    assertEquals(expected.moveBrickRight(), actual.moveBrickRight(), "Right move result should match");
+                    break;
+                case 2:
+                    assertEquals(expected.rotateLeftBrick(), actual.rotateLeftBrick(), "Rotation result should match");
+                    break;
+                default:
+                    boolean moved = expected.moveBrickDown();
+                    assertEquals(moved, actual.moveBrickDown(), "Down move result should match");
+                    if (!moved) {
+                        expected.mergeBrickToBackground();
+                        actual.mergeBrickToBackground();
+                        ClearRow expectedClear = expected.clearRows();
+                        ClearRow actualClear = actual.clearRows();
+                        assertEquals(expectedClear.getLinesRemoved(), actualClear.getLinesRemoved(), "Cleared lines should match");
+                        assertEquals(expectedClear.getScoreBonus(), actualClear.getScoreBonus(), "Score bonus should match");
+                        boolean gameOver = expected.createNewBrick();
+                        assertEquals(gameOver, actual.createNewBrick(), "Game over detection should match");
+                        if (gameOver) {
+                            expected.newGame();
+                            actual.newGame();
+                        }
+                    }
+                    break;
+            }
+            assertArrayEquals(expected.getBoardMatrix(), actual.getBoardMatrix(), "Board matrices should match at step " + step);
+            assertEquals(expected.getViewData().getxPosition(), actual.getViewData().getxPosition(), "Brick x should match");
+            assertEquals(expected.getViewData().getyPosition(), actual.getViewData().getyPosition(), "Brick y should match");
+        }
+    }
+
+    @Test
+    public void testSquaresFillAndClearTwoRows() {
+        List<int[][]> matrix = List.<int[][]>of(new int[][]{
+                {0, 0, 0, 0},
+                {0, 4, 4, 0},
+                {0, 4, 4, 0},
+                {0, 0, 0, 0}
+        });
+        BrickShape[] shapes = BrickShape.table(matrix);
+        Brick square = new Brick() {
+            @Override
+            public List<int[][]> getShapeMatrix() {
+                return MatrixOperations.deepCopyList(matrix);
+            }
+
+            @Override
+            public BrickShape getShape(int rotation) {
+                return shapes[rotation];
+            }
+
+            @Override
+            public int getRotationCount() {
+                return shapes.length;
+            }
+        };
+        BitBoard board = new BitBoard(25, 10, new FixedBrickGenerator(List.of(square)));
+        board.newGame();
+        // 五个正方形依次放在第0-1、2-3、...、8-9列
+        for (int column = 0; column < 10; column += 2) {
+            dropAt(board, column - 1);
+        }
+        ClearRow clearRow = board.clearRows();
+        assertEquals(2, clearRow.getLinesRemoved(), "Five squares should complete two rows");
+        assertEquals(200, clearRow.getScoreBonus(), "Score bonus should be 200 for 2 rows");
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                assertEquals(0, cell, "Board should be empty after clearing");
+            }
+        }
+    }
+
+    @Test
+    public void testClearRowsOnEmptyBoard() {
+        BitBoard board = new BitBoard(25, 10, new FixedBrickGenerator(drawBricks(1)));
+        board.newGame();
+        int[][] matrix = board.getBoardMatrix();
+        assertEquals(25, matrix.length, "Board should have 25 rows");
+        assertEquals(10, matrix[0].length, "Board should have 10 columns");
+
+        ClearRow clearRow = board.clearRows();
+        assertEquals(0, clearRow.getLinesRemoved(), "Empty board should not clear any rows");
+        assertEquals(0, clearRow.getScoreBonus(), "Score bonus should be 0");
+    }
+
+    @Test
+    public void testBrickCannotLeaveBoard() {
+        BitBoard board = new BitBoard(25, 10, new FixedBrickGenerator(drawBricks(1)));
+        board.newGame();
+        for (int i = 0; i < 20; i++) {
+            board.moveBrickLeft();
+        }
+        assertFalse(board.moveBrickLeft(), "Brick should be stopped by the left wall");
+        for (int i = 0; i < 20; i++) {
+            board.moveBrickRight();
+        }
+        assertFalse(board.moveBrickRight(), "Brick should be stopped by the right wall");
+        for (int i = 0; i < 30; i++) {
+            board.moveBrickDown();
+        }
+        assertFalse(board.moveBrickDown(), "Brick should be stopped by the floor");
+    }
+
+    @Test
+    public void testRejectsBoardWiderThanBitmask() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(25, BitBoard.MAX_COLUMNS + 1),
+                "Boards wider than the bitmask should be rejected");
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javafx.beans.InvalidationListener;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Unit tests for the CellStyle class.
+ * Checks that styles are shared and that re-applying a style leaves the Rectangle untouched.
+ */
+public class CellStyleTest {
+
+    @Test
+    public void testFillColorsAreShared() {
+        for (int color = 0; color <= 9; color++) {
+            assertSame(CellStyle.getFillColor(color), CellStyle.getFillColor(color), "Each color should be built once");
+        }
+        assertEquals(Color.TRANSPARENT, CellStyle.getFillColor(0), "Empty cells should be transparent");
+        assertEquals(Color.WHITE, CellStyle.getFillColor(42), "Unknown colors should be white");
+    }
+
+    @Test
+    public void testReapplyingStyleInvalidatesNothing() {
+        Rectangle rectangle = new Rectangle(20, 20);
+        CellStyle.apply(rectangle, 3, true);
+        int[] invalidations = {0};
+        InvalidationListener counter = observable -> invalidations[0]++;
+        rectangle.fillProperty().addListener(counter);
+        rectangle.strokeProperty().addListener(counter);
+        rectangle.strokeWidthProperty().addListener(counter);
+        rectangle.strokeTypeProperty().addListener(counter);
+        rectangle.arcWidthProperty().addListener(counter);
+        rectangle.arcHeightProperty().addListener(counter);
+
+        CellStyle.apply(rectangle, 3, true);
+        assertEquals(0, invalidations[0], "Re-applying the same style should not touch any property");
+
+        CellStyle.apply(rectangle, 3, false);
+        assertEquals(2, invalidations[0], "A merged cell of the same color should only change its stroke and width");
+        assertEquals(1.0, rectangle.getStrokeWidth(), "Merged cells should have a thin stroke");
+
+        invalidations[0] = 0;
+        CellStyle.applyGhost(rectangle, 0);
+        CellStyle.applyGhost(rectangle, 0);
+        assertEquals(Color.TRANSPARENT, rectangle.getFill(), "An empty ghost cell should be transparent");
+        assertEquals(3, invalidations[0], "Only fill, stroke and width should change, and only once");
+    }
+}
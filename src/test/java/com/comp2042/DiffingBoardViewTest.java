@@ -0,0 +1,128 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static com.comp2042.RandomPlay.*;
+
+import java.util.Random;
+
+/**
+ * Unit tests for the DiffingBoardView class.
+ * Uses a renderer that draws into an int matrix, so the diffing can be checked without JavaFX.
+ */
+public class DiffingBoardViewTest {
+
+    /**
+     * Renderer whose "screen" is a matrix.
+     */
+    private static class MatrixView extends DiffingBoardView {
+        int[][] screen;
+        int swaps;
+
+        @Override
+        protected void createCells(int rows, int columns) {
+            screen = new int[rows][columns];
+        }
+
+        @Override
+        protected void drawCell(int row, int column, int color) {
+            screen[row][column] = color;
+        }
+    }
+
+    /**
+     * Matrix renderer that can also move rows.
+     */
+    private static final class MovableMatrixView extends MatrixView implements RowMover {
+
+        @Override
+        public int minChangedCellsForMove(int columns) {
+            return 1;
+        }
+
+        @Override
+        public int swapRows(int upper, int lower) {
+            int[] row = screen[upper];
+            screen[upper] = screen[lower];
+            screen[lower] = row;
+            swaps++;
+            return 2 * row.length;
+        }
+    }
+
+    private static void assertScreenShows(int[][] expected, int[][] screen) {
+        for (int row = BoardView.HIDDEN_ROWS; row < expected.length; row++) {
+            assertArrayEquals(expected[row], screen[row], "Visible row " + row + " should match the board");
+        }
+    }
+
+    @Test
+    public void testOnlyChangedCellsAreRedrawn() {
+        MatrixView view = new MatrixView();
+        int[][] board = new int[25][10];
+        view.init(board);
+        assertEquals(0, view.getLastUpdateCount(), "An empty board needs no updates");
+
+        board[24][3] = 5;
+        board[24][4] = 5;
+        board[23][4] = 5;
+        board[23][5] = 5;
+        view.refresh(board);
+        assertEquals(4, view.getLastUpdateCount(), "Only the four locked cells should be redrawn");
+        assertScreenShows(board, view.screen);
+
+        view.refresh(board);
+        assertEquals(0, view.getLastUpdateCount(), "An unchanged board needs no updates");
+        assertEquals(4, view.getTotalUpdateCount(), "Total should add up all refreshes");
+    }
+
+    @Test
+    public void testHiddenRowsAreNotDrawn() {
+        MatrixView view = new MatrixView();
+        int[][] board = new int[25][10];
+        view.init(board);
+        board[0][0] = 1;
+        board[1][1] = 1;
+        view.refresh(board);
+        assertEquals(0, view.getLastUpdateCount(), "Hidden rows should not be drawn");
+    }
+
+    @Test
+    public void testRowShiftMovesRows() {
+        MatrixView view = new MovableMatrixView();
+        int[][] board = new int[25][10];
+        for (int row = 18; row < 24; row++) {
+            for (int column = 0; column < 9; column++) {
+                board[row][column] = 1 + (row + column) % 7;
+            }
+        }
+        view.init(board);
+
+        // 清除最底部的一行后上方各行下移一行
+        int[][] cleared = new int[25][10];
+        for (int row = 19; row < 25; row++) {
+            cleared[row] = board[row - 1].clone();
+        }
+        view.refresh(cleared);
+        assertTrue(view.swaps > 0, "Shifted rows should be moved instead of redrawn");
+        assertScreenShows(cleared, view.screen);
+    }
+
+    @Test
+    public void testScreenMatchesBoardDuringPlay() {
+        for (boolean movableRows : new boolean[]{false, true}) {
+            MatrixView view = movableRows ? new MovableMatrixView() : new MatrixView();
+            SimpleBoard board = new SimpleBoard(25, 10);
+            board.newGame();
+            view.init(board.getBoardMatrix());
+            Random random = new Random(3);
+            for (int piece = 0; piece < 2000; piece++) {
+                playRandomPiece(board, random);
+                board.clearRows();
+                nextBrick(board);
+                view.refresh(board.getBoardMatrix());
+                assertScreenShows(board.getBoardMatrix(), view.screen);
+            }
+        }
+    }
+}
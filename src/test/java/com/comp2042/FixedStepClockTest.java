@@ -0,0 +1,59 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FixedStepClock class.
+ */
+public class FixedStepClockTest {
+
+    private static final long STEP = 1_000;
+
+    @Test
+    public void testFirstFrameRunsNoSteps() {
+        FixedStepClock clock = new FixedStepClock(STEP);
+        assertEquals(0, clock.advance(5_000_000), "The first frame only records the start time");
+    }
+
+    @Test
+    public void testRemainderCarriesOver() {
+        FixedStepClock clock = new FixedStepClock(STEP);
+        clock.advance(0);
+        assertEquals(1, clock.advance(1_500), "1.5 steps of time should run one step");
+        assertEquals(2, clock.advance(3_000), "The half step left over should be used in the next frame");
+    }
+
+    @Test
+    public void testStepRateDoesNotDependOnFrameRate() {
+        FixedStepClock fast = new FixedStepClock(STEP);
+        FixedStepClock slow = new FixedStepClock(STEP);
+        int fastSteps = 0;
+        int slowSteps = 0;
+        for (long now = 0; now <= 1_000_000; now += 333) {
+            fastSteps += fast.advance(now);
+        }
+        for (long now = 0; now <= 1_000_000; now += 7_001) {
+            slowSteps += slow.advance(now);
+        }
+        assertEquals(999, fastSteps, "About one step per step length should run at a high frame rate");
+        assertEquals(fastSteps, slowSteps, 10, "A low frame rate should run the same number of steps");
+    }
+
+    @Test
+    public void testLongStallIsCapped() {
+        FixedStepClock clock = new FixedStepClock(STEP);
+        clock.advance(0);
+        assertEquals(FixedStepClock.MAX_FRAME_NANOS / STEP, clock.advance(10 * FixedStepClock.MAX_FRAME_NANOS),
+                "A long stall should only be caught up to the frame limit");
+    }
+
+    @Test
+    public void testResetForgetsPausedTime() {
+        FixedStepClock clock = new FixedStepClock(STEP);
+        clock.advance(0);
+        clock.reset();
+        assertEquals(0, clock.advance(100_000), "Time before a reset should not be caught up");
+        assertEquals(1, clock.advance(101_000), "Steps should resume after the reset");
+    }
+}
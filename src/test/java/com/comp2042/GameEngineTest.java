@@ -0,0 +1,195 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Unit tests for the GameEngine class.
+ * Runs the game logic without the JavaFX toolkit.
+ */
+public class GameEngineTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new GameEngine(new SimpleBoard(25, 10));
+        engine.newGame();
+    }
+
+    @Test
+    public void testUserSoftDropAddsOnePoint() {
+        assertNull(engine.stepDown(EventSource.USER), "Brick should move down on an empty board");
+        assertEquals(1, engine.getScore().getValue(), "A user soft drop should score one point");
+        assertNull(engine.stepDown(EventSource.THREAD), "Brick should move down on an empty board");
+        assertEquals(1, engine.getScore().getValue(), "A timer drop should not score");
+    }
+
+    @Test
+    public void testHardDropLocksAndScoresTwoPerRow() {
+        int landing = engine.getViewData().getGhostYPosition();
+        int rows = landing - engine.getViewData().getyPosition();
+        long changes = engine.getChangeCount();
+        ClearRow clearRow = engine.hardDrop();
+        assertNotNull(clearRow, "A hard drop should lock the brick at once");
+        assertEquals(2 * rows, engine.getScore().getValue(), "A hard drop should score two points per row");
+        assertTrue(engine.getChangeCount() > changes, "A hard drop should count as a change");
+        int filled = 0;
+        for (int cell : engine.getBoard().getBoardMatrix()[24]) {
+            filled += cell != 0 ? 1 : 0;
+        }
+        assertTrue(filled > 0, "The brick should be merged into the bottom row");
+    }
+
+    @Test
+    public void testBrickLocksAndNotifiesListener() {
+        int[] boardChanges = {0};
+        engine.setListener(new GameListener() {
+            @Override
+            public void onBoardChanged(int[][] boardMatrix) {
+                boardChanges[0]++;
+            }
+
+            @Override
+            public void onGameOver() {
+                fail("A single locked brick should not end the game");
+            }
+        });
+        ClearRow clearRow = null;
+        for (int i = 0; i < 30 && clearRow == null; i++) {
+            clearRow = engine.stepDown(EventSource.THREAD);
+        }
+        assertNotNull(clearRow, "Brick should lock after reaching the floor");
+        assertEquals(0, clearRow.getLinesRemoved(), "A single brick cannot complete a row");
+        assertEquals(1, boardChanges[0], "Listener should be told about the locked brick");
+        assertFalse(engine.isGameOver(), "Game should still be running");
+    }
+
+    @Test
+    public void testPlaysManyGamesHeadless() {
+        Random random = new Random(11);
+        int[] gameOvers = {0};
+        engine.setListener(new GameListener() {
+            @Override
+            public void onBoardChanged(int[][] boardMatrix) {
+            }
+
+            @Override
+            public void onGameOver() {
+                gameOvers[0]++;
+            }
+        });
+        for (int game = 0; game < 200; game++) {
+            engine.newGame();
+            int steps = 0;
+            while (!engine.isGameOver()) {
+                switch (random.nextInt(4)) {
+                    case 0:
+                        engine.moveLeft();
+                        break;
+                    case 1:
+                        engine.moveRight();
+                        break;
+                    case 2:
+                        engine.rotate();
+                        break;
+                    default:
+                        engine.stepDown(EventSource.THREAD);
+                        break;
+                }
+                assertTrue(++steps < 100_000, "Game should end");
+            }
+        }
+        assertEquals(200, gameOvers[0], "Every game should report game over once");
+    }
+
+    /**
+     * Runs ticks until a brick locks.
+     *
+     * @return the number of ticks it took
+     */
+    private int ticksUntilLock(int limit) {
+        for (int tick = 1; tick <= limit; tick++) {
+            if (engine.tick() != null) {
+                return tick;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void testGravityMatchesFallInterval() {
+        engine.setGravity(GameEngine.gravityForInterval(400));
+        engine.setLockDelay(0);
+        int startY = engine.getViewData().getyPosition();
+        // 400毫秒为24个tick
+        for (int i = 0; i < 23; i++) {
+            engine.tick();
+        }
+        assertEquals(startY, engine.getViewData().getyPosition(), "Brick should not fall before the interval has passed");
+        engine.tick();
+        assertEquals(startY + 1, engine.getViewData().getyPosition(), "Brick should fall one row per interval");
+    }
+
+    @Test
+    public void testTwentyGDropsToFloorInOneTick() {
+        engine.setGravity(GameEngine.GRAVITY_20G);
+        engine.setLockDelay(10);
+        int startY = engine.getViewData().getyPosition();
+        engine.tick();
+        assertTrue(engine.getViewData().getyPosition() > startY + 15, "Brick should fall about 20 rows in one tick");
+    }
+
+    @Test
+    public void testLockDelayPostponesLock() {
+        int[] lockTicks = new int[2];
+        int[] lockDelays = {0, 30};
+        for (int i = 0; i < 2; i++) {
+            // 相同种子保证两局的方块相同
+            engine = new GameEngine(new SimpleBoard(25, 10, new RandomBrickGenerator(new SplittableRandom(1))));
+            engine.newGame();
+            engine.setGravity(GameEngine.GRAVITY_20G);
+            engine.setLockDelay(lockDelays[i]);
+            lockTicks[i] = ticksUntilLock(100);
+        }
+        assertTrue(lockTicks[0] > 0, "Brick should lock without a lock delay");
+        assertEquals(lockTicks[0] + 30, lockTicks[1], "Lock delay should add its ticks before the brick locks");
+    }
+
+    @Test
+    public void testTicksAddOnePointPerSecond() {
+        engine.setGravity(0);
+        for (int i = 0; i < GameEngine.TICKS_PER_SECOND * 3; i++) {
+            engine.tick();
+        }
+        assertEquals(3, engine.getScore().getValue(), "Three seconds of play should score three points");
+    }
+
+    @Test
+    public void testDifficultySetsGravityAndMultiplier() {
+        engine.setDifficulty(new HardDifficultyStrategy());
+        int startY = engine.getViewData().getyPosition();
+        // 困难模式200毫秒下落一格，即12个tick
+        for (int i = 0; i < 12; i++) {
+            engine.tick();
+        }
+        assertEquals(startY + 1, engine.getViewData().getyPosition(), "Hard mode should fall one row every 200ms");
+    }
+
+    @Test
+    public void testChangeCountTracksMoves() {
+        long before = engine.getChangeCount();
+        assertTrue(engine.moveLeft(), "Brick should move left on an empty board");
+        assertTrue(engine.getChangeCount() > before, "A move should increase the change count");
+        long afterMove = engine.getChangeCount();
+        engine.setGravity(0);
+        engine.tick();
+        assertEquals(afterMove, engine.getChangeCount(), "A tick without movement should not count as a change");
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Unit tests for the KeyRepeat class.
+ * Counts the moves a held key produces per tick, without the JavaFX toolkit.
+ */
+public class KeyRepeatTest {
+
+    private int left;
+    private int right;
+    private int down;
+    private int rotate;
+    private int hardDrop;
+    // 模拟的方块列，碰到0或9列即为撞墙
+    private int x;
+
+    private final InputEventListener input = new InputEventListener() {
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            down++;
+            return new DownData(null, view());
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            left++;
+            x = Math.max(0, x - 1);
+            return view();
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            right++;
+            x = Math.min(9, x + 1);
+            return view();
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            rotate++;
+            return view();
+        }
+
+        @Override
+        public DownData onHardDropEvent(MoveEvent event) {
+            hardDrop++;
+            return new DownData(null, view());
+        }
+
+        @Override
+        public void createNewGame() {
+        }
+    };
+
+    @BeforeEach
+    public void setUp() {
+        x = 4;
+    }
+
+    private static final BrickShape SHAPE = BrickShape.of(new int[][] {{1}});
+
+    private ViewData view() {
+        return new ViewData(SHAPE, x, 0, SHAPE);
+    }
+
+    private void ticks(KeyRepeat keys, int count) {
+        for (int i = 0; i < count; i++) {
+            keys.tick(input);
+        }
+    }
+
+    @Test
+    public void testTapMovesOnceEvenIfReleasedBeforeTick() {
+        KeyRepeat keys = new KeyRepeat(10, 2, 2);
+        keys.press(EventType.LEFT);
+        keys.release(EventType.LEFT);
+        ticks(keys, 30);
+        assertEquals(1, left, "A tap should move exactly once");
+        assertEquals(3, x, "The brick should be one column to the left");
+    }
+
+    @Test
+    public void testHeldKeyRepeatsAfterDas() {
+        KeyRepeat keys = new KeyRepeat(10, 2, 2);
+        x = 0;
+        keys.press(EventType.RIGHT);
+        ticks(keys, 1);
+        assertEquals(1, right, "The press should move on the first tick");
+        ticks(keys, 9);
+        assertEquals(1, right, "Nothing should repeat before the DAS delay");
+        ticks(keys, 1);
+        assertEquals(2, right, "The first repeat should happen when DAS expires");
+        ticks(keys, 4);
+        assertEquals(4, right, "Repeats should follow every ARR ticks");
+    }
+
+    @Test
+    public void testOsRepeatIsIgnored() {
+        KeyRepeat keys = new KeyRepeat(10, 2, 2);
+        keys.press(EventType.LEFT);
+        ticks(keys, 1);
+        for (int i = 0; i < 5; i++) {
+            keys.press(EventType.LEFT);
+            ticks(keys, 1);
+        }
+        assertEquals(1, left, "Repeated press events of a held key should not move the brick");
+        keys.press(EventType.ROTATE);
+        keys.press(EventType.ROTATE);
+        ticks(keys, 5);
+        assertEquals(1, rotate, "Rotation should happen once per tick with a press and never repeat");
+    }
+
+    @Test
+    public void testZeroArrSlidesToWall() {
+        KeyRepeat keys = new KeyRepeat(5, 0, 2);
+        keys.press(EventType.LEFT);
+        ticks(keys, 5);
+        assertEquals(3, x, "Before DAS only the initial move should happen");
+        ticks(keys, 1);
+        assertEquals(0, x, "With ARR 0 the brick should slide to the wall when DAS expires");
+    }
+
+    @Test
+    public void testLastPressedDirectionWinsAndRestartsDas() {
+        KeyRepeat keys = new KeyRepeat(10, 1, 2);
+        keys.press(EventType.LEFT);
+        ticks(keys, 3);
+        keys.press(EventType.RIGHT);
+        ticks(keys, 1);
+        assertEquals(4, x, "The later direction should take over");
+        keys.release(EventType.RIGHT);
+        ticks(keys, 9);
+        assertEquals(4, x, "Falling back to the held direction should restart DAS");
+        ticks(keys, 1);
+        assertEquals(3, x, "The held direction should repeat once its DAS expires");
+    }
+
+    @Test
+    public void testSoftDropRepeatsWhileHeld() {
+        KeyRepeat keys = new KeyRepeat(10, 2, 3);
+        keys.press(EventType.DOWN);
+        ticks(keys, 10);
+        assertEquals(4, down, "Soft drop should step at once and then every interval");
+        keys.release(EventType.DOWN);
+        ticks(keys, 10);
+        assertEquals(4, down, "Soft drop should stop on release");
+    }
+
+    @Test
+    public void testHardDropFollowsShiftAndNeverRepeats() {
+        KeyRepeat keys = new KeyRepeat(10, 2, 2);
+        keys.press(EventType.LEFT);
+        keys.press(EventType.HARD_DROP);
+        keys.press(EventType.DOWN);
+        keys.tick(input);
+        assertEquals(1, left, "The shift pressed in the same tick should happen");
+        assertEquals(1, hardDrop, "The hard drop should happen once");
+        assertEquals(0, down, "A hard drop should replace the soft drop of that tick");
+        ticks(keys, 10);
+        assertEquals(1, hardDrop, "Hard drop should not repeat while held");
+    }
+
+    @Test
+    public void testResetForgetsHeldKeys() {
+        KeyRepeat keys = new KeyRepeat(2, 1, 1);
+        keys.press(EventType.LEFT);
+        keys.press(EventType.DOWN);
+        keys.reset();
+        ticks(keys, 10);
+        assertEquals(0, left + down, "No moves should follow a reset");
+    }
+}
@@ -0,0 +1,163 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static com.comp2042.RandomPlay.seededBoard;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Unit tests for the PlacementEnumerator class.
+ * Checks the found placements against moves replayed on a SimpleBoard.
+ */
+public class PlacementEnumeratorTest {
+
+    private static final List<int[][]> SQUARE = List.<int[][]>of(new int[][]{
+            {0, 0, 0, 0},
+            {0, 4, 4, 0},
+            {0, 4, 4, 0},
+            {0, 0, 0, 0}
+    });
+
+    private static Brick square() {
+        BrickShape[] shapes = BrickShape.table(SQUARE);
+        return new Brick() {
+            @Override
+            public List<int[][]> getShapeMatrix() {
+                return MatrixOperations.deepCopyList(SQUARE);
+            }
+
+            @Override
+            public BrickShape getShape(int rotation) {
+                return shapes[rotation];
+            }
+
+            @Override
+            public int getRotationCount() {
+                return shapes.length;
+            }
+        };
+    }
+
+    /**
+     * Gets the board cells covered by a placement, as row * 100 + column.
+     */
+    private static Set<Integer> cells(Placement placement) {
+        Set<Integer> cells = new HashSet<>();
+        BrickShape shape = placement.getShape();
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            cells.add((placement.getY() + shape.getCellRow(i)) * 100 + placement.getX() + shape.getCellColumn(i));
+        }
+        return cells;
+    }
+
+    /**
+     * Fills some cells of the lower rows, the same way for the same seed.
+     */
+    private static void addGarbage(SimpleBoard board, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 15; row < matrix.length; row++) {
+            for (int column = 0; column < matrix[row].length; column++) {
+                if (random.nextInt(3) == 0) {
+                    matrix[row][column] = 1;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSquareOnEmptyBoard() {
+        PlacementEnumerator enumerator = new PlacementEnumerator(25, 10);
+        List<Placement> placements = enumerator.enumerate(new int[25][10], square(), 0, 4, 3);
+        assertEquals(9, placements.size(), "A 2-wide square has 9 columns on a 10-wide board");
+        for (Placement placement : placements) {
+            assertEquals(22, placement.getY(), "Every placement should rest on the floor");
+        }
+    }
+
+    @Test
+    public void testFindsTuckUnderOverhang() {
+        int[][] matrix = new int[25][10];
+        // 第22行左侧有一段“屋顶”，下方两行为空
+        for (int column = 0; column < 6; column++) {
+            matrix[22][column] = 1;
+        }
+        PlacementEnumerator enumerator = new PlacementEnumerator(25, 10);
+        List<Placement> placements = enumerator.enumerate(matrix, square(), 0, 4, 3);
+        Placement tuck = null;
+        for (Placement placement : placements) {
+            if (placement.getX() == -1 && placement.getY() == 22) {
+                tuck = placement;
+            }
+        }
+        assertNotNull(tuck, "The square should be able to slide under the overhang to column 0");
+        assertTrue(enumerator.getPath(tuck).contains(EventType.LEFT), "Reaching the tuck needs left moves");
+    }
+
+    @Test
+    public void testPlacementsAreDistinctAndReplayable() {
+        PlacementEnumerator enumerator = new PlacementEnumerator(25, 10);
+        for (long seed = 0; seed < 30; seed++) {
+            SimpleBoard board = seededBoard(seed);
+            addGarbage(board, seed);
+            List<Placement> placements = board.findPlacements(enumerator);
+            assertFalse(placements.isEmpty(), "A brick at its spawn position can always lock somewhere");
+
+            Set<Set<Integer>> footprints = new HashSet<>();
+            for (Placement placement : placements) {
+                assertTrue(footprints.add(cells(placement)), "Placements should have distinct footprints");
+
+                SimpleBoard replay = seededBoard(seed);
+                addGarbage(replay, seed);
+                for (EventType move : enumerator.getPath(placement)) {
+                    boolean moved;
+                    switch (move) {
+                        case LEFT:
+                            moved = replay.moveBrickLeft();
+                            break;
+                        case RIGHT:
+                            moved = replay.moveBrickRight();
+                            break;
+                        case ROTATE:
+                            moved = replay.rotateLeftBrick();
+                            break;
+                        default:
+                            moved = replay.moveBrickDown();
+                            break;
+                    }
+                    assertTrue(moved, "Every move on the path should be legal");
+                }
+                assertFalse(replay.moveBrickDown(), "The brick should rest at the end of the path");
+                assertEquals(placement.getX(), replay.getViewData().getxPosition(), "Replayed x should match");
+                assertEquals(placement.getY(), replay.getViewData().getyPosition(), "Replayed y should match");
+            }
+        }
+    }
+
+    @Test
+    public void testBlockedStartHasNoPlacements() {
+        int[][] matrix = new int[25][10];
+        for (int[] row : matrix) {
+            Arrays.fill(row, 1);
+        }
+        List<Placement> placements = new PlacementEnumerator(25, 10).enumerate(matrix, square(), 0, 4, 3);
+        assertTrue(placements.isEmpty(), "A blocked brick has nowhere to go");
+    }
+
+    @Test
+    public void testStalePathIsRejected() {
+        PlacementEnumerator enumerator = new PlacementEnumerator(25, 10);
+        Placement first = enumerator.enumerate(new int[25][10], square(), 0, 4, 3).get(0);
+        enumerator.enumerate(new int[25][10], square(), 0, 4, 3);
+        assertThrows(IllegalStateException.class, () -> enumerator.getPath(first),
+                "Paths of an earlier enumeration are no longer available");
+    }
+}
@@ -0,0 +1,107 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PlayerSimulation and GameThread classes.
+ * Drives the simulation directly and on a game thread, without the JavaFX toolkit.
+ */
+public class PlayerSimulationTest {
+
+    private GameEngine engine;
+    private PlayerSimulation simulation;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new GameEngine(new SimpleBoard(25, 10));
+        engine.newGame();
+        simulation = new PlayerSimulation(engine, new KeyRepeat(10, 2, 2), new EngineInput(engine), engine::tick, () -> true);
+    }
+
+    @Test
+    public void testQueuedKeyIsAppliedOnNextTick() {
+        simulation.publish();
+        FrameSnapshot before = simulation.latest();
+        assertTrue(simulation.offer(EventType.LEFT, true), "The key should be queued");
+        assertTrue(simulation.offer(EventType.LEFT, false), "The release should be queued");
+        assertSame(before, simulation.latest(), "Nothing should change before the game thread ticks");
+
+        simulation.tick();
+        FrameSnapshot after = simulation.latest();
+        assertEquals(before.getViewData().getxPosition() - 1, after.getViewData().getxPosition(),
+                "A tap should move the brick once");
+        assertEquals(simulation.getInputsSent(), after.getInputsConsumed(), "Both commands should be consumed");
+        assertTrue(after.isInputChanged(), "The move should be reported as a change");
+        assertSame(before.getBoard(), after.getBoard(), "An unchanged board should share its copy");
+    }
+
+    @Test
+    public void testSnapshotsAreImmutableCopies() {
+        simulation.publish();
+        FrameSnapshot before = simulation.latest();
+        simulation.offer(EventType.HARD_DROP, true);
+        simulation.tick();
+        FrameSnapshot after = simulation.latest();
+        assertNotSame(before.getBoard(), after.getBoard(), "A locked brick should produce a new board copy");
+        assertNotSame(engine.getBoard().getBoardMatrix(), after.getBoard(), "The snapshot should not share the live board");
+        for (int[] row : before.getBoard()) {
+            for (int cell : row) {
+                assertEquals(0, cell, "An earlier snapshot should keep the empty board");
+            }
+        }
+        assertTrue(after.getScore() > 0, "The hard drop score should be in the snapshot");
+    }
+
+    @Test
+    public void testClearedRowsAreQueuedForTheView() {
+        int[][] board = engine.getBoard().getBoardMatrix();
+        simulation.publish();
+        ViewData view = simulation.latest().getViewData();
+        int[][] shape = view.getBrickData();
+        int lowest = shape.length - 1;
+        while (isEmptyRow(shape[lowest])) {
+            lowest--;
+        }
+        // 底行除方块最低一行落下的位置外全部填满，硬降后必然消行
+        int bottom = board.length - 1;
+        for (int column = 0; column < board[bottom].length; column++) {
+            int shapeColumn = column - view.getxPosition();
+            boolean hole = shapeColumn >= 0 && shapeColumn < shape[lowest].length && shape[lowest][shapeColumn] != 0;
+            board[bottom][column] = hole ? 0 : 1;
+        }
+        SimpleBoard simpleBoard = (SimpleBoard) engine.getBoard();
+        simpleBoard.restoreState(board, simpleBoard.getBrick(), simpleBoard.getBrickRotation(), view.getxPosition(),
+                view.getyPosition(), 0);
+        simulation.offer(EventType.HARD_DROP, true);
+        simulation.tick();
+        ClearRow clearRow = simulation.pollClear();
+        assertNotNull(clearRow, "The cleared row should be queued for the view");
+        assertTrue(clearRow.getLinesRemoved() > 0, "At least one row should be removed");
+        assertNull(simulation.pollClear(), "Each clear should be queued once");
+    }
+
+    @Test
+    public void testGameThreadTicksUntilStopped() throws InterruptedException {
+        GameThread thread = new GameThread("test-game", simulation);
+        thread.start();
+        Thread.sleep(200);
+        thread.stop();
+        int ticks = engine.getTickCount();
+        assertTrue(ticks > 0, "The game thread should tick while running");
+        Thread.sleep(50);
+        assertEquals(ticks, engine.getTickCount(), "The game thread should not tick after stop returns");
+        assertEquals(engine.getChangeCount(), simulation.latest().getChangeCount(),
+                "The last snapshot should match the stopped engine");
+    }
+
+    private static boolean isEmptyRow(int[] row) {
+        for (int cell : row) {
+            if (cell != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Test helpers that play a SimpleBoard with random, seeded moves.
+ */
+final class RandomPlay {
+
+    private RandomPlay() {
+    }
+
+    /**
+     * Creates a 25x10 board whose brick sequence is fixed by a seed, with a new game started.
+     */
+    static SimpleBoard seededBoard(long seed) {
+        SimpleBoard board = new SimpleBoard(25, 10, new RandomBrickGenerator(new SplittableRandom(seed)));
+        board.newGame();
+        return board;
+    }
+
+    /**
+     * Rotates the falling brick and shifts it sideways by random amounts, as a player would before dropping it.
+     */
+    static void positionRandomly(SimpleBoard board, Random random) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            board.rotateLeftBrick();
+        }
+        int shift = random.nextInt(11) - 5;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                board.moveBrickLeft();
+            } else {
+                board.moveBrickRight();
+            }
+        }
+    }
+
+    /**
+     * Positions the falling brick at random, steps it down until it lands and merges it into the board.
+     */
+    static void playRandomPiece(SimpleBoard board, Random random) {
+        positionRandomly(board, random);
+        while (board.moveBrickDown()) {
+        }
+        board.mergeBrickToBackground();
+    }
+
+    /**
+     * Spawns the next brick, starting a new game if it does not fit.
+     *
+     * @return true if the game was over and has been restarted
+     */
+    static boolean nextBrick(SimpleBoard board) {
+        if (board.createNewBrick()) {
+            board.newGame();
+            return true;
+        }
+        return false;
+    }
+}
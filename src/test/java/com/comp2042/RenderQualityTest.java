@@ -0,0 +1,67 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+/**
+ * Unit tests for the RenderQuality enum.
+ * Checks the property parsing and that balanced quality adds and removes glow backdrops.
+ */
+public class RenderQualityTest {
+
+    @AfterEach
+    public void clearProperty() {
+        System.clearProperty(RenderQuality.PROPERTY);
+    }
+
+    @Test
+    public void testFromProperty() {
+        assertEquals(RenderQuality.BALANCED, RenderQuality.fromProperty(), "Balanced should be the default");
+        System.setProperty(RenderQuality.PROPERTY, " Low ");
+        assertEquals(RenderQuality.LOW, RenderQuality.fromProperty(), "The property should be case-insensitive");
+        System.setProperty(RenderQuality.PROPERTY, "ultra");
+        assertEquals(RenderQuality.BALANCED, RenderQuality.fromProperty(), "Unknown values should fall back to balanced");
+        assertEquals(RenderQuality.HIGH, RenderQuality.LOW.next(), "Cycling should wrap around");
+    }
+
+    @Test
+    public void testBalancedMovesGlowToBackdrop() {
+        Pane root = new Pane();
+        Region board = new Region();
+        board.getStyleClass().add("gameBoard");
+        board.resizeRelocate(100, 50, 200, 400);
+        Region other = new Region();
+        root.getChildren().addAll(other, board);
+
+        RenderQuality.BALANCED.applyTo(root);
+        assertEquals(3, root.getChildren().size(), "The board should get a backdrop");
+        Node backdrop = root.getChildren().get(1);
+        assertSame(board, root.getChildren().get(2), "The backdrop should be drawn just below the board");
+        assertTrue(backdrop.getStyleClass().containsAll(List.of("gameBoard", "glowBackdrop")),
+                "The backdrop should carry the board's style");
+        assertTrue(board.getStyleClass().contains("glowSource"), "The board should no longer draw its glow");
+        assertTrue(root.getStyleClass().contains("quality-balanced"), "The root should be marked with the quality");
+
+        board.relocate(300, 60);
+        assertEquals(300, backdrop.getLayoutX(), "The backdrop should follow the board");
+        assertEquals(60, backdrop.getLayoutY(), "The backdrop should follow the board");
+        board.setVisible(false);
+        assertFalse(backdrop.isVisible(), "The backdrop should be hidden with the board");
+
+        RenderQuality.BALANCED.applyTo(root);
+        assertEquals(3, root.getChildren().size(), "Applying the same quality twice should not add another backdrop");
+
+        RenderQuality.LOW.applyTo(root);
+        assertEquals(2, root.getChildren().size(), "Leaving balanced quality should remove the backdrop");
+        assertFalse(board.getStyleClass().contains("glowSource"), "The board should draw its own style again");
+        assertTrue(root.getStyleClass().contains("quality-low"), "The root should be marked with the new quality");
+        assertFalse(root.getStyleClass().contains("quality-balanced"), "The old quality class should be removed");
+    }
+}
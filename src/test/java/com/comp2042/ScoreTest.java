@@ -6,7 +6,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit tests for the Score class.
- * Tests score addition, reset functionality, and property binding.
+ * Tests score addition, reset functionality, and change listeners.
  */
 public class ScoreTest {
 
@@ -19,13 +19,13 @@ public class ScoreTest {
 
     @Test
     public void testInitialScoreIsZero() {
-        assertEquals(0, score.scoreProperty().get(), "Initial score should be 0");
+        assertEquals(0, score.getValue(), "Initial score should be 0");
     }
 
     @Test
     public void testAddScore() {
         score.add(100);
-        assertEquals(100, score.scoreProperty().get(), "Score should be 100 after adding 100");
+        assertEquals(100, score.getValue(), "Score should be 100 after adding 100");
     }
 
     @Test
@@ -33,26 +33,41 @@ public class ScoreTest {
         score.add(50);
         score.add(30);
         score.add(20);
-        assertEquals(100, score.scoreProperty().get(), "Score should be 100 after adding 50+30+20");
+        assertEquals(100, score.getValue(), "Score should be 100 after adding 50+30+20");
     }
 
     @Test
     public void testResetScore() {
         score.add(500);
         score.reset();
-        assertEquals(0, score.scoreProperty().get(), "Score should be 0 after reset");
+        assertEquals(0, score.getValue(), "Score should be 0 after reset");
     }
 
     @Test
     public void testAddNegativeScore() {
         score.add(100);
         score.add(-50);
-        assertEquals(50, score.scoreProperty().get(), "Score should handle negative additions");
+        assertEquals(50, score.getValue(), "Score should handle negative additions");
     }
 
     @Test
-    public void testScorePropertyNotNull() {
-        assertNotNull(score.scoreProperty(), "Score property should not be null");
+    public void testListenerReceivesChanges() {
+        int[] lastValue = {-1};
+        score.addListener(value -> lastValue[0] = value);
+        score.add(40);
+        assertEquals(40, lastValue[0], "Listener should receive the new score");
+        score.reset();
+        assertEquals(0, lastValue[0], "Listener should be notified on reset");
+    }
+
+    @Test
+    public void testRemovedListenerIsNotCalled() {
+        int[] calls = {0};
+        java.util.function.IntConsumer listener = value -> calls[0]++;
+        score.addListener(listener);
+        score.removeListener(listener);
+        score.add(10);
+        assertEquals(0, calls[0], "Removed listener should not be called");
     }
 
     @Test
@@ -61,6 +76,6 @@ public class ScoreTest {
         score.reset();
         score.add(200);
         score.reset();
-        assertEquals(0, score.scoreProperty().get(), "Score should be 0 after multiple resets");
+        assertEquals(0, score.getValue(), "Score should be 0 after multiple resets");
     }
 }
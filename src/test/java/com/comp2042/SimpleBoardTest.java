@@ -0,0 +1,243 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static com.comp2042.RandomPlay.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import com.sun.management.ThreadMXBean;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the SimpleBoard class.
+ * Tests brick movement and checks that the move path does not allocate.
+ */
+public class SimpleBoardTest {
+
+    private SimpleBoard board;
+
+    @BeforeEach
+    public void setUp() {
+        board = new SimpleBoard(25, 10);
+        board.newGame();
+    }
+
+    /**
+     * Performs a fixed mix of moves and rotations.
+     *
+     * @return the number of moves that succeeded, so the work cannot be optimised away
+     */
+    private int playMoves(int rounds) {
+        int moved = 0;
+        for (int i = 0; i < rounds; i++) {
+            if (board.moveBrickLeft()) {
+                moved++;
+            }
+            if (board.rotateLeftBrick()) {
+                moved++;
+            }
+            if (board.moveBrickRight()) {
+                moved++;
+            }
+            if ((i & 63) == 0 && board.moveBrickDown()) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    @Test
+    public void testMovesDoNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean,
+                "Thread allocation counting is not available on this JVM");
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Thread allocation counting is not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().threadId();
+
+        // 预热，使JIT编译完成后再测量稳定状态
+        playMoves(200_000);
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        int moved = playMoves(100_000);
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+
+        assertTrue(moved > 0, "Some moves should succeed");
+        // 允许测量调用本身产生的少量字节
+        assertTrue(after - before < 1024,
+                "Steady-state moves should not allocate, but allocated " + (after - before) + " bytes");
+    }
+
+    @Test
+    public void testMoveLeftAndRightChangePosition() {
+        int startX = board.getViewData().getxPosition();
+        assertTrue(board.moveBrickLeft(), "Brick should move left on an empty board");
+        assertEquals(startX - 1, board.getViewData().getxPosition(), "Brick should be one column to the left");
+        assertTrue(board.moveBrickRight(), "Brick should move right on an empty board");
+        assertEquals(startX, board.getViewData().getxPosition(), "Brick should be back at its start column");
+    }
+
+    @Test
+    public void testBrickStopsAtFloor() {
+        int steps = 0;
+        while (board.moveBrickDown()) {
+            steps++;
+        }
+        assertTrue(steps > 0, "Brick should fall at least one row");
+        assertFalse(board.moveBrickDown(), "Brick should stay blocked at the floor");
+    }
+
+    @Test
+    public void testClearRowsMatchesFullBoardScan() {
+        Random random = new Random(7);
+        int totalLines = 0;
+        for (int piece = 0; piece < 5000; piece++) {
+            playRandomPiece(board, random);
+
+            ClearRow expected = MatrixOperations.checkRemoving(MatrixOperations.copy(board.getBoardMatrix()));
+            ClearRow actual = board.clearRows();
+            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved(), "Cleared line count should match a full scan");
+            assertEquals(expected.getScoreBonus(), actual.getScoreBonus(), "Score bonus should match a full scan");
+            assertArrayEquals(expected.getNewMatrix(), board.getBoardMatrix(), "Compacted board should match a full scan");
+            totalLines += actual.getLinesRemoved();
+            nextBrick(board);
+        }
+        assertTrue(totalLines > 0, "Random play should clear at least one line");
+    }
+
+    @Test
+    public void testZobristHashTracksMergesAndClears() {
+        SimpleBoard seeded = seededBoard(11);
+        Random random = new Random(11);
+        int clears = 0;
+        for (int piece = 0; piece < 5000; piece++) {
+            playRandomPiece(seeded, random);
+            assertEquals(Zobrist.hash(seeded.getBoardMatrix()), seeded.getZobristHash(), "Hash should match after a merge");
+            if (seeded.clearRows().getLinesRemoved() > 0) {
+                clears++;
+            }
+            assertEquals(Zobrist.hash(seeded.getBoardMatrix()), seeded.getZobristHash(), "Hash should match after clearing rows");
+            if (nextBrick(seeded)) {
+                assertEquals(0, seeded.getZobristHash(), "An empty board should hash to 0");
+            }
+        }
+        assertTrue(clears > 0, "Random play should clear at least one line");
+    }
+
+    @Test
+    public void testDropDistanceMatchesStepping() {
+        SimpleBoard seeded = seededBoard(12);
+        Random random = new Random(12);
+        int tucks = 0;
+        for (int piece = 0; piece < 3000; piece++) {
+            positionRandomly(seeded, random);
+            int expected = seeded.getDropDistance();
+            assertEquals(seeded.getViewData().getyPosition() + expected, seeded.getViewData().getGhostYPosition(),
+                    "The ghost should sit at the drop distance");
+            int stepped = 0;
+            while (seeded.moveBrickDown()) {
+                stepped++;
+            }
+            assertEquals(stepped, expected, "Drop distance should match stepping down");
+            // 落地后横移，可能滑到悬空部分下方，再次比较
+            boolean moved = random.nextBoolean() ? seeded.moveBrickLeft() : seeded.moveBrickRight();
+            if (moved) {
+                expected = seeded.getDropDistance();
+                stepped = 0;
+                while (seeded.moveBrickDown()) {
+                    stepped++;
+                }
+                assertEquals(stepped, expected, "Drop distance should match stepping after a tuck");
+                tucks += stepped > 0 ? 1 : 0;
+            }
+            seeded.mergeBrickToBackground();
+            seeded.clearRows();
+            nextBrick(seeded);
+        }
+        assertTrue(tucks > 0, "Random play should include bricks that fall further after sliding off a ledge");
+    }
+
+    @Test
+    public void testDropBrickMovesToLandingRow() {
+        int ghost = board.getViewData().getGhostYPosition();
+        int rows = board.dropBrick();
+        assertEquals(ghost, board.getViewData().getyPosition(), "The brick should land where the ghost was");
+        assertEquals(ghost - Board.SPAWN_Y, rows, "The returned distance should be the rows dropped");
+        assertFalse(board.moveBrickDown(), "A dropped brick should rest on the floor");
+        assertEquals(0, board.dropBrick(), "Dropping a landed brick should not move it");
+    }
+
+    @Test
+    public void testViewDataIsDoubleBuffered() {
+        ViewData first = board.getViewData();
+        assertSame(first, board.getViewData(), "An unchanged board should return the same view data");
+        ViewData kept = first.copy();
+        int startX = first.getxPosition();
+
+        assertTrue(board.moveBrickLeft(), "Brick should move left on an empty board");
+        ViewData second = board.getViewData();
+        assertNotSame(first, second, "A change should fill the other buffer");
+        assertEquals(startX, first.getxPosition(), "The previous view data should stay valid across one change");
+        assertEquals(startX - 1, second.getxPosition(), "The new view data should hold the new position");
+        assertSame(second.getBrickShape(), first.getBrickShape(), "Shapes should be shared, not copied");
+
+        assertTrue(board.moveBrickLeft(), "Brick should move left again");
+        assertSame(first, board.getViewData(), "The buffers should alternate");
+        assertEquals(startX, kept.getxPosition(), "A copy should not be reused by the board");
+    }
+
+    @Test
+    public void testNewGameClearsBoardInPlace() {
+        int[][] matrix = board.getBoardMatrix();
+        while (board.moveBrickDown()) {
+        }
+        board.mergeBrickToBackground();
+        board.newGame();
+        assertSame(matrix, board.getBoardMatrix(), "The board matrix should be reused");
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                assertEquals(0, cell, "All cells should be empty after a new game");
+            }
+        }
+    }
+
+    @Test
+    public void testLocksAndClearsEmitFlightRecorderEvents(@TempDir Path dir) throws IOException {
+        SimpleBoard seeded = seededBoard(20);
+        Random random = new Random(20);
+        int locks = 0;
+        int lines = 0;
+        Path file = dir.resolve("board.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.comp2042.PieceLock");
+            recording.enable("com.comp2042.LineClear");
+            recording.start();
+            for (int piece = 0; piece < 2000; piece++) {
+                playRandomPiece(seeded, random);
+                locks++;
+                lines += seeded.clearRows().getLinesRemoved();
+                nextBrick(seeded);
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        long lockEvents = events.stream().filter(e -> e.getEventType().getName().equals("com.comp2042.PieceLock")).count();
+        int clearedRows = events.stream().filter(e -> e.getEventType().getName().equals("com.comp2042.LineClear"))
+                .mapToInt(e -> e.getInt("rowsRemoved")).sum();
+        assertTrue(lines > 0, "Random play should clear at least one line");
+        assertEquals(locks, lockEvents, "Every merge should be recorded");
+        assertEquals(lines, clearedRows, "Clear events should add up to the removed rows");
+    }
+}
@@ -0,0 +1,66 @@
+package com.comp2042;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SpscRingBuffer class.
+ * Checks ordering, capacity and a concurrent producer and consumer.
+ */
+public class SpscRingBufferTest {
+
+    @Test
+    public void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(1, new SpscRingBuffer<Integer>(1).capacity(), "A capacity of one should be kept");
+        assertEquals(8, new SpscRingBuffer<Integer>(5).capacity(), "Capacity should round up to a power of two");
+        assertEquals(8, new SpscRingBuffer<Integer>(8).capacity(), "A power of two should be kept");
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBuffer<Integer>(0), "Capacity must be positive");
+    }
+
+    @Test
+    public void testFifoOrderAcrossWrapAround() {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4);
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 10; round++) {
+            while (buffer.offer(next)) {
+                next++;
+            }
+            assertEquals(expected + 4, next, "A full buffer should hold exactly its capacity");
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected++, buffer.poll(), "Elements should come out in the order they went in");
+            }
+        }
+        while (buffer.poll() != null) {
+            expected++;
+        }
+        assertEquals(next, expected, "Every element should be taken exactly once");
+        assertNull(buffer.poll(), "An empty buffer should return null");
+    }
+
+    @Test
+    public void testConcurrentProducerAndConsumer() throws InterruptedException {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(64);
+        int count = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!buffer.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        int expected = 0;
+        while (expected < count) {
+            Integer value = buffer.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(expected, value.intValue(), "The consumer should see every element in order");
+            expected++;
+        }
+        producer.join();
+        assertNull(buffer.poll(), "Nothing should be left after the last element");
+    }
+}
@@ -0,0 +1,185 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import com.comp2042.Board;
+import com.comp2042.ClearRow;
+import com.comp2042.EngineInput;
+import com.comp2042.GameEngine;
+import com.comp2042.MatrixOperations;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Unit tests for the BeamSearch and CpuPlayer classes.
+ * Checks the chosen placements on prepared boards and lets the CPU player play headless games.
+ */
+public class BeamSearchTest {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private static final List<int[][]> I_MATRICES = List.of(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            });
+
+    private static Brick bar() {
+        BrickShape[] shapes = BrickShape.table(I_MATRICES);
+        return new Brick() {
+            @Override
+            public List<int[][]> getShapeMatrix() {
+                return MatrixOperations.deepCopyList(I_MATRICES);
+            }
+
+            @Override
+            public BrickShape getShape(int rotation) {
+                return shapes[rotation];
+            }
+
+            @Override
+            public int getRotationCount() {
+                return shapes.length;
+            }
+        };
+    }
+
+    /**
+     * Fills the bottom rows except the last column.
+     */
+    private static int[][] wellBoard(int depth) {
+        int[][] matrix = new int[25][10];
+        for (int row = 25 - depth; row < 25; row++) {
+            for (int column = 0; column < 9; column++) {
+                matrix[row][column] = 2;
+            }
+        }
+        return matrix;
+    }
+
+    @Test
+    public void testFillsWellWithBar() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BeamSearch search = new BeamSearch(25, 10, pool);
+            SearchResult result = search.search(wellBoard(4), bar(), 0, Board.SPAWN_X, Board.SPAWN_Y,
+                    List.of(), 1, 4, NO_DEADLINE);
+            assertNotNull(result.getPlacement(), "A placement should be found");
+            assertEquals(1, result.getPlacement().getRotation(), "The bar should stand upright");
+            assertEquals(8, result.getPlacement().getX(), "The bar should drop into the last column");
+            assertEquals(21, result.getPlacement().getY(), "The bar should reach the bottom of the well");
+            assertFalse(result.getPath().isEmpty(), "Reaching the well takes moves");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testResultDoesNotDependOnParallelism() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            RandomBrickGenerator generator = new RandomBrickGenerator(new SplittableRandom(9));
+            Brick current = generator.getBrick();
+            Brick next = generator.getBrick();
+            int[][] matrix = wellBoard(3);
+            matrix[23][4] = 0;
+            SearchResult sequential = new BeamSearch(25, 10, single).search(matrix, current, 0, Board.SPAWN_X,
+                    Board.SPAWN_Y, List.of(next), 2, 8, NO_DEADLINE);
+            SearchResult parallel = new BeamSearch(25, 10, several).search(matrix, current, 0, Board.SPAWN_X,
+                    Board.SPAWN_Y, List.of(next), 2, 8, NO_DEADLINE);
+            assertEquals(2, sequential.getDepth(), "Both bricks should be placed without a deadline");
+            assertEquals(sequential.getPath(), parallel.getPath(), "The chosen path should not depend on the thread count");
+            assertEquals(sequential.getNodeCount(), parallel.getNodeCount(), "The search should visit the same boards");
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testExpiredDeadlineStillAnswers() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SearchResult result = new BeamSearch(25, 10, pool).search(new int[25][10], bar(), 0, Board.SPAWN_X,
+                    Board.SPAWN_Y, List.of(bar(), bar()), 3, 8, System.nanoTime());
+            assertEquals(1, result.getDepth(), "Only the current brick should be placed after the deadline");
+            assertNotNull(result.getPlacement(), "The current brick should still get a placement");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDepthIsLimitedByPreview() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SearchResult result = new BeamSearch(25, 10, pool).search(new int[25][10], bar(), 0, Board.SPAWN_X,
+                    Board.SPAWN_Y, List.of(bar()), 3, 4, NO_DEADLINE);
+            assertEquals(2, result.getDepth(), "The search cannot look past the preview");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRepeatedSearchHitsTable() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BeamSearch search = new BeamSearch(25, 10, pool);
+            int[][] matrix = wellBoard(2);
+            search.search(matrix, bar(), 0, Board.SPAWN_X, Board.SPAWN_Y, List.of(bar()), 2, 8, NO_DEADLINE);
+            long misses = search.getTable().getMisses();
+            assertTrue(search.getTable().getHits() > 0, "Move orders reaching the same board should share a score");
+            search.search(matrix, bar(), 0, Board.SPAWN_X, Board.SPAWN_Y, List.of(bar()), 2, 8, NO_DEADLINE);
+            assertEquals(misses, search.getTable().getMisses(), "Searching the same position again should only hit");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCpuPlayerClearsLines() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SimpleBoard board = new SimpleBoard(25, 10, new RandomBrickGenerator(new SplittableRandom(4)));
+            GameEngine engine = new GameEngine(board);
+            engine.newGame();
+            CpuPlayer player = new CpuPlayer(board, new EngineInput(engine), new BeamSearch(25, 10, pool), AiStrength.MEDIUM);
+            int lines = 0;
+            for (int tick = 0; tick < 20_000 && !engine.isGameOver() && lines < 10; tick++) {
+                ClearRow clearRow = player.tick();
+                if (clearRow != null) {
+                    lines += clearRow.getLinesRemoved();
+                }
+                // 等待后台搜索完成，使结果不受机器速度影响
+                while (player.isSearching()) {
+                    Thread.onSpinWait();
+                }
+                ClearRow gravity = engine.tick();
+                if (gravity != null) {
+                    lines += gravity.getLinesRemoved();
+                }
+            }
+            assertFalse(engine.isGameOver(), "The CPU player should not top out this early");
+            assertTrue(lines >= 10, "The CPU player should clear lines, cleared " + lines);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TranspositionTable class.
+ * Checks lookups, the replacement of old entries and the hit counters.
+ */
+public class TranspositionTableTest {
+
+    /**
+     * Builds keys that fall into bucket 0 of a table with the given capacity.
+     */
+    private static long sameBucketKey(int capacity, int index) {
+        // 高32位与低32位异或后决定桶，令两者相同即可落在0号桶
+        long high = (long) (index + 1) * capacity;
+        return high << 32 | high;
+    }
+
+    @Test
+    public void testStoresAndFindsScores() {
+        TranspositionTable table = new TranspositionTable(1024);
+        table.put(42L, -12.5);
+        table.put(-7L, 3.0);
+        assertEquals(-12.5, table.get(42L), "Stored score should be found");
+        assertEquals(3.0, table.get(-7L), "Stored score should be found");
+        assertTrue(Double.isNaN(table.get(43L)), "Unknown hash should miss");
+        table.put(42L, 1.0);
+        assertEquals(1.0, table.get(42L), "Storing a hash again should overwrite its score");
+        assertEquals(0, table.getReplacements(), "Overwriting the same hash is not a replacement");
+    }
+
+    @Test
+    public void testCountsHitsAndMisses() {
+        TranspositionTable table = new TranspositionTable(64);
+        table.put(1L, 1.0);
+        table.get(1L);
+        table.get(1L);
+        table.get(2L);
+        assertEquals(2, table.getHits(), "Two lookups should hit");
+        assertEquals(1, table.getMisses(), "One lookup should miss");
+        assertEquals(2.0 / 3, table.getHitRate(), 1e-9, "Hit rate should be hits over lookups");
+        table.clear();
+        assertEquals(0, table.getHitRate(), "Clearing should reset the counters");
+        assertTrue(Double.isNaN(table.get(1L)), "Clearing should remove the entries");
+    }
+
+    @Test
+    public void testFullBucketReplacesOldestSearch() {
+        int capacity = 64;
+        TranspositionTable table = new TranspositionTable(capacity);
+        long oldest = sameBucketKey(capacity, 0);
+        table.put(oldest, 0.0);
+        table.newSearch();
+        for (int i = 1; i < TranspositionTable.BUCKET_SIZE; i++) {
+            table.put(sameBucketKey(capacity, i), i);
+        }
+        long newcomer = sameBucketKey(capacity, TranspositionTable.BUCKET_SIZE);
+        table.put(newcomer, 99.0);
+        assertEquals(1, table.getReplacements(), "A full bucket should evict one entry");
+        assertTrue(Double.isNaN(table.get(oldest)), "The entry of the older search should be evicted");
+        assertEquals(99.0, table.get(newcomer), "The new entry should be stored");
+        for (int i = 1; i < TranspositionTable.BUCKET_SIZE; i++) {
+            assertEquals(i, table.get(sameBucketKey(capacity, i)), "Newer entries should be kept");
+        }
+    }
+
+    @Test
+    public void testCapacityIsRoundedToPowerOfTwo() {
+        assertEquals(128, new TranspositionTable(100).getCapacity(), "Capacity should round up to a power of two");
+        assertEquals(TranspositionTable.BUCKET_SIZE, new TranspositionTable(1).getCapacity(), "The table holds at least one bucket");
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0), "Capacity must be positive");
+    }
+}
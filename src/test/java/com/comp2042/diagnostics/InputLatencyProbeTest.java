@@ -0,0 +1,82 @@
+package com.comp2042.diagnostics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the InputLatencyProbe and FrameTimings classes.
+ * Drives the probe with fixed timestamps instead of a running game loop.
+ */
+public class InputLatencyProbeTest {
+
+    @Test
+    public void testRecordsFromArrivalToRenderedFrame() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        InputLatencyProbe probe = new InputLatencyProbe(1, histogram);
+        probe.keyArrived(1_000);
+        probe.keyArrived(2_000);
+        probe.inputApplied(5_000, true);
+        probe.frameRendered(9_000);
+        assertEquals(1, histogram.getCount(), "Presses rendered in one frame should give one sample");
+        assertEquals(8_000, histogram.getMax(), "The earliest waiting press should be measured");
+
+        probe.frameRendered(20_000);
+        assertEquals(1, histogram.getCount(), "A frame without a new press should not be recorded");
+    }
+
+    @Test
+    public void testPressWithoutEffectIsDropped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        InputLatencyProbe probe = new InputLatencyProbe(2, histogram);
+        probe.keyArrived(1_000);
+        probe.inputApplied(2_000, false);
+        probe.frameRendered(3_000);
+        assertEquals(0, histogram.getCount(), "A blocked move never reaches the screen and should be dropped");
+
+        probe.keyArrived(4_000);
+        probe.cancel();
+        probe.inputApplied(5_000, true);
+        probe.frameRendered(6_000);
+        assertEquals(0, histogram.getCount(), "A cancelled press should not be recorded");
+    }
+
+    @Test
+    public void testRepeatedPressOfHeldKeyIsIgnored() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        InputLatencyProbe probe = new InputLatencyProbe(1, histogram);
+        probe.keyPressed(1, 1_000);
+        probe.inputApplied(2_000, true);
+        probe.frameRendered(3_000);
+        assertEquals(1, histogram.getCount(), "The first press should be recorded");
+
+        // 按住时系统重复发送按下事件，随后的自动移动不应算作这些重复的延迟
+        probe.keyPressed(1, 50_000);
+        probe.inputApplied(51_000, true);
+        probe.frameRendered(52_000);
+        assertEquals(1, histogram.getCount(), "A repeated press of a held key should record nothing");
+
+        probe.keyPressed(2, 60_000);
+        probe.inputApplied(61_000, true);
+        probe.frameRendered(64_000);
+        assertEquals(2, histogram.getCount(), "Another key should still be recorded while one is held");
+
+        probe.keyReleased(1);
+        probe.keyPressed(1, 70_000);
+        probe.inputApplied(71_000, true);
+        probe.frameRendered(75_000);
+        assertEquals(3, histogram.getCount(), "A key pressed again after its release should be recorded");
+        assertEquals(5_000, histogram.getMax(), "The new press should be measured from its own arrival");
+    }
+
+    @Test
+    public void testFrameTimingsSkipFirstInterval() {
+        FrameTimings timings = new FrameTimings();
+        timings.pulse(0, 1_000);
+        timings.pulse(16_000_000, 2_000);
+        timings.restart();
+        timings.pulse(900_000_000, 3_000);
+        assertEquals(1, timings.getIntervals().getCount(), "Only pulses without a restart between them form an interval");
+        assertEquals(16_000_000, timings.getIntervals().getMax(), "The interval should be the pulse distance");
+        assertEquals(3, timings.getWork().getCount(), "Every pulse should record its work time");
+    }
+}
@@ -0,0 +1,56 @@
+package com.comp2042.diagnostics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for the LatencyHistogram class.
+ * Checks bucket boundaries and compares percentiles with an exact sort.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsCoverValuesWithoutGaps() {
+        for (long value : new long[]{0, 1, 15, 16, 17, 31, 32, 1_000, 16_666_667, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.lowerBound(index) <= value, "Bucket should start at or below " + value);
+            if (value < Long.MAX_VALUE) {
+                assertTrue(LatencyHistogram.lowerBound(index + 1) > value, "Next bucket should start above " + value);
+            }
+        }
+    }
+
+    @Test
+    public void testPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        SplittableRandom random = new SplittableRandom(19);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong(1_000_000, 50_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[]{50, 90, 99}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long estimate = histogram.getPercentile(percentile);
+            assertEquals(exact, estimate, exact / (double) LatencyHistogram.SUB_BUCKETS,
+                    "p" + percentile + " should be within one sub-bucket of the exact value");
+        }
+        assertEquals(values[values.length - 1], histogram.getMax(), "The maximum should be exact");
+        assertEquals(values.length, histogram.getCount(), "Every value should be counted");
+    }
+
+    @Test
+    public void testEmptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99), "An empty histogram should report 0");
+        histogram.record(5_000_000);
+        assertEquals(5_000_000, histogram.getPercentile(50), "A single value should not be reported above the maximum");
+        histogram.reset();
+        assertEquals(0, histogram.getCount(), "Reset should forget all values");
+        assertEquals(0, histogram.getMax(), "Reset should clear the maximum");
+    }
+}
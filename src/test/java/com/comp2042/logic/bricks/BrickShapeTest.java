@@ -0,0 +1,69 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for the BrickShape class.
+ * Checks that the precomputed rotation tables match the shape matrices of every brick.
+ */
+public class BrickShapeTest {
+
+    private static final List<Brick> ALL_BRICKS = List.of(
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick());
+
+    @Test
+    public void testTablesMatchShapeMatrices() {
+        for (Brick brick : ALL_BRICKS) {
+            List<int[][]> matrices = brick.getShapeMatrix();
+            assertEquals(matrices.size(), brick.getRotationCount(), "Rotation count should match the matrix list");
+            for (int rotation = 0; rotation < matrices.size(); rotation++) {
+                int[][] matrix = matrices.get(rotation);
+                BrickShape shape = brick.getShape(rotation);
+                assertArrayEquals(matrix, shape.toMatrix(), "Packed shape should unpack to the original matrix");
+                for (int row = 0; row < BrickShape.SIZE; row++) {
+                    int expectedMask = 0;
+                    for (int column = 0; column < BrickShape.SIZE; column++) {
+                        assertEquals(matrix[row][column], shape.getCell(row, column), "Cell value should match");
+                        if (matrix[row][column] != 0) {
+                            expectedMask |= 1 << column;
+                        }
+                    }
+                    assertEquals(expectedMask, shape.getRowMask(row), "Row mask should match the matrix row");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCellsAndBoundingBox() {
+        for (Brick brick : ALL_BRICKS) {
+            for (int rotation = 0; rotation < brick.getRotationCount(); rotation++) {
+                BrickShape shape = brick.getShape(rotation);
+                assertEquals(4, shape.getCellCount(), "Every tetromino has four cells");
+                for (int i = 0; i < shape.getCellCount(); i++) {
+                    int row = shape.getCellRow(i);
+                    int column = shape.getCellColumn(i);
+                    assertEquals(shape.getColor(), shape.getCell(row, column), "Listed cell should be filled");
+                    assertTrue(row >= shape.getMinRow() && row <= shape.getMaxRow(), "Cell row should be inside the bounding box");
+                    assertTrue(column >= shape.getMinColumn() && column <= shape.getMaxColumn(), "Cell column should be inside the bounding box");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testShapeAccessDoesNotCopy() {
+        Brick brick = new TBrick();
+        assertSame(brick.getShape(0), brick.getShape(0), "Repeated reads should return the same shared shape");
+        assertSame(brick.getShape(1), new TBrick().getShape(1), "Shapes should be shared between instances of a brick type");
+    }
+
+    @Test
+    public void testRejectsMultiColorShape() {
+        int[][] matrix = {{1, 2}, {0, 0}};
+        assertThrows(IllegalArgumentException.class, () -> BrickShape.of(matrix), "Mixed colors should be rejected");
+    }
+}
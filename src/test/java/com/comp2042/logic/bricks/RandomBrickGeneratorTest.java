@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Unit tests for the RandomBrickGenerator class.
@@ -99,5 +100,14 @@ public class RandomBrickGeneratorTest {
         
         assertTrue(foundMultipleRotations, "At least some bricks should have multiple rotation states");
     }
-}
 
+    @Test
+    public void testSeededGeneratorsProduceSameSequence() {
+        BrickGenerator first = new RandomBrickGenerator(new SplittableRandom(99));
+        BrickGenerator second = new RandomBrickGenerator(new SplittableRandom(99));
+        for (int i = 0; i < 200; i++) {
+            assertEquals(first.getBrick().getClass(), second.getBrick().getClass(),
+                    "Generators with the same seed should produce the same brick types");
+        }
+    }
+}
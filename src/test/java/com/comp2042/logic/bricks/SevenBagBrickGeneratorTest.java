@@ -0,0 +1,71 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Unit tests for the SevenBagBrickGenerator class.
+ * Checks the bag property, reproducibility from a seed and the preview queue.
+ */
+public class SevenBagBrickGeneratorTest {
+
+    @Test
+    public void testEveryBagHoldsAllSevenBricks() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(3L);
+        for (int bag = 0; bag < 100; bag++) {
+            Set<Class<?>> types = new HashSet<>();
+            for (int i = 0; i < 7; i++) {
+                types.add(generator.getBrick().getClass());
+            }
+            assertEquals(7, types.size(), "Each group of seven bricks should contain every brick type");
+        }
+    }
+
+    @Test
+    public void testSameSeedGivesSameSequence() {
+        SevenBagBrickGenerator first = new SevenBagBrickGenerator(42L);
+        SevenBagBrickGenerator second = new SevenBagBrickGenerator(42L, 2);
+        boolean differsFromOtherSeed = false;
+        SevenBagBrickGenerator other = new SevenBagBrickGenerator(43L);
+        for (int i = 0; i < 700; i++) {
+            Brick brick = first.getBrick();
+            assertSame(brick, second.getBrick(), "Generators with the same seed should deal the same bricks");
+            differsFromOtherSeed |= brick != other.getBrick();
+        }
+        assertTrue(differsFromOtherSeed, "A different seed should give a different sequence");
+    }
+
+    @Test
+    public void testResetRestartsSequence() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(7L);
+        Brick[] expected = new Brick[20];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = generator.getBrick();
+        }
+        generator.reset(7L);
+        for (Brick brick : expected) {
+            assertSame(brick, generator.getBrick(), "Reset with the same seed should replay the sequence");
+        }
+    }
+
+    @Test
+    public void testPreviewMatchesUpcomingBricks() {
+        SevenBagBrickGenerator generator = new SevenBagBrickGenerator(5L, 5);
+        assertEquals(5, generator.getPreviewDepth(), "Preview depth should be configurable");
+        for (int round = 0; round < 50; round++) {
+            Brick[] preview = new Brick[generator.getPreviewDepth()];
+            for (int i = 0; i < preview.length; i++) {
+                preview[i] = generator.getPreview(i);
+            }
+            assertSame(preview[0], generator.getNextBrick(), "The first preview brick is the next brick");
+            for (Brick brick : preview) {
+                assertSame(brick, generator.getBrick(), "Bricks should arrive in preview order");
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getPreview(5), "Preview is limited to its depth");
+        assertThrows(IllegalArgumentException.class, () -> new SevenBagBrickGenerator(1L, 0), "Preview depth must be positive");
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.replay;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.comp2042.GameEngine;
+import com.comp2042.ViewData;
+
+/**
+ * Unit tests for the ReplayArchive class.
+ * Checks that seeking through snapshots lands on exactly the state reached by playing from the start.
+ */
+public class ReplayArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    private Replay[] writeArchive(Path file, int interval) throws IOException {
+        Replay[] replays = new Replay[3];
+        try (ReplayArchiveWriter writer = new ReplayArchiveWriter(file, interval)) {
+            for (int i = 0; i < replays.length; i++) {
+                replays[i] = (Replay) ReplayTest.playRecorded(100 + i, 6_000)[1];
+                writer.add(replays[i]);
+            }
+        }
+        return replays;
+    }
+
+    private static void assertSameState(GameEngine expected, GameEngine actual, String context) {
+        assertEquals(expected.getTickCount(), actual.getTickCount(), "Tick should match " + context);
+        assertEquals(expected.getScore().getValue(), actual.getScore().getValue(), "Score should match " + context);
+        assertEquals(expected.isGameOver(), actual.isGameOver(), "Game over should match " + context);
+        assertTrue(Arrays.deepEquals(expected.getBoard().getBoardMatrix(), actual.getBoard().getBoardMatrix()),
+                "Board should match " + context);
+        ViewData expectedView = expected.getViewData();
+        ViewData actualView = actual.getViewData();
+        assertEquals(expectedView.getxPosition(), actualView.getxPosition(), "Brick column should match " + context);
+        assertEquals(expectedView.getyPosition(), actualView.getyPosition(), "Brick row should match " + context);
+        assertTrue(Arrays.deepEquals(expectedView.getBrickData(), actualView.getBrickData()),
+                "Brick shape should match " + context);
+    }
+
+    @Test
+    public void testSeekMatchesPlayingFromStart() throws IOException {
+        Path file = dir.resolve("games.tra");
+        Replay[] replays = writeArchive(file, 100);
+        ReplayArchive archive = ReplayArchive.open(file);
+        assertEquals(replays.length, archive.getGameCount(), "Archive should hold every added game");
+
+        SplittableRandom random = new SplittableRandom(5);
+        for (int game = 0; game < replays.length; game++) {
+            Replay replay = archive.getReplay(game);
+            assertEquals(replays[game].getSeed(), replay.getSeed(), "Stored seed should match");
+            assertEquals(replays[game].getFinalScore(), replay.getFinalScore(), "Stored final score should match");
+            for (int i = 0; i < 10; i++) {
+                int tick = random.nextInt(replay.getTickCount() + 1);
+                ReplayPlayer fromStart = ReplayPlayer.createHeadless(replay);
+                while (fromStart.getEngine().getTickCount() < tick && fromStart.step()) {
+                    // 从头播放到目标tick
+                }
+                ReplayPlayer seeked = archive.seek(game, tick);
+                assertSameState(fromStart.getEngine(), seeked.getEngine(), "at tick " + tick + " of game " + game);
+            }
+        }
+    }
+
+    @Test
+    public void testSeekedGamePlaysToRecordedEnd() throws IOException {
+        Path file = dir.resolve("games.tra");
+        Replay[] replays = writeArchive(file, 250);
+        ReplayArchive archive = ReplayArchive.open(file);
+        for (int game = 0; game < replays.length; game++) {
+            ReplayPlayer player = archive.seek(game, replays[game].getTickCount() / 2);
+            while (player.step()) {
+                // 播放到结尾
+            }
+            assertEquals(replays[game].getFinalScore(), player.getEngine().getScore().getValue(),
+                    "A game resumed from a snapshot should end with the recorded score");
+        }
+    }
+
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("not-an-archive.tra");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> ReplayArchive.open(file), "A file without the magic should be rejected");
+    }
+}
@@ -0,0 +1,188 @@
+package com.comp2042.replay;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.comp2042.ClearRow;
+import com.comp2042.EasyDifficultyStrategy;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.HardDifficultyStrategy;
+import com.comp2042.MoveEvent;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+/**
+ * Unit tests for replay recording and playback.
+ * Records seeded games played with random key presses and checks that playing them back
+ * reproduces the same board and score.
+ */
+public class ReplayTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    /**
+     * Plays a game with random key presses, recording every event like the game controller does.
+     *
+     * @return the engine at the end of the game, the replay in the second slot and the number of
+     *         locked bricks and cleared lines as an int pair in the third
+     */
+    static Object[] playRecorded(long seed, int maxTicks) {
+        GameEngine engine = new GameEngine(new SimpleBoard(ROWS, COLUMNS, new SevenBagBrickGenerator(seed)));
+        engine.newGame();
+        ReplayRecorder recorder = new ReplayRecorder(seed, ROWS, COLUMNS);
+        EasyDifficultyStrategy easy = new EasyDifficultyStrategy();
+        engine.setDifficulty(easy);
+        recorder.recordDifficulty(0, easy);
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] locks = new int[2];
+        while (!engine.isGameOver() && engine.getTickCount() < maxTicks) {
+            if (engine.getTickCount() == maxTicks / 2) {
+                HardDifficultyStrategy hard = new HardDifficultyStrategy();
+                engine.setDifficulty(hard);
+                recorder.recordDifficulty(engine.getTickCount(), hard);
+            }
+            if (random.nextInt(4) == 0) {
+                EventType type = EventType.values()[random.nextInt(EventType.values().length)];
+                // 横移连按几次，使硬降的方块分散到整个宽度，不会很快在中间堆到顶
+                int presses = type == EventType.LEFT || type == EventType.RIGHT ? 1 + random.nextInt(5) : 1;
+                for (int press = 0; press < presses; press++) {
+                    MoveEvent event = new MoveEvent(type, EventSource.USER);
+                    recorder.record(engine.getTickCount(), event);
+                    switch (type) {
+                        case DOWN:
+                            countLock(locks, engine.stepDown(EventSource.USER));
+                            break;
+                        case LEFT:
+                            engine.moveLeft();
+                            break;
+                        case RIGHT:
+                            engine.moveRight();
+                            break;
+                        case HARD_DROP:
+                            countLock(locks, engine.hardDrop());
+                            break;
+                        default:
+                            engine.rotate();
+                            break;
+                    }
+                }
+            }
+            if (!engine.isGameOver()) {
+                countLock(locks, engine.tick());
+            }
+        }
+        Replay replay = recorder.finish(engine.getTickCount(), engine.getScore().getValue());
+        return new Object[] {engine, replay, locks};
+    }
+
+    private static void countLock(int[] locks, ClearRow clearRow) {
+        if (clearRow != null) {
+            locks[0]++;
+            locks[1] += clearRow.getLinesRemoved();
+        }
+    }
+
+    @Test
+    public void testHeadlessPlaybackReproducesGame() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Object[] played = playRecorded(seed, 20_000);
+            GameEngine original = (GameEngine) played[0];
+            Replay replay = (Replay) played[1];
+
+            GameEngine replayed = ReplayPlayer.playHeadless(replay);
+            assertEquals(original.getScore().getValue(), replayed.getScore().getValue(),
+                    "Replayed score should match the recorded game");
+            assertEquals(replay.getFinalScore(), replayed.getScore().getValue(), "Replay should store the final score");
+            assertEquals(original.getTickCount(), replayed.getTickCount(), "Replay should end on the recorded tick");
+            assertEquals(original.isGameOver(), replayed.isGameOver(), "Game over state should match");
+            assertTrue(Arrays.deepEquals(original.getBoard().getBoardMatrix(), replayed.getBoard().getBoardMatrix()),
+                    "Replayed board should match the recorded board");
+        }
+    }
+
+    @Test
+    public void testPlaybackReportsLocksAndClears() {
+        int[] expected = new int[2];
+        int[] replayed = new int[2];
+        // 随机按键很少凑满一行，需要足够多的对局
+        for (long seed = 1; seed <= 300; seed++) {
+            Object[] played = playRecorded(seed, 20_000);
+            int[] locks = (int[]) played[2];
+            expected[0] += locks[0];
+            expected[1] += locks[1];
+            ReplayPlayer player = ReplayPlayer.createHeadless((Replay) played[1]);
+            boolean more;
+            do {
+                more = player.step();
+                countLock(replayed, player.getLastClear());
+            } while (more);
+        }
+        assertTrue(expected[1] > 0, "The test games should clear lines");
+        assertEquals(expected[0], replayed[0], "Every locked brick should be reported during playback");
+        assertEquals(expected[1], replayed[1], "Cleared lines should be reported during playback");
+    }
+
+    @Test
+    public void testWriteReadRoundTrip() throws IOException {
+        Replay replay = (Replay) playRecorded(7L, 5_000)[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        Replay read = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(replay.getSeed(), read.getSeed(), "Seed should survive a round trip");
+        assertEquals(ROWS, read.getRows(), "Rows should survive a round trip");
+        assertEquals(COLUMNS, read.getColumns(), "Columns should survive a round trip");
+        assertEquals(replay.getEventCount(), read.getEventCount(), "Event count should survive a round trip");
+        assertEquals(replay.getTickCount(), read.getTickCount(), "Final tick should survive a round trip");
+        assertEquals(replay.getFinalScore(), read.getFinalScore(), "Final score should survive a round trip");
+        assertEquals(ReplayPlayer.playHeadless(replay).getScore().getValue(),
+                ReplayPlayer.playHeadless(read).getScore().getValue(), "A read replay should play back the same");
+    }
+
+    @Test
+    public void testEncodingIsCompact() {
+        Replay replay = (Replay) playRecorded(11L, 20_000)[1];
+        assertTrue(replay.getEventCount() > 100, "The test game should record many events");
+        // 随机按键平均间隔4个tick，每条记录应只占一个字节左右
+        assertTrue(replay.getRecordBytes() < replay.getEventCount() * 1.2 + 32,
+                "Events a few ticks apart should take about one byte each, took " + replay.getRecordBytes()
+                        + " bytes for " + replay.getEventCount() + " events");
+    }
+
+    @Test
+    public void testMalformedDataIsRejected() throws IOException {
+        Replay replay = (Replay) playRecorded(13L, 2_000)[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        byte[] bytes = out.toByteArray();
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(truncated)),
+                "A truncated replay should be rejected");
+        byte[] badMagic = bytes.clone();
+        badMagic[0] = 'X';
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(badMagic)),
+                "Data without the magic number should be rejected");
+    }
+
+    @Test
+    public void testRecordingRejectsTicksGoingBackwards() {
+        ReplayRecorder recorder = new ReplayRecorder(1L, ROWS, COLUMNS);
+        recorder.record(10, new MoveEvent(EventType.LEFT, EventSource.USER));
+        assertThrows(IllegalArgumentException.class,
+                () -> recorder.record(9, new MoveEvent(EventType.LEFT, EventSource.USER)),
+                "Records must be in tick order");
+        recorder.finish(10, 0);
+        assertThrows(IllegalStateException.class, () -> recorder.finish(10, 0),
+                "A finished recording cannot be finished again");
+    }
+}
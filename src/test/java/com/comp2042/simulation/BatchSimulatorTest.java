@@ -0,0 +1,65 @@
+package com.comp2042.simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.comp2042.EasyDifficultyStrategy;
+import com.comp2042.HardDifficultyStrategy;
+
+/**
+ * Unit tests for the BatchSimulator class.
+ * Checks that seeded batches are reproducible regardless of parallelism.
+ */
+public class BatchSimulatorTest {
+
+    @Test
+    public void testResultsDoNotDependOnParallelism() {
+        BatchSimulator simulator = new BatchSimulator(new RandomMovePolicy(), new EasyDifficultyStrategy(), 1000);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            SimulationReport sequential = simulator.run(100, 5L, single);
+            SimulationReport parallel = simulator.run(100, 5L, several);
+            assertArrayEquals(sequential.getScores(), parallel.getScores(), "Scores should match for the same seed");
+            assertEquals(sequential.getPieces(), parallel.getPieces(), "Piece counts should match for the same seed");
+            assertEquals(sequential.getLinesCleared(), parallel.getLinesCleared(), "Line counts should match for the same seed");
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testReportCountsEveryGame() {
+        SimulationReport report = new BatchSimulator(new RandomMovePolicy(), new EasyDifficultyStrategy(), 1000).run(50, 1L);
+        assertEquals(50, report.getGames(), "Report should contain every game");
+        assertTrue(report.getPieces() >= 50, "Every game should place at least one piece");
+        assertTrue(report.getScorePercentile(0) <= report.getScorePercentile(50), "Minimum should not exceed the median");
+        assertTrue(report.getScorePercentile(50) <= report.getScorePercentile(100), "Median should not exceed the maximum");
+    }
+
+    @Test
+    public void testHardDifficultyDoublesScores() {
+        int[] easy = new BatchSimulator(new RandomMovePolicy(), new EasyDifficultyStrategy(), 1000).run(50, 3L).getScores();
+        int[] hard = new BatchSimulator(new RandomMovePolicy(), new HardDifficultyStrategy(), 1000).run(50, 3L).getScores();
+        for (int i = 0; i < easy.length; i++) {
+            assertEquals(easy[i] * 2, hard[i], "Hard mode should double the score of the same game");
+        }
+    }
+
+    @Test
+    public void testPieceLimitStopsGames() {
+        MovePolicy stayPut = (engine, random) -> { };
+        SimulationReport report = new BatchSimulator(stayPut, new EasyDifficultyStrategy(), 3).run(10, 1L);
+        assertEquals(30, report.getPieces(), "Each game should stop after three pieces");
+    }
+
+    @Test
+    public void testRejectsNonPositivePieceLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSimulator(new RandomMovePolicy(), new EasyDifficultyStrategy(), 0),
+                "A piece limit of zero should be rejected");
+    }
+}